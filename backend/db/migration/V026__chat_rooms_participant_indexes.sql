@@ -0,0 +1,3 @@
+-- 채팅방 목록 UNION 쿼리 (농장주 쪽 / 사용자 쪽) 인덱스
+CREATE INDEX idx_chat_rooms_farmer_updated ON chat_rooms (farmer_id, updated_at);
+CREATE INDEX idx_chat_rooms_user_updated ON chat_rooms (user_id, updated_at);
@@ -0,0 +1,4 @@
+-- 채팅 메시지 재전송 중복 방지 (clientMessageId)
+ALTER TABLE chat_contents ADD COLUMN client_message_id VARCHAR(64) NULL;
+ALTER TABLE chat_contents ADD CONSTRAINT uk_chat_contents_client_message
+    UNIQUE (room_id, sender, client_message_id);
@@ -0,0 +1,3 @@
+-- 농장 게시판 피드 keyset 페이지 (farm_id, type, created_at, post_id)
+CREATE INDEX idx_posts_farm_type_created
+    ON posts (farm_id, type, created_at, post_id);
@@ -0,0 +1,9 @@
+-- 게시글/댓글 카운터, 마지막 활동 시각
+-- 적용 후 CommunityCounterReconciler.reconcile() 을 한 번 실행해 기존 행을 채움
+ALTER TABLE posts
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_activity_at DATETIME(6) NULL;
+ALTER TABLE comments
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_activity_at DATETIME(6) NULL;
@@ -0,0 +1,3 @@
+-- 커뮤니티 검색 (community.search.engine=mysql) FULLTEXT ngram 인덱스
+ALTER TABLE posts ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
+ALTER TABLE comments ADD FULLTEXT INDEX ft_comments_content (content) WITH PARSER ngram;
@@ -0,0 +1,6 @@
+-- 조건부 GET (ETag / Last-Modified) 용 수정 시각
+-- ON UPDATE 는 DB 에서 직접 고친 행도 반영
+ALTER TABLE farms ADD COLUMN updated_at DATETIME(6) NULL
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+ALTER TABLE shop_items ADD COLUMN updated_at DATETIME(6) NULL
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
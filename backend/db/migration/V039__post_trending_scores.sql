@@ -0,0 +1,8 @@
+-- 농장별 인기 게시글 점수 스냅샷 (posts FK 없음, 다음 스냅샷에서 삭제된 글 정리)
+CREATE TABLE post_trending_scores (
+    post_id    BIGINT      NOT NULL PRIMARY KEY,
+    farm_id    BIGINT      NOT NULL,
+    log_score  DOUBLE      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    KEY idx_post_trending_scores_farm (farm_id)
+);
@@ -0,0 +1,6 @@
+-- 축소본(썸네일/중간 크기)을 모두 만든 원본 객체 키
+-- 목록 응답은 여기 있는 이미지에만 thumbnailUrl/mediumUrl 을 채움
+CREATE TABLE image_variants (
+    object_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    created_at DATETIME(6)  NOT NULL
+);
@@ -0,0 +1,4 @@
+-- 일기 검색 (diary.search.engine=mysql) FULLTEXT ngram 인덱스, 날짜 범위 인덱스
+ALTER TABLE diaries ADD FULLTEXT INDEX ft_diaries_title_content
+    (title, content) WITH PARSER ngram;
+ALTER TABLE diaries ADD INDEX idx_diaries_user_select (user_id, select_at);
@@ -0,0 +1,5 @@
+-- 일기 정렬 키 (날짜 없는 일기는 맨 뒤), 타임라인 keyset 인덱스
+ALTER TABLE diaries
+    ADD COLUMN sort_at DATETIME(6)
+        GENERATED ALWAYS AS (COALESCE(select_at, '1000-01-01 00:00:00')) STORED,
+    ADD INDEX idx_diaries_user_sort (user_id, sort_at, diary_id);
@@ -0,0 +1,7 @@
+-- 일기 이미지 이전 작업이 이미지로 해석하지 못해 건너뛴 일기 (다음 실행부터 대상에서 제외)
+-- 행을 지우면 다음 실행 때 다시 시도
+CREATE TABLE diary_photo_migration_skips (
+    diary_id   BIGINT      NOT NULL PRIMARY KEY,
+    reason     VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
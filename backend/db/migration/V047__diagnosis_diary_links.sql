@@ -0,0 +1,14 @@
+-- 진단 → 일기 공유 기록 (진단 하나는 일기 하나에만)
+CREATE TABLE diagnosis_diary_links (
+    link_id      BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    diagnosis_id BIGINT      NOT NULL,
+    diary_id     BIGINT      NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    CONSTRAINT uk_diagnosis_diary_links_diagnosis UNIQUE (diagnosis_id),
+    KEY idx_diagnosis_diary_links_diary (diary_id),
+    CONSTRAINT fk_diagnosis_diary_links_diagnosis FOREIGN KEY (diagnosis_id)
+        REFERENCES diagnoses (diagnosis_id) ON DELETE CASCADE,
+    CONSTRAINT fk_diagnosis_diary_links_diary FOREIGN KEY (diary_id)
+        REFERENCES diaries (diary_id) ON DELETE CASCADE
+);
@@ -0,0 +1,7 @@
+-- 내용 주소(shared/...) 이미지 참조 수
+CREATE TABLE shared_objects (
+    object_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    ref_count  INT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL
+);
@@ -2,14 +2,17 @@ package com.project.eum;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 /**
  * 애플리케이션 진입점.
  * - Spring Boot 자동 설정 활성화
  * - 서버 실행 및 전체 Bean 초기화 시작
+ * - @Scheduled 주기 작업 활성화
  */
 @SpringBootApplication
+@EnableScheduling
 public class EumApplication {
 
 	public static void main(String[] args) {
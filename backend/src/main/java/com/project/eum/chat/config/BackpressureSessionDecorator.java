@@ -0,0 +1,309 @@
+package com.project.eum.chat.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 송신 큐를 가진 WebSocketSession 데코레이터
+ *
+ * - sendMessage 는 큐에 넣고 바로 반환, 실제 전송은 세션당 하나의 작업이 순서대로 처리
+ *   → 느린 클라이언트 때문에 브로커/outbound 스레드가 막히지 않음
+ * - 접속 현황(presence) 프레임은 같은 destination 의 최신 것 하나만 남기고 합침(coalesce)
+ * - 큐가 버퍼 한도를 넘으면
+ *   DROP: 다시 보내지는 프레임(presence, 입력 중 typing)만 버리고, 채팅 메시지 때문에 넘치면 연결을 끊음
+ *   TERMINATE: 바로 연결을 끊음
+ *   (채팅 메시지는 버리지 않음 → 클라이언트는 재접속하며 최근 메시지를 다시 조회)
+ * - 한 번의 전송이 send time limit 을 넘기면 연결을 끊음
+ *   (새 메시지가 들어올 때, 그리고 ChatBackpressureManager 의 감시 작업이 주기적으로 확인)
+ */
+class BackpressureSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final Logger log = LoggerFactory.getLogger(BackpressureSessionDecorator.class);
+
+    private final ChatBackpressureManager manager;
+    private final Executor executor;
+    private final int bufferSizeLimit;
+    private final int sendTimeLimit;
+    private final OverflowStrategy overflowStrategy;
+
+    // 아래 필드는 lock 으로 보호됨
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<PendingFrame> queue = new ArrayDeque<>();
+    private volatile int bufferSize;
+    private boolean draining;
+    private CloseStatus pendingClose;
+
+    // 현재 전송이 시작된 시각 (전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+    private volatile boolean limitExceeded;
+
+    BackpressureSessionDecorator(WebSocketSession delegate,
+                                 ChatBackpressureManager manager,
+                                 Executor executor,
+                                 int bufferSizeLimit,
+                                 int sendTimeLimit,
+                                 OverflowStrategy overflowStrategy) {
+        super(delegate);
+        this.manager = manager;
+        this.executor = executor;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimit = sendTimeLimit;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    /**
+     * 아직 보내지 못하고 큐에 쌓여 있는 크기(byte)
+     */
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (limitExceeded) {
+            return;
+        }
+
+        PendingFrame frame = PendingFrame.of(message);
+        boolean startDrain;
+        int occupancy;
+        lock.lock();
+        try {
+            long startedAt = sendStartedAt;
+            if (startedAt != 0 && System.currentTimeMillis() - startedAt > sendTimeLimit) {
+                throw exceeded("Send time " + (System.currentTimeMillis() - startedAt)
+                        + " (ms) exceeded the allowed limit " + sendTimeLimit);
+            }
+
+            if (!coalesce(frame)) {
+                queue.addLast(frame);
+                bufferSize += frame.size;
+            }
+            if (bufferSize > bufferSizeLimit) {
+                shed();
+            }
+
+            occupancy = bufferSize;
+            startDrain = !draining;
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+
+        manager.recordOccupancy(occupancy);
+        if (startDrain) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 큐에 남은 메시지를 모두 보낸 뒤 닫기 (ERROR 프레임 직후 close 같은 경우 프레임 유실 방지)
+     */
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        lock.lock();
+        try {
+            if (draining && !limitExceeded) {
+                pendingClose = status;
+                return;
+            }
+            queue.clear();
+            bufferSize = 0;
+        } finally {
+            lock.unlock();
+        }
+        super.close(status);
+    }
+
+    // 세션당 하나만 실행되어 큐를 순서대로 비움
+    private void drain() {
+        while (true) {
+            PendingFrame frame;
+            CloseStatus closeStatus = null;
+            lock.lock();
+            try {
+                frame = queue.pollFirst();
+                if (frame == null) {
+                    draining = false;
+                    closeStatus = pendingClose;
+                    pendingClose = null;
+                } else {
+                    bufferSize -= frame.size;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (frame == null) {
+                if (closeStatus != null) {
+                    closeQuietly(closeStatus);
+                }
+                return;
+            }
+
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                getDelegate().sendMessage(frame.message);
+            } catch (IOException | RuntimeException ex) {
+                log.debug("Failed to send to session {}: {}", getId(), ex.getMessage());
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+    }
+
+    // 같은 destination 의 presence 프레임이 이미 대기 중이면 최신 것으로 교체
+    private boolean coalesce(PendingFrame frame) {
+        if (frame.kind != FrameKind.COALESCE) {
+            return false;
+        }
+        for (PendingFrame queued : queue) {
+            if (queued.kind == FrameKind.COALESCE && queued.destination.equals(frame.destination)) {
+                bufferSize += frame.size - queued.size;
+                queued.replaceWith(frame);
+                manager.countCoalesced();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 버퍼 한도 초과 시: (DROP) 다시 보내지는 프레임만 버림 → 그래도 넘치면 연결 종료
+    private void shed() {
+        if (overflowStrategy == OverflowStrategy.DROP) {
+            Iterator<PendingFrame> it = queue.iterator();
+            while (bufferSize > bufferSizeLimit && it.hasNext()) {
+                PendingFrame queued = it.next();
+                if (queued.kind != FrameKind.NORMAL) {
+                    it.remove();
+                    bufferSize -= queued.size;
+                    manager.countDropped();
+                }
+            }
+            if (bufferSize <= bufferSizeLimit) {
+                return;
+            }
+        }
+
+        throw exceeded("Buffer size " + bufferSize + " bytes for session '"
+                + getId() + "' exceeds the allowed limit " + bufferSizeLimit);
+    }
+
+    /**
+     * 감시 작업에서 호출: 진행 중인 전송이 send time limit 을 넘겼으면 연결을 끊음
+     * - 전송이 막혀 있으면 sendMessage 가 다시 불리지 않을 수 있어서 (조용한 방) 따로 확인
+     * - 닫기는 막힌 전송과 엉킬 수 있어 송신 실행기에서 처리 (감시 스레드는 바로 반환)
+     */
+    boolean closeIfSendTimedOut(long now) {
+        long startedAt = sendStartedAt;
+        if (startedAt == 0 || now - startedAt <= sendTimeLimit || limitExceeded) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (limitExceeded) {
+                return false;
+            }
+            limitExceeded = true;
+            queue.clear();
+            bufferSize = 0;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Send to session {} has been blocked for {} ms", getId(), now - startedAt);
+        executor.execute(() -> closeQuietly(CloseStatus.SESSION_NOT_RELIABLE));
+        return true;
+    }
+
+    // 한도 초과 → 큐 비우고 예외를 던져 SubProtocolWebSocketHandler 가 세션을 닫게 함
+    private SessionLimitExceededException exceeded(String reason) {
+        limitExceeded = true;
+        queue.clear();
+        bufferSize = 0;
+        return new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            super.close(status);
+        } catch (IOException ex) {
+            log.debug("Failed to close session {}: {}", getId(), ex.getMessage());
+        }
+    }
+
+    // 프레임 종류: 일반 / 합칠 수 있음(presence) / 버려도 됨(typing)
+    private enum FrameKind {
+        NORMAL,
+        COALESCE,
+        DROPPABLE
+    }
+
+    // 큐에 대기 중인 프레임
+    private static final class PendingFrame {
+        private WebSocketMessage<?> message;
+        private int size;
+        private final FrameKind kind;
+        private final String destination;
+
+        private PendingFrame(WebSocketMessage<?> message, FrameKind kind, String destination) {
+            this.message = message;
+            this.size = message.getPayloadLength();
+            this.kind = kind;
+            this.destination = destination;
+        }
+
+        private void replaceWith(PendingFrame other) {
+            this.message = other.message;
+            this.size = other.size;
+        }
+
+        /**
+         * STOMP MESSAGE 프레임의 destination 헤더로 종류 판별
+         * - /topic/chat/{roomId}/presence → COALESCE
+         * - /topic/chat/{roomId}/typing → DROPPABLE
+         */
+        private static PendingFrame of(WebSocketMessage<?> message) {
+            if (message instanceof TextMessage text) {
+                String destination = destinationOf(text.getPayload());
+                if (destination != null && destination.startsWith("/topic/chat/")) {
+                    if (destination.endsWith("/presence")) {
+                        return new PendingFrame(message, FrameKind.COALESCE, destination);
+                    }
+                    if (destination.endsWith("/typing")) {
+                        return new PendingFrame(message, FrameKind.DROPPABLE, destination);
+                    }
+                }
+            }
+            return new PendingFrame(message, FrameKind.NORMAL, null);
+        }
+
+        // 헤더 영역(첫 빈 줄 전)에서 destination 값만 추출
+        private static String destinationOf(String frame) {
+            if (!frame.startsWith("MESSAGE\n")) {
+                return null;
+            }
+            int headerEnd = frame.indexOf("\n\n");
+            int start = frame.indexOf("\ndestination:");
+            if (start < 0 || (headerEnd >= 0 && start > headerEnd)) {
+                return null;
+            }
+            start += "\ndestination:".length();
+            int end = frame.indexOf('\n', start);
+            return end < 0 ? null : frame.substring(start, end);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.project.eum.chat.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.eum.chat.entity.ChatParticipantRole;
+import com.project.eum.chat.service.ChatRoomService;
+import com.project.eum.chat.service.ChatSessionAuth;
+import com.project.eum.config.SessionConst;
+import com.project.eum.service.FarmMembershipAuthorizer;
+import com.project.eum.user.Member;
+import com.project.eum.user.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 인바운드 채널에서 채팅방 참여 권한을 확인하는 인터셉터
+ *
+ * - CONNECT   : 로그인 회원 ID / 이름을 한 번 조회해 세션 속성(ChatSessionAuth)에 캐시
+ * - SUBSCRIBE : /topic/chat/{roomId}/** 구독 시 방 역할을 한 번 확인해 캐시, 참여자가 아니면 거부
+ *               /topic/farm/{farmId}/board 구독은 농장주 / 승인 회원만 허용 (FarmMembershipAuthorizer 캐시 사용)
+ * - SEND      : /app/chat.send, /app/chat.receipt 는 캐시된 역할이 없을 때만 한 번 확인해 캐시
+ *               (참여자가 아니면 캐시하지 않음 → 서비스에서 거부되어 /user/queue/errors 로 안내)
+ * → 같은 방으로 보내는 이후 메시지는 DB 조회 없이 세션 캐시로 권한 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatAuthorizationInterceptor implements ChannelInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatAuthorizationInterceptor.class);
+
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/chat/(\\d+)(/.*)?$");
+    private static final Pattern BOARD_TOPIC = Pattern.compile("^/topic/farm/(\\d+)/board$");
+    // 방 역할이 필요한 SEND destination (본문에 roomId 포함)
+    private static final Set<String> ROOM_SEND_DESTINATIONS = Set.of("/app/chat.send", "/app/chat.receipt");
+
+    private final ChatRoomService chatRoomService;
+    private final FarmMembershipAuthorizer farmMembershipAuthorizer;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            sessionAuth(accessor.getSessionAttributes());
+        } else if (command == StompCommand.SUBSCRIBE) {
+            authorizeSubscribe(accessor);
+        } else if (command == StompCommand.SEND && ROOM_SEND_DESTINATIONS.contains(accessor.getDestination())) {
+            authorizeSend(accessor, message);
+        }
+        return message;
+    }
+
+    // 방 토픽 구독은 참여자만, 농장 게시판 토픽 구독은 농장주 / 승인 회원만 허용
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        Matcher board = BOARD_TOPIC.matcher(destination);
+        if (board.matches()) {
+            authorizeBoardSubscribe(accessor, Long.valueOf(board.group(1)));
+            return;
+        }
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        ChatSessionAuth auth = sessionAuth(accessor.getSessionAttributes());
+        if (auth == null) {
+            throw new IllegalArgumentException("로그인 후 이용해 주세요.");
+        }
+        Long roomId = Long.valueOf(matcher.group(1));
+        if (auth.roleIn(roomId) == null) {
+            // 참여자가 아니면 IllegalArgumentException → ERROR 프레임으로 구독 거부
+            auth.grant(roomId, chatRoomService.resolveParticipantRole(roomId, auth.getMemberId()));
+        }
+    }
+
+    // 게시판 변경 알림(어떤 글/댓글이 바뀌었는지)은 게시판 회원에게만 전송
+    private void authorizeBoardSubscribe(StompHeaderAccessor accessor, Long farmId) {
+        ChatSessionAuth auth = sessionAuth(accessor.getSessionAttributes());
+        if (auth == null) {
+            throw new IllegalArgumentException("로그인 후 이용해 주세요.");
+        }
+        if (!farmMembershipAuthorizer.membershipOf(auth.getMemberId(), farmId).canWrite()) {
+            throw new IllegalArgumentException("농장주 또는 승인된 회원만 게시판 알림을 받을 수 있습니다.");
+        }
+    }
+
+    // 메시지 본문의 roomId 로 역할을 확인해 캐시 (이미 캐시되어 있으면 조회 없음)
+    private void authorizeSend(StompHeaderAccessor accessor, Message<?> message) {
+        ChatSessionAuth auth = sessionAuth(accessor.getSessionAttributes());
+        if (auth == null) {
+            return;
+        }
+        Long roomId = roomIdOf(message.getPayload());
+        if (roomId == null || auth.roleIn(roomId) != null) {
+            return;
+        }
+        try {
+            ChatParticipantRole role = chatRoomService.resolveParticipantRole(roomId, auth.getMemberId());
+            auth.grant(roomId, role);
+        } catch (IllegalArgumentException ex) {
+            log.debug("Chat send to room {} not authorized for member {}: {}",
+                    roomId, auth.getMemberId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 세션 속성에서 캐시를 꺼내고, 없으면 로그인 정보로 한 번만 만들어 둠
+     * - 로그인하지 않은 세션이면 null
+     */
+    private ChatSessionAuth sessionAuth(Map<String, Object> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        ChatSessionAuth cached = ChatSessionAuth.from(attributes);
+        if (cached != null) {
+            return cached;
+        }
+        Long memberId = (Long) attributes.get(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            return null;
+        }
+        String memberName = memberRepository.findById(memberId)
+                .map(Member::getName)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
+        ChatSessionAuth auth = new ChatSessionAuth(memberId, memberName);
+        attributes.put(ChatSessionAuth.SESSION_ATTRIBUTE, auth);
+        return auth;
+    }
+
+    private Long roomIdOf(Object payload) {
+        if (!(payload instanceof byte[] bytes) || bytes.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode roomId = objectMapper.readTree(bytes).get("roomId");
+            return roomId != null && roomId.canConvertToLong() ? roomId.asLong() : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
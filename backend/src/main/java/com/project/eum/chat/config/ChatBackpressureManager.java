@@ -0,0 +1,152 @@
+package com.project.eum.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 채팅 WebSocket 세션의 송신 버퍼(back-pressure) 관리
+ *
+ * - 연결될 때 세션을 BackpressureSessionDecorator 로 감싸서 STOMP 처리기에 넘김
+ * - 세션별 전송 작업은 가상 스레드에서 실행 (세션 수만큼 플랫폼 스레드를 잡지 않음)
+ * - 감시 작업이 주기적으로 진행 중인 전송 시간을 확인해 send time limit 을 넘긴 세션을 끊음
+ * - 메트릭 (MeterRegistry, actuator 로는 노출하지 않음)
+ *   chat.websocket.sessions            : 현재 세션 수
+ *   chat.websocket.buffer.bytes        : 전체 세션 버퍼 합계 / 최대값 (stat=total|max)
+ *   chat.websocket.buffer.occupancy    : 메시지 적재 시점의 세션 버퍼 크기 분포
+ *   chat.websocket.messages.coalesced  : 합쳐진 presence 프레임 수
+ *   chat.websocket.messages.dropped    : 버려진 프레임 수
+ *   chat.websocket.backpressure.disconnects : 느린 클라이언트로 판단되어 끊긴 세션 수
+ */
+@Component
+public class ChatBackpressureManager implements WebSocketHandlerDecoratorFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatBackpressureManager.class);
+
+    private final ChatWebSocketProperties properties;
+    private final Map<String, BackpressureSessionDecorator> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final DistributionSummary occupancy;
+    private final Counter coalesced;
+    private final Counter dropped;
+    private final Counter backpressureDisconnects;
+
+    public ChatBackpressureManager(ChatWebSocketProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder("chat.websocket.sessions", sessions, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.buffer.bytes", this, ChatBackpressureManager::totalBufferSize)
+                .tag("stat", "total")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.buffer.bytes", this, ChatBackpressureManager::maxBufferSize)
+                .tag("stat", "max")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.occupancy = DistributionSummary.builder("chat.websocket.buffer.occupancy")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("chat.websocket.messages.coalesced").register(meterRegistry);
+        this.dropped = Counter.builder("chat.websocket.messages.dropped").register(meterRegistry);
+        this.backpressureDisconnects = Counter.builder("chat.websocket.backpressure.disconnects")
+                .register(meterRegistry);
+    }
+
+    /**
+     * STOMP 처리기(SubProtocolWebSocketHandler)를 감싸서
+     * 연결 시 세션 데코레이터 등록, 종료 시 해제
+     */
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BackpressureSessionDecorator decorated = new BackpressureSessionDecorator(
+                        session,
+                        ChatBackpressureManager.this,
+                        sendExecutor,
+                        properties.getSendBufferSizeLimit(),
+                        properties.getSendTimeLimit(),
+                        properties.getOverflowStrategy()
+                );
+                sessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BackpressureSessionDecorator decorated = sessions.remove(session.getId());
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    backpressureDisconnects.increment();
+                    log.info("Closed slow chat session {} due to back-pressure", session.getId());
+                }
+                super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 전송이 send time limit 을 넘긴 채 막혀 있는 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.websocket.watchdog-interval-ms:1000}")
+    public void closeTimedOutSessions() {
+        long now = System.currentTimeMillis();
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            if (session.closeIfSendTimedOut(now)) {
+                log.info("Closing chat session {}: send time limit exceeded", session.getId());
+            }
+        }
+    }
+
+    void recordOccupancy(int bytes) {
+        occupancy.record(bytes);
+    }
+
+    void countCoalesced() {
+        coalesced.increment();
+    }
+
+    void countDropped() {
+        dropped.increment();
+    }
+
+    private double totalBufferSize() {
+        long total = 0;
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            total += session.getBufferSize();
+        }
+        return total;
+    }
+
+    private double maxBufferSize() {
+        int max = 0;
+        for (BackpressureSessionDecorator session : sessions.values()) {
+            max = Math.max(max, session.getBufferSize());
+        }
+        return max;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.eum.chat.config;
+
+import com.project.eum.chat.service.ChatPresenceRegistry;
+import com.project.eum.config.SessionConst;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+
+/**
+ * STOMP 세션 이벤트(연결/구독/구독해제/종료)를 받아 접속 현황 레지스트리에 반영
+ * - 로그인 사용자 ID 는 핸드셰이크 때 복사된 HttpSession 속성에서 꺼냄
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSessionEventListener {
+
+    private final ChatPresenceRegistry presenceRegistry;
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long memberId = loginMemberId(accessor);
+        presenceRegistry.connect(accessor.getSessionId(), memberId);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = ChatPresenceRegistry.parseRoomId(accessor.getDestination());
+        if (roomId == null) {
+            return;
+        }
+        presenceRegistry.subscribe(
+                accessor.getSessionId(),
+                loginMemberId(accessor),
+                accessor.getSubscriptionId(),
+                roomId
+        );
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        presenceRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        presenceRegistry.disconnect(event.getSessionId());
+    }
+
+    // 세션 속성에서 로그인 사용자 ID 꺼내기 (없으면 null)
+    private Long loginMemberId(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        return attributes == null ? null : (Long) attributes.get(SessionConst.LOGIN_MEMBER_ID);
+    }
+}
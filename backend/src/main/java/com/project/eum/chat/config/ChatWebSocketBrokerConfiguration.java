@@ -0,0 +1,37 @@
+package com.project.eum.chat.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 브로커 설정 (@EnableWebSocketMessageBroker 대신 직접 확장)
+ *
+ * - SubProtocolWebSocketHandler 는 연결마다 세션을 ConcurrentWebSocketSessionDecorator 로 감싸는데,
+ *   채팅 세션은 이미 BackpressureSessionDecorator(송신 큐, 버퍼/시간 한도)로 감싸져 있으므로 한 번만 감쌈
+ * - 엔드포인트, 브로커, 전송 한도 등 나머지 설정은 ChatWebSocketConfig(WebSocketMessageBrokerConfigurer)에서 받음
+ */
+@Configuration
+public class ChatWebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    @Override
+    @Bean
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        SubProtocolWebSocketHandler handler = new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+            @Override
+            protected WebSocketSession decorateSession(WebSocketSession session) {
+                if (session instanceof BackpressureSessionDecorator) {
+                    return session;
+                }
+                return super.decorateSession(session);
+            }
+        };
+        handler.setPhase(getPhase());
+        return handler;
+    }
+}
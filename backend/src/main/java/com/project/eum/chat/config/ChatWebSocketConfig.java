@@ -1,21 +1,47 @@
 package com.project.eum.chat.config;
 
+import com.project.eum.chat.service.ChatPresenceRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
 /**
  * 채팅용 WebSocket(STOMP) 설정 파일.
  * - 프론트와 통신할 WebSocket 엔드포인트 정의
  * - 메시지 브로커(prefix) 설정
+ * - 하트비트 및 접속 현황(presence) 추적 설정
+ * - 전송 한도 및 느린 클라이언트(back-pressure) 처리 설정
+ * - 채팅방 참여 권한 확인 인터셉터 등록
+ * (브로커 자체는 ChatWebSocketBrokerConfiguration 에서 활성화)
  */
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class ChatWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 하트비트 주기(ms): {서버→클라이언트, 클라이언트→서버}
+    private static final long[] HEARTBEAT_MILLIS = {10000, 10000};
+
+    private final ChatPresenceRegistry presenceRegistry;
+    private final ChatWebSocketProperties webSocketProperties;
+    private final ChatBackpressureManager backpressureManager;
+    private final ChatAuthorizationInterceptor authorizationInterceptor;
+
+    // 브로커 하트비트 전송용 스케줄러
+    // - 빈으로 등록하지 않음: TaskScheduler 빈이 여럿이면 @Scheduled 작업이 단일 스레드 기본 스케줄러로 밀려남
+    //   (@Scheduled 작업은 SchedulingConfig 의 taskScheduler 사용)
+    private final ThreadPoolTaskScheduler heartbeatScheduler = newHeartbeatScheduler();
+
     /**
      * 클라이언트(WebSocket)에서 접속하는 엔드포인트 설정.
      * /ws/chat 경로로 WebSocket 연결을 허용하고,
@@ -34,7 +60,52 @@ public class ChatWebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");  // 서버로 보내는 메시지 prefix
-        registry.enableSimpleBroker("/topic", "/queue");  // 클라이언트로 보내는 메시지 prefix
+        registry.enableSimpleBroker("/topic", "/queue")  // 클라이언트로 보내는 메시지 prefix
+                .setHeartbeatValue(HEARTBEAT_MILLIS)  // 끊긴 연결을 감지하기 위한 하트비트
+                .setTaskScheduler(heartbeatScheduler);
         registry.setUserDestinationPrefix("/user");  // 사용자별 메시지 prefix
     }
+
+    /**
+     * WebSocket 전송 한도 설정 (chat.websocket.*)
+     * - 메시지 크기, 세션별 송신 버퍼 크기, 전송 시간 한도
+     * - 세션을 송신 큐 데코레이터로 감싸서 느린 클라이언트가 있어도 브로커가 막히지 않게 함
+     *   (스프링 기본 ConcurrentWebSocketSessionDecorator 는 씌우지 않음)
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(webSocketProperties.getMessageSizeLimit())
+                .setSendBufferSizeLimit(webSocketProperties.getSendBufferSizeLimit())
+                .setSendTimeLimit(webSocketProperties.getSendTimeLimit())
+                .addDecoratorFactory(backpressureManager);
+    }
+
+    /**
+     * 클라이언트 → 서버로 들어오는 모든 프레임(하트비트 포함)마다
+     * 세션의 마지막 활동 시각을 갱신 → 끊긴 세션 정리에 사용
+     * 이어서 CONNECT/SUBSCRIBE/SEND 의 채팅방 참여 권한 확인 (세션별 캐시)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                presenceRegistry.touch(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+                return message;
+            }
+        }, authorizationInterceptor);
+    }
+
+    @PreDestroy
+    public void shutdownHeartbeatScheduler() {
+        heartbeatScheduler.shutdown();
+    }
+
+    private static ThreadPoolTaskScheduler newHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("chat-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
 }
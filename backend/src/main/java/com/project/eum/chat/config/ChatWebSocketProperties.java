@@ -0,0 +1,67 @@
+package com.project.eum.chat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+/**
+ * 채팅 WebSocket 전송 한도 / 느린 클라이언트 처리 설정 (chat.websocket.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "chat.websocket")
+public class ChatWebSocketProperties {
+
+    /**
+     * 클라이언트가 보내는 STOMP 메시지 최대 크기(byte).
+     */
+    private int messageSizeLimit = 64 * 1024;
+
+    /**
+     * 세션별로 아직 보내지 못하고 쌓아둘 수 있는 최대 크기(byte).
+     */
+    private int sendBufferSizeLimit = 512 * 1024;
+
+    /**
+     * 한 번의 전송이 이 시간(ms)을 넘기면 느린 클라이언트로 보고 연결을 끊음.
+     */
+    private int sendTimeLimit = 15 * 1000;
+
+    /**
+     * 버퍼 한도를 넘었을 때 처리 방식.
+     * - DROP: 다시 보내지는 프레임(presence, typing)만 버리고, 채팅 메시지로 넘치면 연결을 끊음
+     * - TERMINATE: 바로 연결을 끊음 (클라이언트가 재접속하며 다시 동기화)
+     */
+    private OverflowStrategy overflowStrategy = OverflowStrategy.DROP;
+
+    public int getMessageSizeLimit() {
+        return messageSizeLimit;
+    }
+
+    public void setMessageSizeLimit(int messageSizeLimit) {
+        this.messageSizeLimit = messageSizeLimit;
+    }
+
+    public int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    public void setSendBufferSizeLimit(int sendBufferSizeLimit) {
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    public int getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    public void setSendTimeLimit(int sendTimeLimit) {
+        this.sendTimeLimit = sendTimeLimit;
+    }
+
+    public OverflowStrategy getOverflowStrategy() {
+        return overflowStrategy;
+    }
+
+    public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+        this.overflowStrategy = overflowStrategy;
+    }
+}
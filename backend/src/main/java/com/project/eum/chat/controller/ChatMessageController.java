@@ -1,8 +1,13 @@
 package com.project.eum.chat.controller;
 
+import com.project.eum.chat.dto.ChatMessageAck;
 import com.project.eum.chat.dto.ChatMessagePayload;
-import com.project.eum.chat.dto.ChatMessageResponse;
-import com.project.eum.chat.service.ChatMessageService;
+import com.project.eum.chat.dto.ChatReceiptPayload;
+import com.project.eum.chat.dto.ChatTypingPayload;
+import com.project.eum.chat.service.ChatDeliveryService;
+import com.project.eum.chat.service.ChatPresenceService;
+import com.project.eum.chat.service.ChatReceiptService;
+import com.project.eum.chat.service.ChatSessionAuth;
 import com.project.eum.config.SessionConst;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +19,6 @@ import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,33 +35,55 @@ public class ChatMessageController {
 
     private static final Logger log = LoggerFactory.getLogger(ChatMessageController.class);
 
-    // 서비스(메시지 저장 및 처리) + WebSocket으로 메시지 보내는 도구
-    private final ChatMessageService chatMessageService;
-    private final SimpMessagingTemplate messagingTemplate;
+    // 메시지 저장(중복 방지) + 방 토픽 전송 서비스, 수신 확인 묶음 처리 서비스
+    private final ChatDeliveryService chatDeliveryService;
+    private final ChatReceiptService chatReceiptService;
+
+    // 접속 현황 / 입력 중 알림 서비스
+    private final ChatPresenceService chatPresenceService;
 
     /**
      * WebSocket으로 채팅 메시지 받는 엔드포인트
      * - 클라이언트가 /app/chat.send 로 메시지를 보내면 여기로 옴
-     * - 세션에 저장된 로그인 사용자 ID 꺼냄
-     * - 메시지 저장 후 같은 방의 구독자들에게 실시간 전송
+     * - 세션에 캐시된 인증 정보(ChatSessionAuth) 꺼냄 (ChatAuthorizationInterceptor 에서 준비)
+     * - 메시지 저장 후 같은 방의 구독자들에게 실시간 전송 (재전송이면 다시 뿌리지 않음)
+     * - 보낸 세션에만 /user/queue/acks 로 저장 확인(ack) 전송
      */
     @MessageMapping("/chat.send")
-    public void sendMessage(@Payload ChatMessagePayload payload,
-                            SimpMessageHeaderAccessor headerAccessor) {
-        // WebSocket 세션에서 로그인 ID 가져오기
+    @SendToUser(destinations = "/queue/acks", broadcast = false)
+    public ChatMessageAck sendMessage(@Payload ChatMessagePayload payload,
+                                      SimpMessageHeaderAccessor headerAccessor) {
+        // WebSocket 세션에서 캐시된 로그인/방 역할 정보 가져오기
+        ChatSessionAuth auth = ChatSessionAuth.from(headerAccessor.getSessionAttributes());
+
+        // 메시지 저장 + 방 토픽 전송 (참여자 확인은 세션 캐시로, DB 조회 없음)
+        return chatDeliveryService.send(auth, payload).toAck();
+    }
+
+    /**
+     * WebSocket으로 수신 확인(delivered / read) 받는 엔드포인트
+     * - 클라이언트가 /app/chat.receipt 로 보내면 여기로 옴
+     * - 바로 저장하지 않고 모아 두었다가 주기적으로 한 번에 저장 + /topic/chat/{roomId}/receipts 전송
+     */
+    @MessageMapping("/chat.receipt")
+    public void receipt(@Payload ChatReceiptPayload payload,
+                        SimpMessageHeaderAccessor headerAccessor) {
+        chatReceiptService.record(ChatSessionAuth.from(headerAccessor.getSessionAttributes()), payload);
+    }
+
+    /**
+     * WebSocket으로 "입력 중" 알림 받는 엔드포인트
+     * - 클라이언트가 /app/chat.typing 으로 보내면 여기로 옴
+     * - 같은 방 구독자들에게 /topic/chat/{roomId}/typing 으로 전달 (스로틀링 적용)
+     */
+    @MessageMapping("/chat.typing")
+    public void typing(@Payload ChatTypingPayload payload,
+                       SimpMessageHeaderAccessor headerAccessor) {
         Long senderId = headerAccessor.getSessionAttributes() == null
                 ? null
                 : (Long) headerAccessor.getSessionAttributes().get(SessionConst.LOGIN_MEMBER_ID);
 
-        // 메시지 저장 처리
-        ChatMessageResponse response = chatMessageService.sendMessage(
-                senderId,
-                payload.roomId(),
-                payload.content()
-        );
-
-        // 해당 방(topic)에 메시지를 실시간으로 뿌림
-        messagingTemplate.convertAndSend("/topic/chat/" + response.roomId(), response);
+        chatPresenceService.typing(headerAccessor.getSessionId(), senderId, payload);
     }
 
     /**
@@ -65,6 +91,7 @@ public class ChatMessageController {
      * - REST 클라이언트용 (WebSocket 연결이 어려운 환경 대비)
      * - URL 경로의 roomId와 본문 payload의 roomId가 일치하는지 검증
      * - 메시지 저장 후 같은 방의 구독자들에게 실시간 전송
+     * - clientMessageId 를 같이 보내면 재시도해도 한 번만 저장됨
      */
     @PostMapping("/{roomId}/messages")
     @ResponseBody
@@ -85,13 +112,10 @@ public class ChatMessageController {
             return ResponseEntity.badRequest().body("요청 경로와 본문의 roomId가 일치하지 않습니다.");
         }
 
-        // 메시지 저장 처리
-        ChatMessageResponse response = chatMessageService.sendMessage(senderId, roomId, payload.content());
-        
-        // 해당 방(topic)에 메시지를 실시간으로 뿌림
-        messagingTemplate.convertAndSend("/topic/chat/" + response.roomId(), response);
-        
-        return ResponseEntity.ok(response);
+        // 메시지 저장 + 방 토픽 전송 (같은 clientMessageId 재전송이면 저장된 메시지를 그대로 돌려줌)
+        ChatDeliveryService.Delivery delivery = chatDeliveryService.send(senderId, roomId, payload);
+
+        return ResponseEntity.ok(delivery.message());
     }
 
     /**
@@ -0,0 +1,28 @@
+package com.project.eum.chat.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 저장 확인(ack) DTO
+ * - WebSocket 전송이면 보낸 세션에만 /user/queue/acks 로 전송, REST 전송이면 응답 본문
+ * - clientMessageId 로 클라이언트의 임시 메시지와 서버 저장 메시지를 매칭
+ * - duplicate: 이미 저장된 메시지의 재전송이었는지 여부 (이 경우 방에 다시 뿌리지 않음)
+ */
+public record ChatMessageAck(
+        String clientMessageId,
+        Long roomId,
+        Long contentId,
+        LocalDateTime createdAt,
+        boolean duplicate
+) {
+
+    public static ChatMessageAck of(ChatMessageResponse message, boolean duplicate) {
+        return new ChatMessageAck(
+                message.clientMessageId(),
+                message.roomId(),
+                message.contentId(),
+                message.createdAt(),
+                duplicate
+        );
+    }
+}
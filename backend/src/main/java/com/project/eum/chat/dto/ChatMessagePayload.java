@@ -4,11 +4,13 @@ package com.project.eum.chat.dto;
  * 클라이언트가 보내는 채팅 메시지 요청 DTO
  * - roomId: 어떤 채팅방에 보낼 메시지인지
  * - content: 실제 메시지 내용
+ * - clientMessageId: 클라이언트가 만든 메시지 ID (재전송 시 같은 값을 보내면 한 번만 저장됨, 선택)
  *
  * WebSocket(/app/chat.send) 또는 REST(/rooms/{roomId}/messages) 요청에서 사용됨
  */
 public record ChatMessagePayload(
         Long roomId,
-        String content
+        String content,
+        String clientMessageId
 ) {
 }
@@ -15,7 +15,8 @@ public record ChatMessageResponse(
         Long senderId,
         String senderName,
         String content,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        String clientMessageId
 ) {
 
     /**
@@ -30,7 +31,8 @@ public record ChatMessageResponse(
                 entity.getSender() != null ? entity.getSender().getUserId() : null,
                 entity.getSender() != null ? entity.getSender().getName() : null,
                 entity.getContent(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                entity.getClientMessageId()
         );
     }
 }
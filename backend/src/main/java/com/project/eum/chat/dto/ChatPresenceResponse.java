@@ -0,0 +1,14 @@
+package com.project.eum.chat.dto;
+
+import java.util.Set;
+
+/**
+ * 채팅방 접속 현황 브로드캐스트 DTO
+ * - /topic/chat/{roomId}/presence 로 전송됨
+ * - onlineMemberIds: 지금 방 토픽을 구독 중인 회원 ID 목록
+ */
+public record ChatPresenceResponse(
+        Long roomId,
+        Set<Long> onlineMemberIds
+) {
+}
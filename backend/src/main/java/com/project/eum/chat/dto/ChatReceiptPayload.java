@@ -0,0 +1,12 @@
+package com.project.eum.chat.dto;
+
+/**
+ * 클라이언트가 보내는 수신 확인 DTO (/app/chat.receipt)
+ * - contentId: 이 메시지까지 받았음/읽었음 (방 안에서 가장 최근 메시지 ID 만 보내면 됨)
+ */
+public record ChatReceiptPayload(
+        Long roomId,
+        Long contentId,
+        ChatReceiptType type
+) {
+}
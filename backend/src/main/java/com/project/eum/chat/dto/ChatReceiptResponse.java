@@ -0,0 +1,14 @@
+package com.project.eum.chat.dto;
+
+/**
+ * 수신 확인 브로드캐스트 DTO
+ * - /topic/chat/{roomId}/receipts 로 주기적으로 묶어서 전송됨
+ * - 해당 회원이 어디까지 받았는지/읽었는지 (변화가 없으면 null)
+ */
+public record ChatReceiptResponse(
+        Long roomId,
+        Long memberId,
+        Long deliveredContentId,
+        Long readContentId
+) {
+}
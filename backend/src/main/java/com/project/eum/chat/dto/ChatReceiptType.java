@@ -0,0 +1,11 @@
+package com.project.eum.chat.dto;
+
+/**
+ * 수신 확인 종류
+ * - DELIVERED: 클라이언트가 메시지를 받음
+ * - READ: 사용자가 메시지를 읽음
+ */
+public enum ChatReceiptType {
+    DELIVERED,
+    READ
+}
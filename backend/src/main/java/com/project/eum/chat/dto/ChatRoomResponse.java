@@ -1,7 +1,10 @@
 package com.project.eum.chat.dto;
 
+import com.project.eum.chat.entity.ChatParticipantRole;
 import com.project.eum.chat.entity.ChatRoom;
 import com.project.eum.chat.entity.ChatRoomStatus;
+import com.project.eum.chat.repository.ChatRoomListRow;
+import com.project.eum.user.Member;
 
 import java.time.LocalDateTime;
 
@@ -24,15 +27,27 @@ public record ChatRoomResponse(
         LocalDateTime updatedAt,
         String lastMessagePreview,
         LocalDateTime farmerLastReadAt,
-        LocalDateTime userLastReadAt
+        LocalDateTime userLastReadAt,
+        String counterpartNickname,
+        boolean unread
 ) {
 
     /**
      * ChatRoom 엔티티 → ChatRoomResponse DTO 변환
      * - Null 안전 처리: 농장/농장주/사용자가 null일 수 있어 체크 후 매핑
      * - 컨트롤러/서비스에서 엔티티를 바로 내려보내지 않기 때문에 이 변환이 필요함
+     * - 상대방 닉네임, 안 읽음 여부는 목록 조회와 같은 기준으로 viewerId 에 맞춰 계산
+     *   (농장주이면서 사용자인 경우 농장주 기준)
      */
-    public static ChatRoomResponse from(ChatRoom room) {
+    public static ChatRoomResponse from(ChatRoom room, Long viewerId) {
+        ChatParticipantRole role = room.roleOf(viewerId);
+        Member counterpart = role == ChatParticipantRole.FARMER ? room.getUser()
+                : role == ChatParticipantRole.USER ? room.getFarmer() : null;
+        LocalDateTime lastReadAt = role == ChatParticipantRole.FARMER ? room.getFarmerLastReadAt()
+                : room.getUserLastReadAt();
+        boolean unread = role != null && room.getLastMessageAt() != null
+                && (lastReadAt == null || room.getLastMessageAt().isAfter(lastReadAt));
+
         return new ChatRoomResponse(
                 room.getRoomId(),
                 room.getFarm() != null ? room.getFarm().getFarmId() : null,
@@ -46,7 +61,34 @@ public record ChatRoomResponse(
                 room.getUpdatedAt(),
                 room.getLastMessagePreview(),
                 room.getFarmerLastReadAt(),
-                room.getUserLastReadAt()
+                room.getUserLastReadAt(),
+                counterpart != null ? counterpart.getNickname() : null,
+                unread
+        );
+    }
+
+    /**
+     * 목록 조회용 프로젝션(ChatRoomListRow) → ChatRoomResponse DTO 변환
+     * - 조인으로 이미 가져온 값만 사용하므로 추가 쿼리가 발생하지 않음
+     * - 상대방 닉네임, 안 읽음 여부는 요청자 기준으로 계산된 값
+     */
+    public static ChatRoomResponse from(ChatRoomListRow row) {
+        return new ChatRoomResponse(
+                row.getRoomId(),
+                row.getFarmId(),
+                row.getFarmName(),
+                row.getFarmerId(),
+                row.getFarmerName(),
+                row.getUserId(),
+                row.getUserName(),
+                row.getStatus(),
+                row.getLastMessageAt(),
+                row.getUpdatedAt(),
+                row.getLastMessagePreview(),
+                row.getFarmerLastReadAt(),
+                row.getUserLastReadAt(),
+                row.getCounterpartNickname(),
+                row.getUnread() != null && row.getUnread() > 0
         );
     }
 }
@@ -0,0 +1,14 @@
+package com.project.eum.chat.dto;
+
+/**
+ * 클라이언트가 보내는 "입력 중" 알림 요청 DTO
+ * - roomId: 입력 중인 채팅방
+ * - typing: true 면 입력 시작/계속, false 면 입력 종료
+ *
+ * WebSocket(/app/chat.typing) 요청에서 사용됨
+ */
+public record ChatTypingPayload(
+        Long roomId,
+        boolean typing
+) {
+}
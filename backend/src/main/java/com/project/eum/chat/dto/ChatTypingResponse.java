@@ -0,0 +1,12 @@
+package com.project.eum.chat.dto;
+
+/**
+ * "입력 중" 알림 브로드캐스트 DTO
+ * - /topic/chat/{roomId}/typing 으로 전송됨
+ */
+public record ChatTypingResponse(
+        Long roomId,
+        Long memberId,
+        boolean typing
+) {
+}
@@ -10,7 +10,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_contents")
+@Table(
+        name = "chat_contents",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_contents_client_message",
+                columnNames = {"room_id", "sender", "client_message_id"}
+        )
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -49,6 +55,14 @@ public class ChatContent {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 클라이언트가 만든 메시지 ID (재전송 중복 방지용)
+     * - 같은 방 + 같은 보낸 사람 + 같은 ID 는 한 번만 저장됨 (유니크 인덱스)
+     * - 예전 클라이언트는 보내지 않으므로 null 허용 (MySQL 유니크 인덱스는 NULL 중복 허용)
+     */
+    @Column(name = "client_message_id", length = 64)
+    private String clientMessageId;
+
     /**
      * 메시지가 생성된 시간
      * - Hibernate가 자동으로 현재 시각을 넣어줌
@@ -0,0 +1,10 @@
+package com.project.eum.chat.entity;
+
+/**
+ * 채팅방에서 회원이 맡는 역할.
+ * FARMER 는 방의 농장주, USER 는 농장주와 대화하는 사용자.
+ */
+public enum ChatParticipantRole {
+    FARMER,
+    USER
+}
@@ -17,7 +17,11 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_chat_room_participants",
                 columnNames = {"farm_id", "farmer_id", "user_id"}
-        )
+        ),
+        indexes = {
+                @Index(name = "idx_chat_rooms_farmer_updated", columnList = "farmer_id,updated_at"),
+                @Index(name = "idx_chat_rooms_user_updated", columnList = "user_id,updated_at")
+        }
 )
 @Getter
 @Setter
@@ -122,6 +126,20 @@ public class ChatRoom {
         return user != null && memberId.equals(user.getUserId());
     }
 
+    /**
+     * 회원의 이 방에서의 역할 (참여자가 아니면 null)
+     * - farmer/user 가 지연 로딩 프록시여도 ID 만 꺼내므로 추가 조회 없음
+     */
+    public ChatParticipantRole roleOf(Long memberId) {
+        if (isFarmer(memberId)) {
+            return ChatParticipantRole.FARMER;
+        }
+        if (isUser(memberId)) {
+            return ChatParticipantRole.USER;
+        }
+        return null;
+    }
+
     public void markRead(Long memberId, LocalDateTime readAt) {
         LocalDateTime timestamp = readAt != null ? readAt : LocalDateTime.now();
         if (isFarmer(memberId)) {
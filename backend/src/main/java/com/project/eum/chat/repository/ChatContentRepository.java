@@ -2,14 +2,20 @@ package com.project.eum.chat.repository;
 
 import com.project.eum.chat.entity.ChatContent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 채팅 메시지 저장/조회용 JPA 레포지토리
  *
  * - JpaRepository<ChatContent, Long> : 기본 CRUD 자동 제공
  * - 추가 메서드로 최근 메시지 50개 조회 기능 제공
+ * - 클라이언트 메시지 ID 로 중복 전송된 메시지 조회
+ * - 수신 확인에 담긴 메시지 ID 들의 방 확인
  */
 public interface ChatContentRepository extends JpaRepository<ChatContent, Long> {
 
@@ -19,4 +25,18 @@ public interface ChatContentRepository extends JpaRepository<ChatContent, Long>
      * - 반환: 최근 50개 ChatContent 엔티티 리스트
      */
     List<ChatContent> findTop50ByRoomRoomIdOrderByContentIdDesc(Long roomId);
+
+    /**
+     * 방 + 보낸 사람 + 클라이언트 메시지 ID 로 저장된 메시지 조회
+     * - uk_chat_contents_client_message 유니크 인덱스를 그대로 사용
+     */
+    Optional<ChatContent> findByRoomRoomIdAndSenderUserIdAndClientMessageId(Long roomId,
+                                                                           Long senderId,
+                                                                           String clientMessageId);
+
+    /**
+     * 메시지 ID 들이 속한 방 조회 (PK IN 조회 1번, 없는 ID 는 결과에서 빠짐)
+     */
+    @Query("SELECT c.contentId AS contentId, c.room.roomId AS roomId FROM ChatContent c WHERE c.contentId IN :contentIds")
+    List<ChatContentRoomRow> findRoomIdsByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
 }
@@ -0,0 +1,11 @@
+package com.project.eum.chat.repository;
+
+/**
+ * 메시지 ID → 방 ID 프로젝션 (수신 확인 검증용, 메시지 본문은 읽지 않음)
+ */
+public interface ChatContentRoomRow {
+
+    Long getContentId();
+
+    Long getRoomId();
+}
@@ -0,0 +1,51 @@
+package com.project.eum.chat.repository;
+
+import com.project.eum.chat.entity.ChatRoomStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 화면 전용 프로젝션
+ * - ChatRoom 엔티티와 연관 엔티티(farm/farmer/user)를 로딩하지 않고
+ *   목록에 필요한 컬럼만 한 번의 쿼리로 가져옴
+ * - 컬럼 별칭(alias)이 getter 이름과 일치해야 함
+ */
+public interface ChatRoomListRow {
+
+    Long getRoomId();
+
+    Long getFarmId();
+
+    String getFarmName();
+
+    Long getFarmerId();
+
+    String getFarmerName();
+
+    Long getUserId();
+
+    String getUserName();
+
+    ChatRoomStatus getStatus();
+
+    LocalDateTime getLastMessageAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getLastMessagePreview();
+
+    LocalDateTime getFarmerLastReadAt();
+
+    LocalDateTime getUserLastReadAt();
+
+    /**
+     * 요청자 기준 상대방 닉네임
+     * - 요청자가 농장주면 사용자 닉네임, 사용자면 농장주 닉네임
+     */
+    String getCounterpartNickname();
+
+    /**
+     * 요청자 기준 안 읽은 메시지 존재 여부 (1: 있음, 0: 없음)
+     */
+    Integer getUnread();
+}
@@ -2,7 +2,11 @@ package com.project.eum.chat.repository;
 
 import com.project.eum.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,11 +28,124 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByFarmFarmIdAndFarmerUserIdAndUserUserId(Long farmId, Long farmerId, Long userId);
 
     /**
-     * 특정 회원(농장주 또는 사용자)이 참여한 모든 채팅방을
-     * 최근 수정 시간(updatedAt) 내림차순으로 조회
+     * 특정 회원이 참여한 모든 채팅방 목록을 프로젝션으로 한 번에 조회
      *
-     * - farmerId 또는 userId로 참여 여부 확인
-     * - 방 목록 화면에서 사용됨
+     * - farmer_id = ? OR user_id = ? 는 인덱스를 하나만 탈 수 있어서
+     *   농장주로 참여한 방 / 사용자로 참여한 방을 UNION ALL 두 갈래로 나눠 각각
+     *   (farmer_id, updated_at), (user_id, updated_at) 인덱스를 사용하게 함
+     * - 농장명, 참여자 이름, 상대방 닉네임, 안 읽음 여부까지 조인으로 같이 가져와
+     *   방 개수와 관계없이 SQL 1번으로 끝남 (N+1 지연 로딩 없음)
+     * - 두 번째 갈래는 본인이 농장주인 방을 제외해 중복을 막음
      */
-    List<ChatRoom> findByFarmerUserIdOrUserUserIdOrderByUpdatedAtDesc(Long farmerId, Long userId);
+    @Query(value = """
+            SELECT r.room_id              AS roomId,
+                   r.farm_id              AS farmId,
+                   f.name                 AS farmName,
+                   r.farmer_id            AS farmerId,
+                   fm.name                AS farmerName,
+                   r.user_id              AS userId,
+                   u.name                 AS userName,
+                   r.status               AS status,
+                   r.last_message_at      AS lastMessageAt,
+                   r.updated_at           AS updatedAt,
+                   r.last_message_preview AS lastMessagePreview,
+                   r.farmer_last_read_at  AS farmerLastReadAt,
+                   r.user_last_read_at    AS userLastReadAt,
+                   u.nickname             AS counterpartNickname,
+                   CASE WHEN r.last_message_at IS NOT NULL
+                         AND (r.farmer_last_read_at IS NULL OR r.last_message_at > r.farmer_last_read_at)
+                        THEN 1 ELSE 0 END AS unread
+              FROM chat_rooms r
+              JOIN farms f  ON f.farm_id  = r.farm_id
+              JOIN users fm ON fm.user_id = r.farmer_id
+              JOIN users u  ON u.user_id  = r.user_id
+             WHERE r.farmer_id = :memberId
+            UNION ALL
+            SELECT r.room_id              AS roomId,
+                   r.farm_id              AS farmId,
+                   f.name                 AS farmName,
+                   r.farmer_id            AS farmerId,
+                   fm.name                AS farmerName,
+                   r.user_id              AS userId,
+                   u.name                 AS userName,
+                   r.status               AS status,
+                   r.last_message_at      AS lastMessageAt,
+                   r.updated_at           AS updatedAt,
+                   r.last_message_preview AS lastMessagePreview,
+                   r.farmer_last_read_at  AS farmerLastReadAt,
+                   r.user_last_read_at    AS userLastReadAt,
+                   fm.nickname            AS counterpartNickname,
+                   CASE WHEN r.last_message_at IS NOT NULL
+                         AND (r.user_last_read_at IS NULL OR r.last_message_at > r.user_last_read_at)
+                        THEN 1 ELSE 0 END AS unread
+              FROM chat_rooms r
+              JOIN farms f  ON f.farm_id  = r.farm_id
+              JOIN users fm ON fm.user_id = r.farmer_id
+              JOIN users u  ON u.user_id  = r.user_id
+             WHERE r.user_id = :memberId
+               AND r.farmer_id <> :memberId
+             ORDER BY updatedAt DESC
+            """, nativeQuery = true)
+    List<ChatRoomListRow> findRoomListByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 농장주가 메시지를 보냈을 때 방 정보를 엔티티 로딩 없이 갱신
+     * - 마지막 메시지 시간/미리보기, 농장주 읽음 시간
+     * - 벌크 UPDATE 는 @UpdateTimestamp 가 적용되지 않아 updatedAt 도 직접 갱신
+     */
+    @Modifying
+    @Query("""
+            update ChatRoom r
+               set r.lastMessageAt = :messageAt,
+                   r.lastMessagePreview = :preview,
+                   r.farmerLastReadAt = :messageAt,
+                   r.updatedAt = :messageAt
+             where r.roomId = :roomId
+            """)
+    int touchByFarmer(@Param("roomId") Long roomId,
+                      @Param("messageAt") LocalDateTime messageAt,
+                      @Param("preview") String preview);
+
+    /**
+     * 사용자가 메시지를 보냈을 때 방 정보를 엔티티 로딩 없이 갱신
+     * - 마지막 메시지 시간/미리보기, 사용자 읽음 시간
+     */
+    @Modifying
+    @Query("""
+            update ChatRoom r
+               set r.lastMessageAt = :messageAt,
+                   r.lastMessagePreview = :preview,
+                   r.userLastReadAt = :messageAt,
+                   r.updatedAt = :messageAt
+             where r.roomId = :roomId
+            """)
+    int touchByUser(@Param("roomId") Long roomId,
+                    @Param("messageAt") LocalDateTime messageAt,
+                    @Param("preview") String preview);
+
+    /**
+     * 농장주 읽음 시간 갱신 (수신 확인 묶음 처리용)
+     * - 이미 더 늦은 시간이 기록되어 있으면 건너뜀
+     * - 읽음은 방 활동이 아니므로 updatedAt(목록 정렬 기준)은 건드리지 않음
+     */
+    @Modifying
+    @Query("""
+            update ChatRoom r
+               set r.farmerLastReadAt = :readAt
+             where r.roomId = :roomId
+               and (r.farmerLastReadAt is null or r.farmerLastReadAt < :readAt)
+            """)
+    int markReadByFarmer(@Param("roomId") Long roomId, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 사용자 읽음 시간 갱신 (수신 확인 묶음 처리용)
+     */
+    @Modifying
+    @Query("""
+            update ChatRoom r
+               set r.userLastReadAt = :readAt
+             where r.roomId = :roomId
+               and (r.userLastReadAt is null or r.userLastReadAt < :readAt)
+            """)
+    int markReadByUser(@Param("roomId") Long roomId, @Param("readAt") LocalDateTime readAt);
 }
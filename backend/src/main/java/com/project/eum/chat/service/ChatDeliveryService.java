@@ -0,0 +1,132 @@
+package com.project.eum.chat.service;
+
+import com.project.eum.chat.dto.ChatMessageAck;
+import com.project.eum.chat.dto.ChatMessagePayload;
+import com.project.eum.chat.dto.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 채팅 메시지 전송 + 중복 방지 + ack 처리
+ *
+ * - clientMessageId 가 같은 재전송은 한 번만 저장하고, 방에도 한 번만 뿌림
+ *   1) 메모리 중복 창(ChatMessageDedupeCache)에 있으면 DB 조회 없이 원래 메시지 ID 로 ack
+ *      (REST 는 응답 본문에 메시지 전체가 필요해서 이 경우에만 DB 에서 조회)
+ *   2) 창에 없으면 저장 시도 → 유니크 인덱스에 걸리면 저장된 메시지를 찾아 ack
+ * - 저장 트랜잭션이 끝난 뒤(커밋 후) 중복 창에 기록하고 방 토픽으로 전송
+ *   → 이 클래스는 트랜잭션을 걸지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatDeliveryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatDeliveryService.class);
+
+    private static final int CLIENT_MESSAGE_ID_MAX_LENGTH = 64;
+
+    private final ChatMessageService chatMessageService;
+    private final ChatMessageDedupeCache dedupeCache;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * WebSocket 전송 (세션 권한 캐시 사용)
+     */
+    public Delivery send(ChatSessionAuth auth, ChatMessagePayload payload) {
+        if (auth == null) {
+            throw new IllegalArgumentException("로그인 후 이용해 주세요.");
+        }
+        String clientMessageId = normalize(payload.clientMessageId());
+        return deliver(auth.getMemberId(), payload.roomId(), clientMessageId,
+                () -> chatMessageService.sendMessage(auth, payload.roomId(), payload.content(), clientMessageId));
+    }
+
+    /**
+     * REST 전송 (요청마다 DB 로 참여자 확인)
+     */
+    public Delivery send(Long senderId, Long roomId, ChatMessagePayload payload) {
+        if (senderId == null) {
+            throw new IllegalArgumentException("로그인 후 이용해 주세요.");
+        }
+        String clientMessageId = normalize(payload.clientMessageId());
+        Delivery delivery = deliver(senderId, roomId, clientMessageId,
+                () -> chatMessageService.sendMessage(senderId, roomId, payload.content(), clientMessageId));
+        if (delivery.message() != null) {
+            return delivery;
+        }
+        return chatMessageService.findByClientMessageId(roomId, senderId, clientMessageId)
+                .map(existing -> Delivery.of(existing, true))
+                .orElseThrow(() -> new IllegalStateException("저장된 메시지를 찾을 수 없습니다."));
+    }
+
+    private Delivery deliver(Long senderId, Long roomId, String clientMessageId,
+                             Supplier<ChatMessageResponse> save) {
+        if (roomId == null) {
+            throw new IllegalArgumentException("채팅방 정보가 필요합니다.");
+        }
+        if (clientMessageId != null) {
+            ChatMessageDedupeCache.Remembered cached = dedupeCache.find(roomId, senderId, clientMessageId);
+            if (cached != null) {
+                return new Delivery(new ChatMessageAck(clientMessageId, roomId, cached.contentId(),
+                        cached.createdAt(), true), null);
+            }
+        }
+
+        ChatMessageResponse saved;
+        try {
+            saved = save.get();
+        } catch (DataIntegrityViolationException ex) {
+            // 중복 창에서 밀려난 재전송 또는 동시에 들어온 같은 요청
+            if (clientMessageId == null) {
+                throw ex;
+            }
+            ChatMessageResponse existing = chatMessageService
+                    .findByClientMessageId(roomId, senderId, clientMessageId)
+                    .orElseThrow(() -> ex);
+            log.debug("Duplicate chat message {} in room {} from member {}", clientMessageId, roomId, senderId);
+            remember(roomId, senderId, existing);
+            return Delivery.of(existing, true);
+        }
+
+        remember(roomId, senderId, saved);
+        messagingTemplate.convertAndSend("/topic/chat/" + saved.roomId(), saved);
+        return Delivery.of(saved, false);
+    }
+
+    private void remember(Long roomId, Long senderId, ChatMessageResponse message) {
+        dedupeCache.remember(roomId, senderId, message.clientMessageId(), message.contentId(), message.createdAt());
+    }
+
+    /**
+     * 전송 결과
+     * - ack: 보낸 쪽에 돌려줄 저장 확인 (duplicate: 재전송이라 새로 저장하지 않았는지 여부)
+     * - message: 저장된(또는 이미 저장되어 있던) 메시지, 중복 창에서 찾은 재전송이면 null
+     */
+    public record Delivery(ChatMessageAck ack, ChatMessageResponse message) {
+
+        static Delivery of(ChatMessageResponse message, boolean duplicate) {
+            return new Delivery(ChatMessageAck.of(message, duplicate), message);
+        }
+
+        public ChatMessageAck toAck() {
+            return ack;
+        }
+    }
+
+    private static String normalize(String clientMessageId) {
+        if (!StringUtils.hasText(clientMessageId)) {
+            return null;
+        }
+        String trimmed = clientMessageId.trim();
+        if (trimmed.length() > CLIENT_MESSAGE_ID_MAX_LENGTH) {
+            throw new IllegalArgumentException("메시지 ID는 " + CLIENT_MESSAGE_ID_MAX_LENGTH + "자 이하로 보내 주세요.");
+        }
+        return trimmed;
+    }
+}
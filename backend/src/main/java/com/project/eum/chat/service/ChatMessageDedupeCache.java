@@ -0,0 +1,126 @@
+package com.project.eum.chat.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 최근 클라이언트 메시지 ID 기억 (재전송 중복 방지 창)
+ *
+ * - 방마다 최근 window-size 개의 (보낸 사람, clientMessageId) → 저장된 메시지 ID / 저장 시각만 기억
+ * - 창 안의 재전송은 DB 조회 없이 원래 메시지 ID 로 ack
+ * - 창에서 밀려난 재전송(또는 서버 재시작 후)은 유니크 인덱스가 최종적으로 막음
+ * - 방 창은 idle-ttl 동안 쓰이지 않으면 정리하고, max-rooms 를 넘으면 가장 오래 안 쓰인 방부터 제거
+ *   (제거돼도 유니크 인덱스가 있어 중복 저장은 생기지 않음)
+ */
+@Component
+public class ChatMessageDedupeCache {
+
+    /** 방 하나에서 기억하는 최근 메시지 ID 개수 */
+    @Value("${chat.dedupe.window-size:256}")
+    private int windowSize;
+
+    /** 이 시간(ms) 동안 쓰이지 않은 방 창은 정리 */
+    @Value("${chat.dedupe.idle-ttl-ms:600000}")
+    private long idleTtlMillis;
+
+    /** 창을 유지하는 최대 방 수 */
+    @Value("${chat.dedupe.max-rooms:10000}")
+    private int maxRooms;
+
+    private final Map<Long, Window> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 창 안에 같은 메시지가 있으면 반환 (없으면 null)
+     */
+    public Remembered find(Long roomId, Long senderId, String clientMessageId) {
+        Window window = rooms.get(roomId);
+        if (window == null) {
+            return null;
+        }
+        return window.get(key(senderId, clientMessageId));
+    }
+
+    public void remember(Long roomId, Long senderId, String clientMessageId, Long contentId, LocalDateTime createdAt) {
+        if (clientMessageId == null) {
+            return;
+        }
+        Window window = rooms.computeIfAbsent(roomId, id -> new Window(windowSize));
+        window.put(key(senderId, clientMessageId), new Remembered(contentId, createdAt));
+        if (rooms.size() > maxRooms) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    int roomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * 오래 쓰이지 않은 방 창 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.dedupe.sweep-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long idleSince = System.currentTimeMillis() - idleTtlMillis;
+        rooms.values().removeIf(window -> window.lastUsedAt < idleSince);
+    }
+
+    // 방 수 한도를 넘으면 가장 오래 안 쓰인 방부터 제거 (한도를 넘었을 때만 전체를 훑음)
+    private void evictLeastRecentlyUsed() {
+        while (rooms.size() > maxRooms) {
+            Long eldest = null;
+            long eldestUsedAt = Long.MAX_VALUE;
+            for (Map.Entry<Long, Window> entry : rooms.entrySet()) {
+                if (entry.getValue().lastUsedAt < eldestUsedAt) {
+                    eldest = entry.getKey();
+                    eldestUsedAt = entry.getValue().lastUsedAt;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            rooms.remove(eldest);
+        }
+    }
+
+    private static String key(Long senderId, String clientMessageId) {
+        return senderId + ":" + clientMessageId;
+    }
+
+    /**
+     * 기억해 둔 저장 결과 (ack 에 필요한 값만)
+     */
+    public record Remembered(Long contentId, LocalDateTime createdAt) {
+    }
+
+    // 방 하나의 창: 접근 순서 LinkedHashMap, 한도를 넘으면 가장 오래된 항목부터 제거
+    private static final class Window {
+
+        private final Map<String, Remembered> entries;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private Window(int windowSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Remembered> eldest) {
+                    return size() > windowSize;
+                }
+            };
+        }
+
+        private synchronized Remembered get(String key) {
+            lastUsedAt = System.currentTimeMillis();
+            return entries.get(key);
+        }
+
+        private synchronized void put(String key, Remembered remembered) {
+            lastUsedAt = System.currentTimeMillis();
+            entries.put(key, remembered);
+        }
+    }
+}
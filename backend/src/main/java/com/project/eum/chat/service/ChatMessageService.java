@@ -2,6 +2,7 @@ package com.project.eum.chat.service;
 
 import com.project.eum.chat.dto.ChatMessageResponse;
 import com.project.eum.chat.entity.ChatContent;
+import com.project.eum.chat.entity.ChatParticipantRole;
 import com.project.eum.chat.entity.ChatRoom;
 import com.project.eum.chat.repository.ChatContentRepository;
 import com.project.eum.chat.repository.ChatRoomRepository;
@@ -15,6 +16,7 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +31,9 @@ public class ChatMessageService {
     
     /**
      * 메시지 전송 기능
+     * - clientMessageId 가 있으면 함께 저장 (같은 방/보낸 사람/ID 중복 저장은 유니크 인덱스가 막음)
     */
-    public ChatMessageResponse sendMessage(Long senderId, Long roomId, String content) {
+    public ChatMessageResponse sendMessage(Long senderId, Long roomId, String content, String clientMessageId) {
         if (senderId == null) {
             throw new IllegalArgumentException("로그인 후 이용해 주세요.");
         }
@@ -56,6 +59,7 @@ public class ChatMessageService {
         contentEntity.setRoom(room);
         contentEntity.setSender(sender);
         contentEntity.setContent(content.trim());
+        contentEntity.setClientMessageId(clientMessageId);
 
         // 메시지 저장
         ChatContent saved = chatContentRepository.save(contentEntity);
@@ -68,6 +72,59 @@ public class ChatMessageService {
         return ChatMessageResponse.from(saved);
     }
 
+    /**
+     * 메시지 전송 기능 (STOMP 세션 권한 캐시 사용)
+     * - 참여 여부는 채널 인터셉터에서 이미 확인되어 세션 캐시에 역할이 들어 있음
+     * - 방/보낸 사람은 프록시 참조만 사용하고, 방 정보는 UPDATE 한 번으로 갱신
+     *   → 메시지당 SELECT 없이 INSERT + UPDATE 만 실행
+     */
+    public ChatMessageResponse sendMessage(ChatSessionAuth auth, Long roomId, String content, String clientMessageId) {
+        if (auth == null || auth.getMemberId() == null) {
+            throw new IllegalArgumentException("로그인 후 이용해 주세요.");
+        }
+        if (!StringUtils.hasText(content)) {
+            throw new IllegalArgumentException("메시지 내용을 입력해 주세요.");
+        }
+        ChatParticipantRole role = auth.roleIn(roomId);
+        if (role == null) {
+            throw new IllegalArgumentException("채팅방 참여자만 메시지를 보낼 수 있습니다.");
+        }
+
+        ChatContent contentEntity = new ChatContent();
+        contentEntity.setRoom(chatRoomRepository.getReferenceById(roomId));
+        contentEntity.setSender(memberRepository.getReferenceById(auth.getMemberId()));
+        contentEntity.setContent(content.trim());
+        contentEntity.setClientMessageId(clientMessageId);
+        ChatContent saved = chatContentRepository.save(contentEntity);
+
+        LocalDateTime messageTime = saved.getCreatedAt() != null ? saved.getCreatedAt() : LocalDateTime.now();
+        if (role == ChatParticipantRole.FARMER) {
+            chatRoomRepository.touchByFarmer(roomId, messageTime, saved.getContent());
+        } else {
+            chatRoomRepository.touchByUser(roomId, messageTime, saved.getContent());
+        }
+
+        return new ChatMessageResponse(
+                saved.getContentId(),
+                roomId,
+                auth.getMemberId(),
+                auth.getMemberName(),
+                saved.getContent(),
+                saved.getCreatedAt(),
+                saved.getClientMessageId()
+        );
+    }
+
+    /**
+     * 클라이언트 메시지 ID 로 이미 저장된 메시지 조회
+     * - 메모리 중복 창(window)에서 밀려난 재전송이 유니크 인덱스에 걸렸을 때 원래 메시지를 돌려주기 위해 사용
+     */
+    public Optional<ChatMessageResponse> findByClientMessageId(Long roomId, Long senderId, String clientMessageId) {
+        return chatContentRepository
+                .findByRoomRoomIdAndSenderUserIdAndClientMessageId(roomId, senderId, clientMessageId)
+                .map(ChatMessageResponse::from);
+    }
+
     /**
      * 특정 방의 최근 메시지 50개 조회
      * - 방 존재 여부 확인
@@ -0,0 +1,248 @@
+package com.project.eum.chat.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 접속 현황(presence)을 메모리에 보관하는 레지스트리
+ *
+ * - STOMP 세션 단위로 "누가 어떤 방을 구독 중인지"를 기록
+ * - 모든 상태를 ConcurrentHashMap 에 나눠 담아서 전역 락 없이 동작
+ *   (세션 맵 / 방 맵이 각각 버킷 단위로 잠기므로 세션 수만 명에도 경합이 적음)
+ * - 마지막 활동 시각(하트비트 포함)을 세션마다 기록해 끊긴 세션을 정리할 수 있게 함
+ * - 브로드캐스트는 하지 않고, 변경된 방 ID만 dirty 로 표시 → ChatPresenceService 가 모아서 전송
+ */
+@Component
+public class ChatPresenceRegistry {
+
+    // 채팅 메시지가 오가는 방 토픽: /topic/chat/{roomId}
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/chat/(\\d+)$");
+
+    // STOMP 세션 ID → 세션 상태
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+
+    // 방 ID → 방 상태 (구독 중인 세션, 타이핑 시각)
+    private final Map<Long, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    // 접속자 목록이 바뀌어서 다시 알려줘야 하는 방 ID
+    private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 구독 destination 에서 방 ID 추출
+     * - 방 토픽이 아니면 null
+     */
+    public static Long parseRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    /**
+     * STOMP CONNECT 시 세션 등록
+     */
+    public void connect(String sessionId, Long memberId) {
+        if (sessionId == null || memberId == null) {
+            return;
+        }
+        sessions.computeIfAbsent(sessionId, id -> new SessionPresence(memberId));
+    }
+
+    /**
+     * 방 토픽 구독 시 호출
+     * - 세션이 아직 등록되지 않았다면(CONNECT 누락) memberId 로 새로 만듦
+     */
+    public void subscribe(String sessionId, Long memberId, String subscriptionId, Long roomId) {
+        if (sessionId == null || memberId == null || subscriptionId == null || roomId == null) {
+            return;
+        }
+        SessionPresence session = sessions.computeIfAbsent(sessionId, id -> new SessionPresence(memberId));
+        session.subscriptions.put(subscriptionId, roomId);
+        session.touch();
+        // 방이 비어 제거되는 중(leaveRoom)과 겹쳐도 구독이 사라지지 않게 compute 안에서 추가
+        rooms.compute(roomId, (id, room) -> {
+            RoomPresence target = room != null ? room : new RoomPresence();
+            target.sessions.put(sessionId, session.memberId);
+            return target;
+        });
+        dirtyRooms.add(roomId);
+    }
+
+    /**
+     * 구독 해제 시 호출 (UNSUBSCRIBE 프레임에는 destination 이 없어서 subscriptionId 로 찾음)
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        Long roomId = session.subscriptions.remove(subscriptionId);
+        if (roomId != null && !session.subscriptions.containsValue(roomId)) {
+            leaveRoom(sessionId, roomId);
+        }
+    }
+
+    /**
+     * 세션 종료 시 호출 → 참여 중이던 모든 방에서 제거
+     */
+    public void disconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        for (Long roomId : new HashSet<>(session.subscriptions.values())) {
+            leaveRoom(sessionId, roomId);
+        }
+    }
+
+    /**
+     * 세션 활동 기록 (메시지, 하트비트 프레임 수신 시)
+     */
+    public void touch(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionPresence session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        }
+    }
+
+    /**
+     * 마지막 활동 시각이 기준보다 오래된 세션을 정리
+     * @param cutoffMillis 이 시각(epoch ms) 이전에 마지막으로 활동한 세션은 끊긴 것으로 봄
+     * @return 정리된 세션 ID 목록
+     */
+    public List<String> evictStale(long cutoffMillis) {
+        List<String> evicted = new ArrayList<>();
+        sessions.forEach((sessionId, session) -> {
+            if (session.lastSeenAt < cutoffMillis) {
+                evicted.add(sessionId);
+            }
+        });
+        evicted.forEach(this::disconnect);
+        return evicted;
+    }
+
+    /**
+     * 해당 세션이 방 토픽을 구독 중인지 여부
+     */
+    public boolean isSubscribed(String sessionId, Long roomId) {
+        if (sessionId == null || roomId == null) {
+            return false;
+        }
+        RoomPresence room = rooms.get(roomId);
+        return room != null && room.sessions.containsKey(sessionId);
+    }
+
+    /**
+     * 방에 접속 중인 회원 ID 목록 (한 회원이 여러 탭으로 접속해도 1번만 포함)
+     */
+    public Set<Long> onlineMembers(Long roomId) {
+        RoomPresence room = rooms.get(roomId);
+        if (room == null) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(room.sessions.values());
+    }
+
+    /**
+     * dirty 로 표시된 방 ID 를 꺼내고 비움
+     */
+    public Set<Long> drainDirtyRooms() {
+        Set<Long> drained = new HashSet<>();
+        for (Long roomId : dirtyRooms) {
+            if (dirtyRooms.remove(roomId)) {
+                drained.add(roomId);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 타이핑 이벤트 스로틀링
+     * - 같은 방, 같은 회원의 "입력 중" 알림은 intervalMillis 안에 한 번만 허용
+     * @return 이번 이벤트를 브로드캐스트해도 되면 true
+     */
+    public boolean tryTyping(Long roomId, Long memberId, long nowMillis, long intervalMillis) {
+        RoomPresence room = rooms.get(roomId);
+        if (room == null || memberId == null) {
+            return false;
+        }
+        boolean[] allowed = {false};
+        room.typingAt.compute(memberId, (id, last) -> {
+            if (last == null || nowMillis - last >= intervalMillis) {
+                allowed[0] = true;
+                return nowMillis;
+            }
+            return last;
+        });
+        return allowed[0];
+    }
+
+    /**
+     * 타이핑 종료 시 스로틀 기록 제거 (다음 입력은 바로 알릴 수 있도록)
+     */
+    public void clearTyping(Long roomId, Long memberId) {
+        RoomPresence room = rooms.get(roomId);
+        if (room != null && memberId != null) {
+            room.typingAt.remove(memberId);
+        }
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    // 방에서 세션 제거, 방이 비면 방 상태도 제거
+    private void leaveRoom(String sessionId, Long roomId) {
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            Long memberId = room.sessions.remove(sessionId);
+            if (memberId != null && !room.sessions.containsValue(memberId)) {
+                room.typingAt.remove(memberId);
+            }
+            return room.sessions.isEmpty() ? null : room;
+        });
+        dirtyRooms.add(roomId);
+    }
+
+    // 세션 하나의 상태
+    private static final class SessionPresence {
+        private final Long memberId;
+        // subscriptionId → roomId
+        private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+        private volatile long lastSeenAt = System.currentTimeMillis();
+
+        private SessionPresence(Long memberId) {
+            this.memberId = memberId;
+        }
+
+        private void touch() {
+            this.lastSeenAt = System.currentTimeMillis();
+        }
+    }
+
+    // 방 하나의 상태
+    private static final class RoomPresence {
+        // sessionId → memberId
+        private final Map<String, Long> sessions = new ConcurrentHashMap<>();
+        // memberId → 마지막으로 타이핑 알림을 보낸 시각
+        private final Map<Long, Long> typingAt = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,96 @@
+package com.project.eum.chat.service;
+
+import com.project.eum.chat.dto.ChatPresenceResponse;
+import com.project.eum.chat.dto.ChatTypingPayload;
+import com.project.eum.chat.dto.ChatTypingResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅방 접속 현황 / 입력 중 알림 브로드캐스트 서비스
+ *
+ * - 접속자 변화는 바로 보내지 않고 방마다 dirty 표시만 해 두었다가
+ *   broadcast-interval 마다 한 번씩 묶어서 /topic/chat/{roomId}/presence 로 전송
+ *   (여러 명이 동시에 들어오고 나가도 방당 프레임 1개)
+ * - 입력 중 알림은 회원별로 typing-interval 안에 한 번만 /topic/chat/{roomId}/typing 으로 전송
+ * - 하트비트가 끊긴 세션은 주기적으로 정리
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatPresenceService.class);
+
+    private final ChatPresenceRegistry presenceRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /** 같은 회원의 "입력 중" 알림 최소 간격 */
+    @Value("${chat.presence.typing-interval-ms:2000}")
+    private long typingIntervalMillis;
+
+    /** 이 시간 동안 아무 프레임(하트비트 포함)도 없으면 끊긴 세션으로 봄 */
+    @Value("${chat.presence.stale-session-ms:30000}")
+    private long staleSessionMillis;
+
+    /**
+     * 입력 중 알림 처리
+     * - 방 토픽을 구독 중인 세션만 보낼 수 있음 (DB 조회 없이 레지스트리로 확인)
+     * - 입력 시작은 스로틀링, 입력 종료는 바로 전송
+     */
+    public void typing(String sessionId, Long memberId, ChatTypingPayload payload) {
+        if (memberId == null || payload == null || payload.roomId() == null) {
+            return;
+        }
+        Long roomId = payload.roomId();
+        if (!presenceRegistry.isSubscribed(sessionId, roomId)) {
+            return;
+        }
+
+        if (payload.typing()) {
+            if (!presenceRegistry.tryTyping(roomId, memberId, System.currentTimeMillis(), typingIntervalMillis)) {
+                return;
+            }
+        } else {
+            presenceRegistry.clearTyping(roomId, memberId);
+        }
+
+        messagingTemplate.convertAndSend(
+                "/topic/chat/" + roomId + "/typing",
+                new ChatTypingResponse(roomId, memberId, payload.typing())
+        );
+    }
+
+    /**
+     * 접속자 목록이 바뀐 방들만 모아서 한 번에 전송
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.broadcast-interval-ms:1000}")
+    public void flushPresence() {
+        Set<Long> dirtyRooms = presenceRegistry.drainDirtyRooms();
+        for (Long roomId : dirtyRooms) {
+            messagingTemplate.convertAndSend(
+                    "/topic/chat/" + roomId + "/presence",
+                    new ChatPresenceResponse(roomId, presenceRegistry.onlineMembers(roomId))
+            );
+        }
+    }
+
+    /**
+     * 하트비트가 끊긴 세션 정리
+     * - 정상적인 DISCONNECT 가 오지 않은 경우(네트워크 단절 등) 대비
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:15000}")
+    public void evictStaleSessions() {
+        List<String> evicted = presenceRegistry.evictStale(System.currentTimeMillis() - staleSessionMillis);
+        if (!evicted.isEmpty()) {
+            log.info("Evicted {} stale chat sessions (active: {})", evicted.size(), presenceRegistry.sessionCount());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.project.eum.chat.service;
+
+import com.project.eum.chat.dto.ChatReceiptPayload;
+import com.project.eum.chat.dto.ChatReceiptResponse;
+import com.project.eum.chat.dto.ChatReceiptType;
+import com.project.eum.chat.entity.ChatParticipantRole;
+import com.project.eum.chat.repository.ChatContentRepository;
+import com.project.eum.chat.repository.ChatContentRoomRow;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 수신 확인(delivered / read) 묶음 처리
+ *
+ * - 메시지마다 DB 에 쓰지 않고 (방, 회원)별로 가장 큰 contentId 만 메모리에 모아 둠
+ * - receipt flush-interval 마다 한 번에
+ *   0) 모인 contentId 들이 실제로 그 방의 메시지인지 IN 조회 1번으로 확인 (다른 방/없는 ID 는 버림)
+ *   1) READ 가 있으면 방의 읽음 시간을 UPDATE 1번으로 갱신 (읽음 시간은 마지막 READ 를 받은 시각)
+ *   2) /topic/chat/{roomId}/receipts 로 회원별 최종 상태만 전송
+ * - DELIVERED 는 저장하지 않고 브로드캐스트만 함
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatReceiptService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatReceiptService.class);
+
+    private final ChatRoomService chatRoomService;
+    private final ChatContentRepository chatContentRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<ReceiptKey, PendingReceipt> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 수신 확인 적재 (세션 권한 캐시로 참여자 확인, DB 조회 없음)
+     */
+    public void record(ChatSessionAuth auth, ChatReceiptPayload payload) {
+        if (auth == null) {
+            throw new IllegalArgumentException("로그인 후 이용해 주세요.");
+        }
+        if (payload == null || payload.roomId() == null || payload.contentId() == null || payload.type() == null) {
+            throw new IllegalArgumentException("수신 확인 정보가 올바르지 않습니다.");
+        }
+        ChatParticipantRole role = auth.roleIn(payload.roomId());
+        if (role == null) {
+            throw new IllegalArgumentException("채팅방 참여자만 수신 확인을 보낼 수 있습니다.");
+        }
+
+        // compute 는 키 단위로 원자적 → flush 가 꺼내 간 뒤 들어온 확인은 새 항목으로 쌓임
+        LocalDateTime receivedAt = LocalDateTime.now();
+        pending.compute(new ReceiptKey(payload.roomId(), auth.getMemberId()), (key, receipt) -> {
+            PendingReceipt target = receipt != null ? receipt : new PendingReceipt(role);
+            target.merge(payload.type(), payload.contentId(), receivedAt);
+            return target;
+        });
+    }
+
+    /**
+     * 모아 둔 수신 확인을 한 번에 저장/전송
+     */
+    @Scheduled(fixedDelayString = "${chat.receipt.flush-interval-ms:1000}")
+    public void flushReceipts() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<ReceiptKey, PendingReceipt> batch = new LinkedHashMap<>();
+        for (ReceiptKey key : pending.keySet()) {
+            PendingReceipt receipt = pending.remove(key);
+            if (receipt != null) {
+                batch.put(key, receipt);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> roomOfContent;
+        try {
+            roomOfContent = roomsOf(batch);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to verify chat receipts: {}", ex.getMessage());
+            return;
+        }
+
+        for (Map.Entry<ReceiptKey, PendingReceipt> entry : batch.entrySet()) {
+            ReceiptKey key = entry.getKey();
+            PendingReceipt receipt = entry.getValue();
+            if (!receipt.retainContentOf(key.roomId(), roomOfContent)) {
+                log.debug("Ignored chat receipt from member {} for messages outside room {}",
+                        key.memberId(), key.roomId());
+                continue;
+            }
+
+            try {
+                if (receipt.readContentId != null) {
+                    chatRoomService.markReadByRole(key.roomId(), receipt.role, receipt.readAt);
+                }
+                messagingTemplate.convertAndSend(
+                        "/topic/chat/" + key.roomId() + "/receipts",
+                        new ChatReceiptResponse(key.roomId(), key.memberId(),
+                                receipt.deliveredContentId, receipt.readContentId)
+                );
+            } catch (RuntimeException ex) {
+                log.warn("Failed to flush chat receipts for room {}: {}", key.roomId(), ex.getMessage());
+            }
+        }
+    }
+
+    // 이번 묶음의 contentId → 방 ID
+    private Map<Long, Long> roomsOf(Map<ReceiptKey, PendingReceipt> batch) {
+        Set<Long> contentIds = new HashSet<>();
+        for (PendingReceipt receipt : batch.values()) {
+            if (receipt.deliveredContentId != null) {
+                contentIds.add(receipt.deliveredContentId);
+            }
+            if (receipt.readContentId != null) {
+                contentIds.add(receipt.readContentId);
+            }
+        }
+        Map<Long, Long> rooms = new HashMap<>();
+        for (ChatContentRoomRow row : chatContentRepository.findRoomIdsByContentIdIn(contentIds)) {
+            rooms.put(row.getContentId(), row.getRoomId());
+        }
+        return rooms;
+    }
+
+    private record ReceiptKey(Long roomId, Long memberId) {
+    }
+
+    // 한 주기 동안 쌓인 (방, 회원)의 수신 확인 (가장 큰 contentId 만 유지)
+    private static final class PendingReceipt {
+        private final ChatParticipantRole role;
+        private Long deliveredContentId;
+        private Long readContentId;
+        private LocalDateTime readAt;
+
+        private PendingReceipt(ChatParticipantRole role) {
+            this.role = role;
+        }
+
+        private void merge(ChatReceiptType type, Long contentId, LocalDateTime receivedAt) {
+            if (type == ChatReceiptType.READ) {
+                readContentId = max(readContentId, contentId);
+                if (readAt == null || receivedAt.isAfter(readAt)) {
+                    readAt = receivedAt;
+                }
+            }
+            // 읽었다면 받은 것이기도 함
+            deliveredContentId = max(deliveredContentId, contentId);
+        }
+
+        /**
+         * 다른 방(또는 없는) 메시지를 가리키는 contentId 는 버림
+         * - 남은 것이 없으면 false
+         */
+        private boolean retainContentOf(Long roomId, Map<Long, Long> roomOfContent) {
+            if (readContentId != null && !Objects.equals(roomOfContent.get(readContentId), roomId)) {
+                readContentId = null;
+                readAt = null;
+            }
+            if (deliveredContentId != null && !Objects.equals(roomOfContent.get(deliveredContentId), roomId)) {
+                deliveredContentId = readContentId;
+            }
+            return deliveredContentId != null;
+        }
+
+        private static Long max(Long current, Long candidate) {
+            return current == null || candidate > current ? candidate : current;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.eum.chat.service;
 
 import com.project.eum.chat.dto.ChatRoomResponse;
+import com.project.eum.chat.entity.ChatParticipantRole;
 import com.project.eum.chat.entity.ChatRoom;
 import com.project.eum.chat.entity.ChatRoomStatus;
 import com.project.eum.chat.repository.ChatRoomRepository;
@@ -43,7 +44,7 @@ public class ChatRoomService {
         // 기존 방이 있으면 권한 확인 후 그대로 반환
         if (existing != null) {
             validateParticipant(existing, requesterId);
-            return ChatRoomResponse.from(existing);
+            return ChatRoomResponse.from(existing, requesterId);
         }
 
         // 새 방 생성 전 농장/농장주/사용자 존재 여부 검증
@@ -76,7 +77,7 @@ public class ChatRoomService {
         room.setLastMessageAt(null);
         ChatRoom saved = chatRoomRepository.save(room);
 
-        return ChatRoomResponse.from(saved);
+        return ChatRoomResponse.from(saved, requesterId);
     }
 
     /**
@@ -103,6 +104,33 @@ public class ChatRoomService {
     }
 
 
+    /**
+     * 방에서의 역할 확인 (STOMP 세션 권한 캐시용)
+     * - 방 1건 조회, farmer/user 는 ID 만 비교하므로 추가 조회 없음
+     * - 참여자가 아니면 예외
+     */
+    @Transactional
+    public ChatParticipantRole resolveParticipantRole(Long roomId, Long memberId) {
+        ChatRoom room = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        ChatParticipantRole role = room.roleOf(memberId);
+        if (role == null) {
+            throw new IllegalArgumentException("채팅방 참여자만 접근할 수 있습니다.");
+        }
+        return role;
+    }
+
+    /**
+     * 역할에 맞는 읽음 시간만 UPDATE 로 갱신 (수신 확인 묶음 처리용, 방 조회 없음)
+     */
+    public void markReadByRole(Long roomId, ChatParticipantRole role, LocalDateTime readAt) {
+        if (role == ChatParticipantRole.FARMER) {
+            chatRoomRepository.markReadByFarmer(roomId, readAt);
+        } else {
+            chatRoomRepository.markReadByUser(roomId, readAt);
+        }
+    }
+
     /**
      * 방 상태 변경 (ACTIVE / CLOSED)
      * - 반드시 참여자만 변경 가능
@@ -119,15 +147,16 @@ public class ChatRoomService {
      * - 농장주(farmer)로 참여한 방
      * - 사용자(user)로 참여한 방
      * 둘 다 한 번에 조회하고 최신순으로 정렬
+     * - 엔티티 대신 프로젝션으로 받아서 방 개수와 관계없이 쿼리 1번
      */
     @Transactional
     public List<ChatRoomResponse> myRooms(Long requesterId) {
         if (requesterId == null) {
             throw new IllegalArgumentException("로그인 후 이용해 주세요.");
         }
-        List<ChatRoom> rooms = chatRoomRepository
-                .findByFarmerUserIdOrUserUserIdOrderByUpdatedAtDesc(requesterId, requesterId);
-        return rooms.stream().map(ChatRoomResponse::from).toList();
+        return chatRoomRepository.findRoomListByMemberId(requesterId).stream()
+                .map(ChatRoomResponse::from)
+                .toList();
     }
 
     // 특정 사용자가 해당 방의 참여자인지 검증
@@ -0,0 +1,59 @@
+package com.project.eum.chat.service;
+
+import com.project.eum.chat.entity.ChatParticipantRole;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 하나에 캐시되는 인증/참여 정보
+ *
+ * - CONNECT 때 로그인 회원 ID / 이름을 한 번 조회해 둠
+ * - SUBSCRIBE / SEND 로 처음 접근한 방의 역할(FARMER/USER)을 한 번 확인해 둠
+ *   → 이후 같은 방에 보내는 메시지는 DB 조회 없이 권한 확인
+ * - 방 참여자는 바뀌지 않으므로(농장+농장주+사용자 조합 고유) 세션이 살아있는 동안 유효
+ * - WebSocket 세션 속성(session attributes)에 저장되어 세션 종료 시 함께 사라짐
+ */
+public class ChatSessionAuth {
+
+    /** WebSocket 세션 속성에 저장할 때 사용하는 키 */
+    public static final String SESSION_ATTRIBUTE = "CHAT_SESSION_AUTH";
+
+    private final Long memberId;
+    private final String memberName;
+    private final Map<Long, ChatParticipantRole> roomRoles = new ConcurrentHashMap<>();
+
+    public ChatSessionAuth(Long memberId, String memberName) {
+        this.memberId = memberId;
+        this.memberName = memberName;
+    }
+
+    /**
+     * 세션 속성에서 캐시 꺼내기 (없으면 null)
+     */
+    public static ChatSessionAuth from(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        return (ChatSessionAuth) sessionAttributes.get(SESSION_ATTRIBUTE);
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    /**
+     * 캐시된 방 역할 (아직 확인하지 않은 방이면 null)
+     */
+    public ChatParticipantRole roleIn(Long roomId) {
+        return roomId == null ? null : roomRoles.get(roomId);
+    }
+
+    public void grant(Long roomId, ChatParticipantRole role) {
+        roomRoles.put(roomId, role);
+    }
+}
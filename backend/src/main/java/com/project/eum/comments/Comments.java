@@ -45,6 +45,14 @@ public class Comments {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 답글 수 / 마지막 활동 시간 (상대 UPDATE 로만 변경)
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
+    @Column(name = "last_activity_at", updatable = false)
+    private LocalDateTime lastActivityAt;
+
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Reply> replies = new ArrayList<>();
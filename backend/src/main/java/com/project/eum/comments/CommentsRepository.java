@@ -1,8 +1,16 @@
 package com.project.eum.comments;
 
+import com.project.eum.dto.CollectionVersion;
+import com.project.eum.dto.CommentsResponseDto;
+import com.project.eum.search.IndexedComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -10,5 +18,78 @@ public interface CommentsRepository extends JpaRepository<Comments, Long> {
     // 특정 게시글의 댓글 전체 조회
     List<Comments> findByPost_PostId(Long postId);
 
+    // 특정 게시글의 댓글 + 작성자를 DTO 로 한 번에 조회 (작성순, 페이지 단위)
+    @Query("""
+            select new com.project.eum.dto.CommentsResponseDto(
+                       c.commentId, c.post.postId, a.userId, a.nickname, c.content, c.createdAt)
+              from Comments c
+              join c.author a
+             where c.post.postId = :postId
+             order by c.commentId asc
+            """)
+    List<CommentsResponseDto> findTreeRootsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 댓글 단건 삭제 (답글은 먼저 ReplyRepository.deleteByCommentId 로 삭제)
+    @Modifying
+    @Query("delete from Comments c where c.commentId = :commentId")
+    int deleteByCommentId(@Param("commentId") Long commentId);
+
+    // 게시글의 댓글 일괄 삭제 (답글은 먼저 ReplyRepository.deleteByPostId 로 삭제)
+    @Modifying
+    @Query("delete from Comments c where c.post.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 답글 작성: 답글 수 + 1, 마지막 활동 시간 갱신
+    @Modifying
+    @Query("""
+            update Comments c
+               set c.replyCount = c.replyCount + 1,
+                   c.lastActivityAt = :activityAt
+             where c.commentId = :commentId
+            """)
+    int incrementReplyCount(@Param("commentId") Long commentId, @Param("activityAt") LocalDateTime activityAt);
+
+    // 답글 삭제: 답글 수 - 1 (0 아래로 내려가지 않음)
+    @Modifying
+    @Query("""
+            update Comments c
+               set c.replyCount = case when c.replyCount > 0 then c.replyCount - 1 else 0 end
+             where c.commentId = :commentId
+            """)
+    int decrementReplyCount(@Param("commentId") Long commentId);
+
+    /**
+     * 카운터 보정: 실제 답글 수와 다른 댓글만 한 번에 다시 계산
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE comments c
+              LEFT JOIN (SELECT comment_id, COUNT(*) AS cnt, MAX(created_at) AS last_at
+                           FROM replies
+                          GROUP BY comment_id) r ON r.comment_id = c.comment_id
+               SET c.reply_count = COALESCE(r.cnt, 0),
+                   c.last_activity_at = GREATEST(COALESCE(c.created_at, r.last_at), COALESCE(r.last_at, c.created_at))
+             WHERE c.reply_count <> COALESCE(r.cnt, 0)
+                OR c.last_activity_at IS NULL
+            """, nativeQuery = true)
+    int reconcileCounters();
+
+    // 검색 색인 초기 적재용 (댓글 ID, 게시글 ID, 농장 ID, 내용)
+    @Query("""
+            select new com.project.eum.search.IndexedComment(c.commentId, p.postId, p.farm.farmId, c.content)
+              from Comments c
+              join c.post p
+            """)
+    List<IndexedComment> findAllForSearchIndex();
+
+    // 게시글 댓글 목록 버전 (조건부 GET): 댓글 수, 마지막 수정 시각, id 합
+    @Query("""
+            select new com.project.eum.dto.CollectionVersion(
+                       count(c), max(c.updatedAt), coalesce(sum(c.commentId), 0L))
+              from Comments c
+             where c.post.postId = :postId
+            """)
+    CollectionVersion findCollectionVersionByPostId(@Param("postId") Long postId);
+
     // 필요시 추가 쿼리 메서드 작성 가능
 }
@@ -0,0 +1,27 @@
+package com.project.eum.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러
+ *
+ * - WebSocket 브로커가 자체 TaskScheduler 빈(messageBrokerTaskScheduler)을 등록하므로
+ *   Boot 기본 스케줄러가 만들어지지 않고, 이름이 taskScheduler 인 빈이 없으면 단일 스레드로 실행됨
+ * - 수신 확인/접속 현황/게시판 전송처럼 짧은 주기 작업이 다른 작업에 막히지 않게 여러 스레드로 실행
+ * - 오래 걸리는 작업(고아 객체 정리, Base64 이전)은 자체 실행기로 넘기고 여기서는 시작만 함
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
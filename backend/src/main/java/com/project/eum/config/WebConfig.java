@@ -21,6 +21,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 // 모든 요청 헤더 허용
                 .allowedHeaders("*")
+                // 조건부 GET 용 헤더를 프론트에서 읽을 수 있게 노출
+                .exposedHeaders("ETag", "Last-Modified", "Content-Disposition")
                 // 인증 정보(쿠키, Authorization 헤더 등) 허용
                 .allowCredentials(true);
     }
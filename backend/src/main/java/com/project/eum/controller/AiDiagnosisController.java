@@ -2,16 +2,21 @@ package com.project.eum.controller;
 
 import com.project.eum.config.SessionConst;
 import com.project.eum.dto.AiDiagnosisResponse;
+import com.project.eum.dto.DiagnosisShareRequest;
 import com.project.eum.dto.DiaryResponse;
 import com.project.eum.service.AiDiagnosisService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.function.Supplier;
+
 /**
  * AI 작물 진단 관련 REST API 컨트롤러
  * 작물 이미지를 분석하여 질병을 진단하고 관리 방법을 제공합니다.
@@ -65,9 +70,10 @@ public class AiDiagnosisController {
 
     /**
      * 진단 결과를 재배일기로 공유
+     * - 처음 공유하면 201, 이미 공유한 진단 결과면 같은 일기를 200 으로 반환
      * @param diagnosisId 진단 결과 ID
      * @param session HTTP 세션
-     * @return 생성된 일기 정보
+     * @return 생성된(또는 이미 공유된) 일기 정보
      */
     @PostMapping("/diagnosis/{diagnosisId}/share-to-diary")
     public ResponseEntity<DiaryResponse> shareDiagnosisToDiary(
@@ -82,13 +88,51 @@ public class AiDiagnosisController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
+        return share(() -> aiDiagnosisService.shareDiagnosisToDiary(diagnosisId, memberId));
+    }
+
+    /**
+     * 여러 진단 결과를 한 재배일기로 공유
+     * - ID 목록이 비었거나 너무 많으면 400, 찾을 수 없는 진단 결과가 있으면 404
+     * @param request 진단 결과 ID 목록, 제목/날짜 (선택사항)
+     * @param session HTTP 세션
+     * @return 생성된(또는 이미 공유된) 일기 정보
+     */
+    @PostMapping("/diagnosis/share-to-diary")
+    public ResponseEntity<DiaryResponse> shareDiagnosesToDiary(
+            @RequestBody DiagnosisShareRequest request,
+            HttpSession session
+    ) {
+        Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return share(() -> aiDiagnosisService.shareDiagnosesToDiary(
+                memberId, request.getDiagnosisIds(), request.getTitle(), request.getDate()));
+    }
+
+    private ResponseEntity<DiaryResponse> share(Supplier<AiDiagnosisService.ShareResult> action) {
         try {
-            DiaryResponse diary = aiDiagnosisService.shareDiagnosisToDiary(diagnosisId, memberId);
-            log.info("진단 결과 재배일기 공유 완료: diaryId={}", diary.getDiaryId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(diary);
-        } catch (IllegalArgumentException e) {
+            AiDiagnosisService.ShareResult result;
+            try {
+                result = action.get();
+            } catch (DataIntegrityViolationException e) {
+                // 같은 진단 결과를 동시에 공유 → 먼저 저장된 공유 기록으로 다시 처리
+                result = action.get();
+            }
+            log.info("진단 결과 재배일기 공유 완료: diaryId={}, created={}",
+                    result.diary().getDiaryId(), result.created());
+            return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK).body(result.diary());
+        } catch (EntityNotFoundException e) {
             log.warn("진단 결과 재배일기 공유 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("진단 결과 재배일기 공유 요청 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            log.warn("진단 결과 재배일기 공유 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("진단 결과 재배일기 공유 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -1,12 +1,15 @@
 package com.project.eum.controller;
 
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.CommentsRequest;
 import com.project.eum.dto.CommentsResponseDto;
 import com.project.eum.dto.CommentsUpdateRequest;
 import com.project.eum.service.CommentsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,10 +20,20 @@ public class CommentsController {
 
     private final CommentsService commentsService;
 
-    // 댓글 보기
+    // 댓글 보기 (답글 포함, size 를 주면 댓글을 page 단위로 조회)
+    // - ETag/Last-Modified 가 같으면 댓글을 읽지 않고 304
     @GetMapping
-    public List<CommentsResponseDto> getComments(@RequestParam Long postId) {
-        return commentsService.getCommentsByPostId(postId);
+    public ResponseEntity<List<CommentsResponseDto>> getComments(@RequestParam Long postId,
+                                                                 @RequestParam(required = false) Integer page,
+                                                                 @RequestParam(required = false) Integer size,
+                                                                 WebRequest webRequest) {
+        CollectionVersion version = commentsService.getCommentsVersion(postId);
+        if (webRequest.checkNotModified(version.eTag("comments-" + postId), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(commentsService.getCommentsByPostId(postId, page, size));
     }
 
     // 댓글 작성
@@ -1,16 +1,27 @@
 package com.project.eum.controller;
 
 import com.project.eum.config.SessionConst;
+import com.project.eum.dto.DiaryCalendarResponse;
 import com.project.eum.dto.DiaryRequest;
 import com.project.eum.dto.DiaryResponse;
+import com.project.eum.dto.DiaryTimelineResponse;
+import com.project.eum.service.DiaryExportService;
 import com.project.eum.service.DiaryService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -23,6 +34,7 @@ import java.util.List;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryExportService diaryExportService;
 
     /**
      * 사용자의 일기 목록 조회 (최신순)
@@ -40,6 +52,88 @@ public class DiaryController {
         return ResponseEntity.ok(diaries);
     }
 
+    /**
+     * 일기 타임라인 (목록용, 커서 페이지네이션)
+     * @param cursorSortAt 직전 응답의 nextCursorSortAt (첫 페이지는 생략)
+     * @param cursorId 직전 응답의 nextCursorId (첫 페이지는 생략)
+     * @param size 페이지 크기 (선택사항, 최대 50)
+     * @param session HTTP 세션
+     * @return 일기 타임라인 한 페이지
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<DiaryTimelineResponse> getTimeline(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorSortAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size,
+            HttpSession session
+    ) {
+        Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(diaryService.getTimeline(memberId, cursorSortAt, cursorId, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 한 달 일기 달력 (일기가 있는 날의 일기 수 + 썸네일)
+     * @param month 조회할 달 (yyyy-MM, 생략하면 이번 달)
+     * @param session HTTP 세션
+     * @return 일기 달력
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<DiaryCalendarResponse> getCalendar(
+            @RequestParam(required = false) YearMonth month,
+            HttpSession session
+    ) {
+        Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        YearMonth target = month != null ? month : YearMonth.now();
+        return ResponseEntity.ok(diaryService.getCalendar(memberId, target));
+    }
+
+    /**
+     * 일기 내보내기 (ZIP, 응답으로 바로 스트리밍)
+     * @param from 선택한 날짜 시작 (yyyy-MM-dd, 선택사항)
+     * @param to 선택한 날짜 끝 (yyyy-MM-dd, 포함, 선택사항)
+     * @param session HTTP 세션
+     * @param response ZIP 을 쓸 HTTP 응답
+     */
+    @GetMapping("/export")
+    public void exportDiaries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpSession session,
+            HttpServletResponse response
+    ) throws IOException {
+        Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+
+        try {
+            diaryExportService.validateRange(from, to);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        String filename = "diary_" + (from != null ? from : "start") + "_" + (to != null ? to : "end") + ".zip";
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        diaryExportService.export(memberId, from, to, response.getOutputStream());
+    }
+
     /**
      * 일기 상세 조회
      * @param diaryId 일기 ID
@@ -65,14 +159,22 @@ public class DiaryController {
     }
 
     /**
-     * 일기 검색 (내용에 키워드 포함)
+     * 일기 검색 (제목 + 내용, 관련도 순)
      * @param keyword 검색 키워드
+     * @param from 선택한 날짜 시작 (yyyy-MM-dd, 선택사항)
+     * @param to 선택한 날짜 끝 (yyyy-MM-dd, 포함, 선택사항)
+     * @param page 페이지 번호 (0부터, 선택사항)
+     * @param size 페이지 크기 (선택사항, 최대 100)
      * @param session HTTP 세션
      * @return 검색된 일기 목록
      */
     @GetMapping("/search")
     public ResponseEntity<List<DiaryResponse>> searchDiaries(
-            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "") String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
             HttpSession session
     ) {
         Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
@@ -80,8 +182,12 @@ public class DiaryController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        List<DiaryResponse> diaries = diaryService.searchDiaries(memberId, keyword);
-        return ResponseEntity.ok(diaries);
+        try {
+            List<DiaryResponse> diaries = diaryService.searchDiaries(memberId, keyword, from, to, page, size);
+            return ResponseEntity.ok(diaries);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
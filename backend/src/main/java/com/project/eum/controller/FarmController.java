@@ -1,6 +1,7 @@
 package com.project.eum.controller;
 
 import com.project.eum.config.SessionConst;
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.CreateFarmRequest;
 import com.project.eum.dto.FarmResponse;
 import com.project.eum.farm.Farm;
@@ -9,9 +10,11 @@ import com.project.eum.dto.UpdateFarmRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,9 +26,16 @@ public class FarmController {
 
     private final FarmService farmService;
 
+    // 농장 목록 (ETag/Last-Modified 가 같으면 목록을 읽지 않고 304)
     @GetMapping
-    public ResponseEntity<?> listFarms() {
-        return ResponseEntity.ok(farmService.getAllFarms());
+    public ResponseEntity<?> listFarms(WebRequest webRequest) {
+        CollectionVersion version = farmService.getFarmsVersion();
+        if (webRequest.checkNotModified(version.eTag("farms"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(farmService.getAllFarms());
     }
 
     @PostMapping
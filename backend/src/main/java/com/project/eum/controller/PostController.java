@@ -1,15 +1,23 @@
 package com.project.eum.controller;
 
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.PostCreateRequest;
 import com.project.eum.dto.PostResponseDto;
 import com.project.eum.dto.PostUpdateRequest;
+import com.project.eum.post.PostType;
+import com.project.eum.service.CommunitySearchService;
 import com.project.eum.service.PostService;
+import com.project.eum.service.TrendingPostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @CrossOrigin(origins = "http://localhost:5173")
@@ -19,10 +27,59 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final CommunitySearchService communitySearchService;
+    private final TrendingPostService trendingPostService;
 
+    // 전체 게시글 (ETag/Last-Modified 가 같으면 목록을 읽지 않고 304)
+    @Deprecated
     @GetMapping
-    public ResponseEntity<List<PostResponseDto>> getAllPosts() {
-        return ResponseEntity.ok(postService.getAllPosts());
+    public ResponseEntity<List<PostResponseDto>> getAllPosts(WebRequest webRequest) {
+        CollectionVersion version = postService.getPostsVersion();
+        if (webRequest.checkNotModified(version.eTag("posts"), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(postService.getAllPosts());
+    }
+
+    // 농장별 게시판 피드 (최신순, 커서 기반 페이지네이션)
+    @GetMapping("/feed")
+    public ResponseEntity<?> getFeed(@RequestParam Long farmId,
+                                     @RequestParam(required = false) PostType type,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                     @RequestParam(required = false) Long cursorId,
+                                     @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(postService.getFeed(farmId, type, cursorCreatedAt, cursorId, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 농장 게시판 검색 (제목/본문/댓글, 관련도 순)
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam Long farmId,
+                                    @RequestParam("q") String query,
+                                    @RequestParam(required = false) Integer page,
+                                    @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(communitySearchService.search(farmId, query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // 농장 인기글 (댓글/답글 활동 기반, 시간이 지나면 점수 감소)
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrending(@RequestParam Long farmId,
+                                         @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(trendingPostService.getTrending(farmId, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     // ✅ JSON만 받기 (이미지는 나중에 추가)
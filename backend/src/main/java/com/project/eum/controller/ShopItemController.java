@@ -1,12 +1,15 @@
 package com.project.eum.controller;
 
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.ShopCatalogItemResponse;
 import com.project.eum.shop.ShopItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,9 +23,18 @@ public class ShopItemController {
 
     private final ShopItemService shopItemService;
 
+    /**
+     * 카탈로그 조회. ETag/Last-Modified 가 같으면 아이템을 읽지 않고 304 를 반환한다.
+     */
     @GetMapping
-    public ResponseEntity<List<ShopCatalogItemResponse>> getCatalogItems() {
+    public ResponseEntity<List<ShopCatalogItemResponse>> getCatalogItems(WebRequest webRequest) {
+        CollectionVersion version = shopItemService.getCatalogVersion();
+        if (webRequest.checkNotModified(version.eTag("shop-items"), version.lastModifiedMillis())) {
+            return null;
+        }
         List<ShopCatalogItemResponse> catalogItems = shopItemService.getCatalogItems();
-        return ResponseEntity.ok(catalogItems);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(catalogItems);
     }
 }
@@ -0,0 +1,57 @@
+package com.project.eum.controller;
+
+import com.project.eum.config.SessionConst;
+import com.project.eum.dto.UploadConfirmRequest;
+import com.project.eum.dto.UploadPresignRequest;
+import com.project.eum.service.UploadService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 이미지 직접 업로드(Presigned PUT) REST 컨트롤러.
+ */
+@RestController
+@RequestMapping({"/api/uploads", "/uploads"})
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    /**
+     * 직접 업로드 URL 발급
+     */
+    @PostMapping("/presign")
+    public ResponseEntity<?> presign(@RequestBody UploadPresignRequest request, HttpSession session) {
+        Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            return ResponseEntity.ok(uploadService.presign(memberId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 직접 업로드 완료 확인
+     */
+    @PostMapping("/confirm")
+    public ResponseEntity<?> confirm(@RequestBody UploadConfirmRequest request, HttpSession session) {
+        Long memberId = (Long) session.getAttribute(SessionConst.LOGIN_MEMBER_ID);
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        if (request == null || request.key() == null) {
+            return ResponseEntity.badRequest().body("업로드한 파일 정보를 입력해 주세요.");
+        }
+        try {
+            return ResponseEntity.ok(uploadService.confirm(memberId, request.key()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.eum.diagnosis;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진단 결과 → 재배일기 공유 기록
+ * - diagnosis_id 유니크: 진단 결과 하나는 한 일기에만 공유됨 (다시 요청하면 같은 일기 반환)
+ * - 여러 진단 결과를 한 일기로 공유하면 같은 diary_id 로 여러 행
+ * - 일기/진단 삭제 시 DB FK(ON DELETE CASCADE)로 함께 삭제
+ */
+@Entity
+@Table(
+        name = "diagnosis_diary_links",
+        uniqueConstraints = @UniqueConstraint(name = "uk_diagnosis_diary_links_diagnosis", columnNames = "diagnosis_id"),
+        indexes = @Index(name = "idx_diagnosis_diary_links_diary", columnList = "diary_id")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisDiaryLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "link_id")
+    private Long linkId;
+
+    @Column(name = "diagnosis_id", nullable = false)
+    private Long diagnosisId;
+
+    @Column(name = "diary_id", nullable = false)
+    private Long diaryId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
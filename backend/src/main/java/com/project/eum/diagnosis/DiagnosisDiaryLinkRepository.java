@@ -0,0 +1,22 @@
+package com.project.eum.diagnosis;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 진단 결과 → 재배일기 공유 기록 리포지토리
+ */
+public interface DiagnosisDiaryLinkRepository extends JpaRepository<DiagnosisDiaryLink, Long> {
+
+    List<DiagnosisDiaryLink> findByUserIdAndDiagnosisIdIn(Long userId, Collection<Long> diagnosisIds);
+
+    // 일기가 이미 지워진 공유 기록 정리 (FK 가 없는 환경 대비)
+    @Modifying
+    @Query("delete from DiagnosisDiaryLink l where l.diaryId = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+}
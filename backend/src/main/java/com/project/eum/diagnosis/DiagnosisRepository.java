@@ -1,7 +1,13 @@
 package com.project.eum.diagnosis;
 
+import com.project.eum.service.PhotoReference;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -9,6 +15,17 @@ import java.util.Optional;
  */
 public interface DiagnosisRepository extends JpaRepository<Diagnosis, Long> {
     Optional<Diagnosis> findByDiagnosisIdAndUserId(Long diagnosisId, Long userId);
+
+    List<Diagnosis> findByUserIdAndDiagnosisIdIn(Long userId, Collection<Long> diagnosisIds);
+
+    /**
+     * 고아 객체 정리용 이미지 URL 목록 (diagnosis_id 순, afterId 다음부터)
+     */
+    @Query("SELECT new com.project.eum.service.PhotoReference(d.diagnosisId, d.photoUrl) FROM Diagnosis d " +
+            "WHERE d.diagnosisId > :afterId AND d.photoUrl LIKE :urlPrefix ORDER BY d.diagnosisId")
+    List<PhotoReference> findPhotoReferences(@Param("afterId") Long afterId,
+                                             @Param("urlPrefix") String urlPrefix,
+                                             Pageable pageable);
 }
 
 
@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
  * 사용자의 재배 일기 정보를 저장합니다.
  */
 @Entity
-@Table(name = "diaries")
+@Table(
+        name = "diaries",
+        indexes = {
+                @Index(name = "idx_diaries_user_select", columnList = "user_id,select_at"),
+                @Index(name = "idx_diaries_user_sort", columnList = "user_id,sort_at,diary_id")
+        }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -53,6 +59,14 @@ public class Diary {
     @Column(name = "select_at")
     private LocalDateTime selectAt;
 
+    /**
+     * 정렬용 생성 컬럼 (DB 가 계산, 읽기 전용)
+     * - COALESCE(select_at, '1000-01-01') → 날짜 없는 일기가 내림차순에서 마지막
+     * - CASE WHEN 정렬 대신 (user_id, sort_at, diary_id) 인덱스 순서로 바로 읽기 위함
+     */
+    @Column(name = "sort_at", insertable = false, updatable = false)
+    private LocalDateTime sortAt;
+
     /**
      * 일기 제목 수정
      * @param title 새로운 제목
@@ -71,7 +85,7 @@ public class Diary {
 
     /**
      * 일기 이미지 URL 수정
-     * @param photoUrl 새로운 이미지 URL (Base64 Data URL 형식)
+     * @param photoUrl 새로운 이미지 URL (Object Storage 공개 URL)
      */
     public void updatePhotoUrl(String photoUrl) {
         this.photoUrl = photoUrl;
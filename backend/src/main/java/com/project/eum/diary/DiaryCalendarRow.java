@@ -0,0 +1,9 @@
+package com.project.eum.diary;
+
+/**
+ * 일기 달력 집계 행 (한 달 안의 하루)
+ * - day: 일(1~31)
+ * - photoUrl: 그날 일기 중 Object Storage 이미지 하나 (없으면 null)
+ */
+public record DiaryCalendarRow(Integer day, Long entryCount, String photoUrl) {
+}
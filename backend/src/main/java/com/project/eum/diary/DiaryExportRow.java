@@ -0,0 +1,19 @@
+package com.project.eum.diary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 내보내기 한 건 (페이지 조회용 프로젝션, 영속성 컨텍스트에 쌓이지 않음)
+ * - hasPhoto: 이미지가 있는지만 (이미지 값은 내보낼 때 한 건씩 읽음)
+ * - sortAt: 다음 페이지 keyset 값
+ */
+public record DiaryExportRow(
+        Long diaryId,
+        String title,
+        String content,
+        Boolean hasPhoto,
+        LocalDateTime selectAt,
+        LocalDateTime createdAt,
+        LocalDateTime sortAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.project.eum.diary;
+
+/**
+ * 이미지가 URL 이 아닌 값(Base64 등)으로 저장된 일기 (네이티브 쿼리 프로젝션, 이미지 컬럼 제외)
+ */
+public interface DiaryPhotoCandidate {
+
+    Long getDiaryId();
+
+    Long getUserId();
+}
@@ -0,0 +1,30 @@
+package com.project.eum.diary;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 이미지 이전 작업(DiaryPhotoMigrationJob)이 건너뛴 일기
+ * - 이미지로 해석할 수 없는 값 → 재시작할 때마다 다시 읽고 디코딩하지 않도록 대상에서 제외
+ * - 행을 지우면 다음 실행 때 다시 시도
+ * - 행 추가는 네이티브 upsert 로만 함 (DiaryPhotoMigrationSkipRepository)
+ */
+@Entity
+@Table(name = "diary_photo_migration_skips")
+@Getter
+@NoArgsConstructor
+public class DiaryPhotoMigrationSkip {
+
+    @Id
+    @Column(name = "diary_id")
+    private Long diaryId;
+
+    @Column(name = "reason", nullable = false, length = 64)
+    private String reason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
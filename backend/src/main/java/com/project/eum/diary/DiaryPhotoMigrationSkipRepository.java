@@ -0,0 +1,22 @@
+package com.project.eum.diary;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface DiaryPhotoMigrationSkipRepository extends JpaRepository<DiaryPhotoMigrationSkip, Long> {
+
+    // 건너뛴 일기 기록 (이미 있으면 사유/시각만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO diary_photo_migration_skips (diary_id, reason, created_at)
+            VALUES (:diaryId, :reason, :now)
+            ON DUPLICATE KEY UPDATE reason = :reason, created_at = :now
+            """, nativeQuery = true)
+    int record(@Param("diaryId") Long diaryId, @Param("reason") String reason, @Param("now") LocalDateTime now);
+}
@@ -1,10 +1,18 @@
 package com.project.eum.diary;
 
+import com.project.eum.dto.DiaryTimelineItem;
+import com.project.eum.search.IndexedDiary;
+import com.project.eum.service.PhotoReference;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 일기 데이터 접근을 위한 리포지토리
@@ -16,21 +24,172 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
      * @param userId 사용자 ID
      * @return 일기 목록
      */
-    @Query("SELECT d FROM Diary d WHERE d.userId = :userId ORDER BY " +
-            "CASE WHEN d.selectAt IS NULL THEN 1 ELSE 0 END, " +
-            "d.selectAt DESC, d.createdAt DESC")
+    @Query("SELECT d FROM Diary d WHERE d.userId = :userId ORDER BY d.sortAt DESC, d.diaryId DESC")
     List<Diary> findByUserIdOrderBySelectAtDesc(@Param("userId") Long userId);
 
     /**
-     * 사용자별 일기 검색 (내용에 키워드 포함, 선택한 날짜 기준 정렬)
-     * @param userId 사용자 ID
-     * @param keyword 검색 키워드
-     * @return 검색된 일기 목록
+     * 일기 타임라인 첫 페이지 (목록용 프로젝션, (user_id, sort_at, diary_id) 인덱스 순서)
+     * - 내용은 앞부분만, 이미지는 Object Storage URL 일 때만 조회 (Base64 데이터는 읽어 오지 않음)
      */
-    @Query("SELECT d FROM Diary d WHERE d.userId = :userId AND d.content LIKE %:keyword% ORDER BY " +
-            "CASE WHEN d.selectAt IS NULL THEN 1 ELSE 0 END, " +
-            "d.selectAt DESC, d.createdAt DESC")
-    List<Diary> findByUserIdAndContentContaining(@Param("userId") Long userId, @Param("keyword") String keyword);
+    @Query("SELECT new com.project.eum.dto.DiaryTimelineItem(" +
+            "d.diaryId, d.title, SUBSTRING(d.content, 1, 121), " +
+            "CASE WHEN d.photoUrl LIKE 'http%' THEN d.photoUrl ELSE NULL END, " +
+            "CASE WHEN d.photoUrl IS NOT NULL THEN TRUE ELSE FALSE END, " +
+            "d.selectAt, d.createdAt, d.sortAt) " +
+            "FROM Diary d WHERE d.userId = :userId " +
+            "ORDER BY d.sortAt DESC, d.diaryId DESC")
+    List<DiaryTimelineItem> findTimeline(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 일기 타임라인 다음 페이지 (keyset: 직전 페이지 마지막 일기의 (sort_at, diary_id) 이후)
+     */
+    @Query("SELECT new com.project.eum.dto.DiaryTimelineItem(" +
+            "d.diaryId, d.title, SUBSTRING(d.content, 1, 121), " +
+            "CASE WHEN d.photoUrl LIKE 'http%' THEN d.photoUrl ELSE NULL END, " +
+            "CASE WHEN d.photoUrl IS NOT NULL THEN TRUE ELSE FALSE END, " +
+            "d.selectAt, d.createdAt, d.sortAt) " +
+            "FROM Diary d WHERE d.userId = :userId " +
+            "AND (d.sortAt < :cursorSortAt OR (d.sortAt = :cursorSortAt AND d.diaryId < :cursorId)) " +
+            "ORDER BY d.sortAt DESC, d.diaryId DESC")
+    List<DiaryTimelineItem> findTimelineAfter(@Param("userId") Long userId,
+                                              @Param("cursorSortAt") LocalDateTime cursorSortAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    /**
+     * 한 달 일기 달력 집계 (선택한 날짜 기준, (user_id, select_at) 인덱스 범위)
+     * - 날짜를 고르지 않은 일기는 달력에 나오지 않음
+     */
+    @Query("SELECT new com.project.eum.diary.DiaryCalendarRow(" +
+            "EXTRACT(DAY FROM d.selectAt), COUNT(d), " +
+            "MAX(CASE WHEN d.photoUrl LIKE 'http%' THEN d.photoUrl ELSE NULL END)) " +
+            "FROM Diary d WHERE d.userId = :userId " +
+            "AND d.selectAt >= :fromAt AND d.selectAt < :toAt " +
+            "GROUP BY EXTRACT(DAY FROM d.selectAt) " +
+            "ORDER BY EXTRACT(DAY FROM d.selectAt)")
+    List<DiaryCalendarRow> findCalendar(@Param("userId") Long userId,
+                                        @Param("fromAt") LocalDateTime fromAt,
+                                        @Param("toAt") LocalDateTime toAt);
+
+    /**
+     * 사용자별 일기 전문 검색 (MySQL FULLTEXT ngram, 제목 + 내용)
+     * - BOOLEAN MODE 구문 검색: query 는 큰따옴표로 감싼 구문 ("토마토 물주기")
+     *   → bigram 이 모두 이어서 나오는 일기만 (NATURAL LANGUAGE MODE 처럼 bigram 하나만 맞아도 걸리지 않음)
+     * - 관련도 높은 순, 같은 점수면 선택한 날짜 최신 순
+     * - fromAt / toAt 이 있으면 select_at 범위 [fromAt, toAt) 로 제한
+     */
+    @Query(value = """
+            SELECT d.diary_id AS diaryId,
+                   MATCH(d.title, d.content) AGAINST (:query IN BOOLEAN MODE) AS score
+              FROM diaries d
+             WHERE d.user_id = :userId
+               AND MATCH(d.title, d.content) AGAINST (:query IN BOOLEAN MODE)
+               AND (:fromAt IS NULL OR d.select_at >= :fromAt)
+               AND (:toAt IS NULL OR d.select_at < :toAt)
+             ORDER BY score DESC, d.sort_at DESC, d.diary_id DESC
+             LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<DiarySearchRow> searchFullText(@Param("userId") Long userId,
+                                        @Param("query") String query,
+                                        @Param("fromAt") LocalDateTime fromAt,
+                                        @Param("toAt") LocalDateTime toAt,
+                                        @Param("limit") int limit,
+                                        @Param("offset") int offset);
+
+    /**
+     * 전문 검색 색인으로 찾을 수 없는 짧은(1글자) 검색어 / 날짜만으로 검색
+     * - 사용자 일기 범위 안에서만 LIKE (제목 + 내용), 선택한 날짜 기준 정렬
+     * @param keyword 검색 키워드 (빈 문자열이면 날짜 조건만 적용)
+     */
+    @Query("SELECT d FROM Diary d WHERE d.userId = :userId " +
+            "AND (:keyword = '' OR d.title LIKE CONCAT('%', :keyword, '%') OR d.content LIKE CONCAT('%', :keyword, '%')) " +
+            "AND (:fromAt IS NULL OR d.selectAt >= :fromAt) " +
+            "AND (:toAt IS NULL OR d.selectAt < :toAt) " +
+            "ORDER BY d.sortAt DESC, d.diaryId DESC")
+    List<Diary> searchByKeyword(@Param("userId") Long userId,
+                                @Param("keyword") String keyword,
+                                @Param("fromAt") LocalDateTime fromAt,
+                                @Param("toAt") LocalDateTime toAt,
+                                Pageable pageable);
+
+    /**
+     * 검색 색인 초기 적재용 (이미지 컬럼 제외)
+     */
+    @Query("SELECT new com.project.eum.search.IndexedDiary(d.diaryId, d.userId, d.title, d.content, d.selectAt) " +
+            "FROM Diary d")
+    List<IndexedDiary> findAllForSearchIndex();
+
+    /**
+     * 이미지가 Object Storage URL 이 아닌 일기 (diary_id 순, afterId 다음부터)
+     * - 이미지 값은 읽지 않고 ID 만 조회 (한 건씩 따로 읽어서 처리)
+     * - 이미 건너뛴 일기(diary_photo_migration_skips)는 제외
+     */
+    @Query(value = """
+            SELECT d.diary_id AS diaryId, d.user_id AS userId
+              FROM diaries d
+             WHERE d.diary_id > :afterId
+               AND d.photo_url IS NOT NULL
+               AND d.photo_url <> ''
+               AND d.photo_url NOT LIKE 'http%'
+               AND NOT EXISTS (SELECT 1 FROM diary_photo_migration_skips s WHERE s.diary_id = d.diary_id)
+             ORDER BY d.diary_id
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<DiaryPhotoCandidate> findInlinePhotoCandidates(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT COUNT(*)
+              FROM diaries d
+             WHERE d.photo_url IS NOT NULL
+               AND d.photo_url <> ''
+               AND d.photo_url NOT LIKE 'http%'
+               AND NOT EXISTS (SELECT 1 FROM diary_photo_migration_skips s WHERE s.diary_id = d.diary_id)
+            """, nativeQuery = true)
+    long countInlinePhotos();
+
+    @Query("SELECT d.photoUrl FROM Diary d WHERE d.diaryId = :diaryId")
+    Optional<String> findPhotoUrlById(@Param("diaryId") Long diaryId);
+
+    /**
+     * 인라인 이미지를 업로드한 URL 로 교체
+     * - 그 사이 이미지가 URL 로 바뀌었으면 (사용자 수정) 0 반환
+     * - updated_at 은 그대로 둠 (사용자가 수정한 것이 아님)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Diary d SET d.photoUrl = :photoUrl " +
+            "WHERE d.diaryId = :diaryId AND d.photoUrl NOT LIKE 'http%'")
+    int replaceInlinePhotoUrl(@Param("diaryId") Long diaryId, @Param("photoUrl") String photoUrl);
+
+    /**
+     * 일기 내보내기 한 페이지 (정렬 날짜 범위, 오래된 순)
+     * - 이미지 값(LONGTEXT, Base64 일 수 있음)은 읽지 않고 있는지만 조회 → 사진은 한 건씩 findPhotoUrlById
+     * - keyset: 직전 페이지 마지막 일기의 (sort_at, diary_id) 이후, (user_id, sort_at, diary_id) 인덱스 순서
+     * - 첫 페이지는 afterSortAt = fromAt, afterId = 0
+     */
+    @Query("SELECT new com.project.eum.diary.DiaryExportRow(" +
+            "d.diaryId, d.title, d.content, " +
+            "CASE WHEN d.photoUrl IS NOT NULL AND d.photoUrl <> '' THEN TRUE ELSE FALSE END, " +
+            "d.selectAt, d.createdAt, d.sortAt) " +
+            "FROM Diary d WHERE d.userId = :userId " +
+            "AND d.sortAt >= :fromAt AND d.sortAt < :toAt " +
+            "AND (d.sortAt > :afterSortAt OR (d.sortAt = :afterSortAt AND d.diaryId > :afterId)) " +
+            "ORDER BY d.sortAt, d.diaryId")
+    List<DiaryExportRow> findExportPage(@Param("userId") Long userId,
+                                        @Param("fromAt") LocalDateTime fromAt,
+                                        @Param("toAt") LocalDateTime toAt,
+                                        @Param("afterSortAt") LocalDateTime afterSortAt,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    /**
+     * 고아 객체 정리용 이미지 URL 목록 (diary_id 순, afterId 다음부터)
+     */
+    @Query("SELECT new com.project.eum.service.PhotoReference(d.diaryId, d.photoUrl) FROM Diary d " +
+            "WHERE d.diaryId > :afterId AND d.photoUrl LIKE :urlPrefix ORDER BY d.diaryId")
+    List<PhotoReference> findPhotoReferences(@Param("afterId") Long afterId,
+                                             @Param("urlPrefix") String urlPrefix,
+                                             Pageable pageable);
 
     /**
      * 사용자별 일기 존재 여부 확인
@@ -39,5 +198,10 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
      * @return 존재 여부
      */
     boolean existsByUserIdAndDiaryId(Long userId, Long diaryId);
+
+    /**
+     * 이미지 URL 을 쓰는 본인 일기가 있는지 (직접 업로드 이미지 재사용 방지)
+     */
+    boolean existsByUserIdAndPhotoUrl(Long userId, String photoUrl);
 }
 
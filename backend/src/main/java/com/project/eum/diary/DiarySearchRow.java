@@ -0,0 +1,11 @@
+package com.project.eum.diary;
+
+/**
+ * 일기 전문 검색 결과 행 (네이티브 쿼리 프로젝션)
+ */
+public interface DiarySearchRow {
+
+    Long getDiaryId();
+
+    Double getScore();
+}
@@ -29,6 +29,9 @@ public class AiDiagnosisResponse {
     // 진단 결과 ID (재배일기 공유용)
     private Long diagnosisId;  
 
+    // 진단 이미지 URL (Object Storage 업로드 실패 시 빈 문자열)
+    private String photoUrl;
+
     public AiDiagnosisResponse() {
     }
 
@@ -133,5 +136,13 @@ public class AiDiagnosisResponse {
     public void setDiagnosisId(Long diagnosisId) {
         this.diagnosisId = diagnosisId;
     }
+
+    public String getPhotoUrl() {
+        return photoUrl;
+    }
+
+    public void setPhotoUrl(String photoUrl) {
+        this.photoUrl = photoUrl;
+    }
 }
 
@@ -0,0 +1,14 @@
+package com.project.eum.dto;
+
+import com.project.eum.post.BoardChangeType;
+
+/**
+ * 게시판 변경 한 건 (클라이언트는 해당 글/댓글만 다시 불러오면 됨)
+ */
+public record BoardChangeResponse(
+        BoardChangeType type,
+        Long postId,
+        Long commentId,
+        Long replyId
+) {
+}
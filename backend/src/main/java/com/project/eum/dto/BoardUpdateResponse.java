@@ -0,0 +1,14 @@
+package com.project.eum.dto;
+
+import java.util.List;
+
+/**
+ * 실시간 게시판 업데이트 프레임
+ * - /topic/farm/{farmId}/board 로 전송
+ * - 짧은 시간 안에 생긴 변경을 한 프레임으로 묶어서 보냄
+ */
+public record BoardUpdateResponse(
+        Long farmId,
+        List<BoardChangeResponse> changes
+) {
+}
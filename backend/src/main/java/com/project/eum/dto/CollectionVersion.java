@@ -0,0 +1,59 @@
+package com.project.eum.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 목록 응답의 버전 (조건부 GET 용 ETag / Last-Modified)
+ *
+ * - 목록을 읽지 않고 집계 쿼리 한 번으로 만듦 (JPQL 생성자 프로젝션, sum 은 coalesce 로 0 처리)
+ *   count     : 행 수 (삭제 감지)
+ *   modifiedAt: max(updated_at) (작성·수정 감지)
+ *   checksum  : 카운터 합 등 updated_at 이 바뀌지 않는 변경 감지용 값
+ */
+public record CollectionVersion(long count, LocalDateTime modifiedAt, long checksum) {
+
+    // 수정 시각 컬럼이 두 개인 경우 (더 늦은 쪽 사용)
+    public CollectionVersion(long count, LocalDateTime modifiedAt, LocalDateTime otherModifiedAt, long checksum) {
+        this(count, later(modifiedAt, otherModifiedAt), checksum);
+    }
+
+    /**
+     * 두 버전을 합침 (댓글 + 답글처럼 테이블 두 개로 이루어진 응답)
+     */
+    public CollectionVersion combine(CollectionVersion other) {
+        return new CollectionVersion(
+                count + other.count,
+                later(modifiedAt, other.modifiedAt),
+                checksum * 31 + other.checksum + other.count
+        );
+    }
+
+    /**
+     * 강한 ETag (예: "posts-12-18f3a2c9b10-1c")
+     */
+    public String eTag(String resource) {
+        return "\"" + resource + "-" + Long.toHexString(count)
+                + "-" + Long.toHexString(lastModifiedMillis())
+                + "-" + Long.toHexString(checksum) + "\"";
+    }
+
+    /**
+     * Last-Modified 값 (epoch ms, 없으면 -1 → 헤더 생략)
+     */
+    public long lastModifiedMillis() {
+        return modifiedAt != null
+                ? modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1L;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
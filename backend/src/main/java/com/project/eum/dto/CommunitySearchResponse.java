@@ -0,0 +1,14 @@
+package com.project.eum.dto;
+
+import java.util.List;
+
+/**
+ * 게시판 검색 한 페이지 응답 DTO (관련도 순)
+ */
+public record CommunitySearchResponse(
+        List<CommunitySearchResult> results,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
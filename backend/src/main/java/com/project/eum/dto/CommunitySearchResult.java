@@ -0,0 +1,25 @@
+package com.project.eum.dto;
+
+import com.project.eum.post.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 검색 결과 한 건
+ * - snippet: 본문에서 검색어 주변을 잘라낸 미리보기
+ * - matchedInComment: 댓글에서 검색어가 발견된 글인지 여부
+ */
+public record CommunitySearchResult(
+        Long postId,
+        Long farmId,
+        PostType type,
+        String title,
+        String snippet,
+        Long authorId,
+        String userNickname,
+        LocalDateTime createdAt,
+        Integer commentCount,
+        double score,
+        boolean matchedInComment
+) {
+}
@@ -0,0 +1,27 @@
+package com.project.eum.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 여러 진단 결과를 한 재배일기로 공유하는 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiagnosisShareRequest {
+    /** 공유할 진단 결과 ID 목록 (순서대로 일기 내용에 들어감) */
+    private List<Long> diagnosisIds;
+    /** 일기 제목 (선택사항, 없으면 진단 결과로 생성) */
+    private String title;
+    /** 선택한 날짜 (선택사항, 없으면 오늘) */
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+}
@@ -0,0 +1,15 @@
+package com.project.eum.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일기 달력의 하루
+ * - entryCount: 그날 일기 수
+ * - thumbnailUrl: 그날 일기 이미지 썸네일 (이미지나 축소본이 없으면 null)
+ */
+public record DiaryCalendarDay(
+        LocalDate date,
+        long entryCount,
+        String thumbnailUrl
+) {
+}
@@ -0,0 +1,14 @@
+package com.project.eum.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 일기 달력 응답 DTO (한 달)
+ * - days: 일기가 있는 날만, 날짜 순
+ */
+public record DiaryCalendarResponse(
+        YearMonth month,
+        List<DiaryCalendarDay> days
+) {
+}
@@ -20,6 +20,8 @@ public class DiaryRequest {
     private String title;
     /** 일기 내용 */
     private String content;
+    /** 직접 업로드(Presigned URL)한 이미지 URL (선택사항, 이미지 파일과 함께 오면 파일 우선) */
+    private String photoUrl;
     /** 선택한 날짜 (선택사항) */
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate date;
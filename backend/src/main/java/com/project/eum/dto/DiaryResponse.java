@@ -29,5 +29,9 @@ public class DiaryResponse {
     private LocalDateTime updatedAt;
     /** 선택한 날짜 (시간은 00:00:00) */
     private LocalDateTime selectAt;
+    /** 썸네일 URL (축소본이 만들어진 Object Storage 이미지만, 아니면 null) */
+    private String thumbnailUrl;
+    /** 중간 크기 이미지 URL (축소본이 만들어진 Object Storage 이미지만, 아니면 null) */
+    private String mediumUrl;
 }
 
@@ -0,0 +1,46 @@
+package com.project.eum.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 타임라인 목록 한 건 (전체 내용/이미지 데이터 제외)
+ * - excerpt: 내용 앞부분 (EXCERPT_LENGTH 자, 넘으면 … 추가)
+ * - photoUrl: Object Storage 이미지일 때만 (Base64 이미지는 null, hasPhoto 로 구분)
+ * - thumbnailUrl: 축소본이 만들어진 이미지만 (DiaryService 가 withThumbnailUrl 로 채움)
+ * - sortAt: 다음 페이지 커서용 정렬 값 (응답에는 포함하지 않음)
+ */
+public record DiaryTimelineItem(
+        Long diaryId,
+        String title,
+        String excerpt,
+        String photoUrl,
+        String thumbnailUrl,
+        boolean hasPhoto,
+        LocalDateTime selectAt,
+        LocalDateTime createdAt,
+        @JsonIgnore LocalDateTime sortAt
+) {
+
+    public static final int EXCERPT_LENGTH = 120;
+
+    // JPQL 생성자 프로젝션용 (content 는 EXCERPT_LENGTH + 1 자까지만 조회)
+    public DiaryTimelineItem(Long diaryId, String title, String content, String photoUrl, Boolean hasPhoto,
+                             LocalDateTime selectAt, LocalDateTime createdAt, LocalDateTime sortAt) {
+        this(diaryId, title, excerptOf(content), photoUrl, null,
+                Boolean.TRUE.equals(hasPhoto), selectAt, createdAt, sortAt);
+    }
+
+    public DiaryTimelineItem withThumbnailUrl(String thumbnailUrl) {
+        return new DiaryTimelineItem(diaryId, title, excerpt, photoUrl, thumbnailUrl,
+                hasPhoto, selectAt, createdAt, sortAt);
+    }
+
+    private static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, EXCERPT_LENGTH) + "…";
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.eum.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일기 타임라인 한 페이지 응답 DTO
+ * - diaries: 선택한 날짜 최신순 (날짜 없는 일기는 마지막)
+ * - nextCursorSortAt / nextCursorId: 다음 페이지 요청 시 그대로 넘기는 값 (마지막 페이지면 null)
+ * - hasNext: 다음 페이지 존재 여부
+ */
+public record DiaryTimelineResponse(
+        List<DiaryTimelineItem> diaries,
+        LocalDateTime nextCursorSortAt,
+        Long nextCursorId,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,18 @@
+package com.project.eum.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시판 피드 한 페이지 응답 DTO
+ * - posts: 최신순 게시글 목록
+ * - nextCursorCreatedAt / nextCursorId: 다음 페이지 요청 시 그대로 넘기는 값 (마지막 페이지면 null)
+ * - hasNext: 다음 페이지 존재 여부
+ */
+public record PostFeedResponse(
+        List<PostResponseDto> posts,
+        LocalDateTime nextCursorCreatedAt,
+        Long nextCursorId,
+        boolean hasNext
+) {
+}
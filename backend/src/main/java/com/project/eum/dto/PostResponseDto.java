@@ -2,6 +2,7 @@ package com.project.eum.dto;
 
 import com.project.eum.post.Post;
 import com.project.eum.post.PostType;
+import com.project.eum.service.ImageVariantUrls;
 
 import java.time.LocalDateTime;
 
@@ -13,8 +14,13 @@ public class PostResponseDto {
     private String userNickname;
     private Long farmId;
     private String photoUrl;
+    private String thumbnailUrl;
+    private String mediumUrl;
     private PostType type;
     private LocalDateTime createdAt;
+    private Integer commentCount;
+    private Integer replyCount;
+    private LocalDateTime lastActivityAt;
 
     public PostResponseDto(Post post) {
         this.id = post.getPostId();
@@ -28,6 +34,27 @@ public class PostResponseDto {
         this.createdAt = post.getCreatedAt() != null
                 ? post.getCreatedAt()
                 : post.getUpdatedAt();
+        this.commentCount = post.getCommentCount();
+        this.replyCount = post.getReplyCount();
+        this.lastActivityAt = post.getLastActivityAt();
+    }
+
+    // 피드 조회용 (JPQL 생성자 프로젝션)
+    public PostResponseDto(Long id, String title, String content, Long authorId, String userNickname,
+                           Long farmId, String photoUrl, PostType type, LocalDateTime createdAt,
+                           Integer commentCount, Integer replyCount, LocalDateTime lastActivityAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.authorId = authorId;
+        this.userNickname = userNickname;
+        this.farmId = farmId;
+        this.photoUrl = photoUrl;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.commentCount = commentCount;
+        this.replyCount = replyCount;
+        this.lastActivityAt = lastActivityAt;
     }
 
     // getter/setter
@@ -38,8 +65,14 @@ public class PostResponseDto {
     public String getUserNickname() {return userNickname;}
     public Long getFarmId() { return farmId; }
     public String getPhotoUrl() { return photoUrl; }
+    // 축소본 URL (축소본이 만들어진 이미지만, 아니면 null → 클라이언트는 원본 사용)
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public String getMediumUrl() { return mediumUrl; }
     public PostType getType() { return type; }
     public LocalDateTime getCreatedAt() {return createdAt;}
+    public Integer getCommentCount() { return commentCount; }
+    public Integer getReplyCount() { return replyCount; }
+    public LocalDateTime getLastActivityAt() { return lastActivityAt; }
 
     public void setId(Long id) { this.id = id; }
     public void setTitle(String title) { this.title = title; }
@@ -50,4 +83,13 @@ public class PostResponseDto {
     public void setType(PostType type) { this.type = type; }
     public void setUserNickname(String userNickname) {this.userNickname = userNickname;}
     public void setCreatedAt(LocalDateTime createdAt) {this.createdAt = createdAt;}
+    public void setCommentCount(Integer commentCount) { this.commentCount = commentCount; }
+    public void setReplyCount(Integer replyCount) { this.replyCount = replyCount; }
+    public void setLastActivityAt(LocalDateTime lastActivityAt) { this.lastActivityAt = lastActivityAt; }
+
+    // 축소본 URL 채우기 (ObjectStorageService.variantUrls 로 목록 단위 조회)
+    public void applyVariants(ImageVariantUrls variants) {
+        this.thumbnailUrl = variants.thumbnailOf(photoUrl);
+        this.mediumUrl = variants.mediumOf(photoUrl);
+    }
 }
@@ -0,0 +1,27 @@
+package com.project.eum.dto;
+
+import com.project.eum.post.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 한 건 (본문 제외, 카드 표시용)
+ * - thumbnailUrl: 목록 카드용 축소본 (축소본이 만들어진 이미지만, 아니면 null)
+ * - score: 응답을 만든 시점의 인기 점수
+ */
+public record TrendingPostResult(
+        Long postId,
+        Long farmId,
+        PostType type,
+        String title,
+        String photoUrl,
+        String thumbnailUrl,
+        Long authorId,
+        String userNickname,
+        LocalDateTime createdAt,
+        Integer commentCount,
+        Integer replyCount,
+        LocalDateTime lastActivityAt,
+        double score
+) {
+}
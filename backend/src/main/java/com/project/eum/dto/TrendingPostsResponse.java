@@ -0,0 +1,15 @@
+package com.project.eum.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 농장 인기글 목록 응답 DTO (점수 높은 순)
+ * - generatedAt: 순위를 계산한 시각 (캐시된 응답이면 캐시 생성 시각)
+ */
+public record TrendingPostsResponse(
+        Long farmId,
+        List<TrendingPostResult> posts,
+        LocalDateTime generatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.project.eum.dto;
+
+/**
+ * 직접 업로드 완료 확인 요청 (발급받은 key)
+ */
+public record UploadConfirmRequest(String key) {
+}
@@ -0,0 +1,7 @@
+package com.project.eum.dto;
+
+/**
+ * 직접 업로드 완료 확인 응답 (url 을 photoUrl 로 사용)
+ */
+public record UploadConfirmResponse(String key, String url, String contentType, long contentLength) {
+}
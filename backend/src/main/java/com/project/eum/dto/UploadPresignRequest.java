@@ -0,0 +1,9 @@
+package com.project.eum.dto;
+
+/**
+ * 직접 업로드 URL 발급 요청
+ * - category: diary / community
+ * - contentType, contentLength: 실제로 올릴 파일의 형식과 크기 (서명에 포함)
+ */
+public record UploadPresignRequest(String category, String filename, String contentType, Long contentLength) {
+}
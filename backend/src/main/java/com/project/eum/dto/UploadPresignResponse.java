@@ -0,0 +1,19 @@
+package com.project.eum.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 직접 업로드 URL 발급 응답
+ * - uploadUrl 로 method(PUT) 요청, headers 를 그대로 함께 보내야 함
+ * - 업로드가 끝나면 key 로 확인(confirm) 요청 → url 을 글/일기 작성에 사용
+ */
+public record UploadPresignResponse(
+        String key,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt,
+        String url
+) {
+}
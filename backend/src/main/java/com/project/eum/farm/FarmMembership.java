@@ -0,0 +1,18 @@
+package com.project.eum.farm;
+
+/**
+ * 회원과 농장의 관계 (게시판 권한 확인용)
+ * - OWNER: 농장주
+ * - APPROVED: 승인된 계약 회원
+ * - NONE: 관계 없음
+ */
+public enum FarmMembership {
+    OWNER,
+    APPROVED,
+    NONE;
+
+    // 일반 글 / 댓글 / 답글 작성 가능 여부
+    public boolean canWrite() {
+        return this != NONE;
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.eum.farm;
 
+import com.project.eum.dto.CollectionVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -13,4 +15,12 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
     Optional<Farm> findByOwnerUserId(Long ownerId);
     // 특정 회원(owner)이 농장을 가지고 있는지 여부 확인
     boolean existsByOwnerUserId(Long ownerId);
+
+    // 농장 목록 버전 (조건부 GET): 행 수, 마지막 등록/수정 시각, id 합
+    @Query("""
+            select new com.project.eum.dto.CollectionVersion(
+                       count(f), max(f.createdAt), max(f.updatedAt), coalesce(sum(f.farmId), 0L))
+              from Farm f
+            """)
+    CollectionVersion findCollectionVersion();
 }
@@ -0,0 +1,9 @@
+package com.project.eum.farm.contract;
+
+/**
+ * 농장 계약 상태가 바뀌어 회원-농장 관계가 달라졌을 때 발행되는 이벤트
+ * - 승인 / 거절 / 삭제 / 기간 만료 시 FarmContractService 에서 발행
+ * - FarmMembershipAuthorizer 가 받아서 권한 캐시를 비움
+ */
+public record FarmMembershipChangedEvent(Long userId, Long farmId) {
+}
@@ -0,0 +1,24 @@
+package com.project.eum.post;
+
+/**
+ * 게시판 변경 종류 (실시간 게시판 업데이트용)
+ */
+public enum BoardChangeType {
+    POST_CREATED,
+    POST_UPDATED,
+    POST_DELETED,
+    COMMENT_CREATED,
+    COMMENT_UPDATED,
+    COMMENT_DELETED,
+    REPLY_CREATED,
+    REPLY_UPDATED,
+    REPLY_DELETED;
+
+    public boolean isCreated() {
+        return this == POST_CREATED || this == COMMENT_CREATED || this == REPLY_CREATED;
+    }
+
+    public boolean isDeleted() {
+        return this == POST_DELETED || this == COMMENT_DELETED || this == REPLY_DELETED;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.eum.post;
+
+/**
+ * 게시글 / 댓글 / 답글이 바뀌었을 때 발행되는 이벤트
+ * - PostService, CommentsService, ReplyService 에서 발행
+ * - 커밋 후 BoardUpdatePublisher 가 받아서 /topic/farm/{farmId}/board 로 묶어 전송
+ * - 해당하지 않는 ID 는 null (예: 게시글 변경이면 commentId, replyId 가 null)
+ */
+public record BoardChangedEvent(
+        Long farmId,
+        BoardChangeType type,
+        Long postId,
+        Long commentId,
+        Long replyId
+) {
+
+    public static BoardChangedEvent post(Long farmId, BoardChangeType type, Long postId) {
+        return new BoardChangedEvent(farmId, type, postId, null, null);
+    }
+
+    public static BoardChangedEvent comment(Long farmId, BoardChangeType type, Long postId, Long commentId) {
+        return new BoardChangedEvent(farmId, type, postId, commentId, null);
+    }
+
+    public static BoardChangedEvent reply(Long farmId, BoardChangeType type, Long postId, Long commentId, Long replyId) {
+        return new BoardChangedEvent(farmId, type, postId, commentId, replyId);
+    }
+}
@@ -13,7 +13,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = @Index(name = "idx_posts_farm_type_created", columnList = "farm_id,type,created_at,post_id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -55,6 +58,19 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 댓글 수 / 답글 수 / 마지막 활동 시간 (피드 카드 표시용 비정규화 카운터)
+    // - 엔티티 저장 시 덮어쓰지 않도록 updatable = false, 상대 UPDATE(n = n + 1)로만 변경
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int commentCount = 0;
+
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
+    @Column(name = "last_activity_at", updatable = false)
+    private LocalDateTime lastActivityAt;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
     @Builder.Default
     private List<Comments> comments = new ArrayList<>();
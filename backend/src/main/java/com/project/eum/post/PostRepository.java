@@ -1,10 +1,212 @@
 package com.project.eum.post;
 
+import com.project.eum.dto.CollectionVersion;
+import com.project.eum.dto.PostResponseDto;
+import com.project.eum.search.IndexedPost;
+import com.project.eum.service.PhotoReference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByFarm_FarmId(Long farmId);
     List<Post> findByAuthor_UserId(Long authorId);
+
+    // 전체 게시글 (작성자 함께 조회, N+1 방지)
+    @EntityGraph(attributePaths = "author")
+    List<Post> findAllByOrderByCreatedAtDescPostIdDesc();
+
+    // 게시글 단건 삭제 (댓글/답글은 먼저 일괄 삭제, cascade 로 자식 엔티티를 읽지 않음)
+    @Modifying
+    @Query("delete from Post p where p.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 고아 객체 정리용 이미지 URL 목록 (post_id 순, afterId 다음부터)
+    @Query("""
+            select new com.project.eum.service.PhotoReference(p.postId, p.photoUrl)
+              from Post p
+             where p.postId > :afterId and p.photoUrl like :urlPrefix
+             order by p.postId
+            """)
+    List<PhotoReference> findPhotoReferences(@Param("afterId") Long afterId,
+                                             @Param("urlPrefix") String urlPrefix,
+                                             Pageable pageable);
+
+    // 게시글 목록 버전 (조건부 GET): 행 수, 마지막 수정/활동 시각, 댓글·답글 수 합
+    @Query("""
+            select new com.project.eum.dto.CollectionVersion(
+                       count(p), max(p.updatedAt), max(p.lastActivityAt),
+                       coalesce(sum(p.commentCount + p.replyCount), 0L))
+              from Post p
+            """)
+    CollectionVersion findCollectionVersion();
+
+    /**
+     * 농장 + 글 종류별 피드 첫 페이지 (최신순)
+     * - (farm_id, type, created_at, post_id) 인덱스를 그대로 타고 size 만큼만 읽음
+     * - 작성자 닉네임, 댓글/답글 수(카운터 컬럼)까지 DTO 로 한 번에 조회
+     */
+    @Query("""
+            select new com.project.eum.dto.PostResponseDto(
+                       p.postId, p.title, p.content, a.userId, a.nickname, p.farm.farmId,
+                       p.photoUrl, p.type, p.createdAt,
+                       p.commentCount, p.replyCount, p.lastActivityAt)
+              from Post p
+              join p.author a
+             where p.farm.farmId = :farmId
+               and p.type = :type
+             order by p.createdAt desc, p.postId desc
+            """)
+    List<PostResponseDto> findFeed(@Param("farmId") Long farmId,
+                                   @Param("type") PostType type,
+                                   Pageable pageable);
+
+    /**
+     * 피드 다음 페이지 (keyset)
+     * - 직전 페이지 마지막 글의 (createdAt, postId) 보다 오래된 글부터 조회
+     * - OFFSET 을 쓰지 않아 페이지가 뒤로 가도 읽는 행 수가 늘지 않음
+     */
+    @Query("""
+            select new com.project.eum.dto.PostResponseDto(
+                       p.postId, p.title, p.content, a.userId, a.nickname, p.farm.farmId,
+                       p.photoUrl, p.type, p.createdAt,
+                       p.commentCount, p.replyCount, p.lastActivityAt)
+              from Post p
+              join p.author a
+             where p.farm.farmId = :farmId
+               and p.type = :type
+               and (p.createdAt < :cursorCreatedAt
+                    or (p.createdAt = :cursorCreatedAt and p.postId < :cursorId))
+             order by p.createdAt desc, p.postId desc
+            """)
+    List<PostResponseDto> findFeedAfter(@Param("farmId") Long farmId,
+                                        @Param("type") PostType type,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    // 댓글 작성: 댓글 수 + 1, 마지막 활동 시간 갱신
+    @Modifying
+    @Query("""
+            update Post p
+               set p.commentCount = p.commentCount + 1,
+                   p.lastActivityAt = :activityAt
+             where p.postId = :postId
+            """)
+    int incrementCommentCount(@Param("postId") Long postId, @Param("activityAt") LocalDateTime activityAt);
+
+    // 댓글 삭제: 댓글 수 - 1, 함께 지워진 답글 수만큼 답글 수 감소 (0 아래로 내려가지 않음)
+    @Modifying
+    @Query("""
+            update Post p
+               set p.commentCount = case when p.commentCount > 0 then p.commentCount - 1 else 0 end,
+                   p.replyCount = case when p.replyCount > :replyCount then p.replyCount - :replyCount else 0 end
+             where p.postId = :postId
+            """)
+    int decrementCommentCount(@Param("postId") Long postId, @Param("replyCount") int replyCount);
+
+    // 답글 작성: 답글 수 + 1, 마지막 활동 시간 갱신
+    @Modifying
+    @Query("""
+            update Post p
+               set p.replyCount = p.replyCount + 1,
+                   p.lastActivityAt = :activityAt
+             where p.postId = :postId
+            """)
+    int incrementReplyCount(@Param("postId") Long postId, @Param("activityAt") LocalDateTime activityAt);
+
+    // 답글 삭제: 답글 수 - 1
+    @Modifying
+    @Query("""
+            update Post p
+               set p.replyCount = case when p.replyCount > 0 then p.replyCount - 1 else 0 end
+             where p.postId = :postId
+            """)
+    int decrementReplyCount(@Param("postId") Long postId);
+
+    /**
+     * 카운터 보정: 실제 댓글/답글 수와 다른 게시글만 한 번에 다시 계산
+     * - 마지막 활동 시간은 게시글/댓글/답글 작성 시간 중 가장 늦은 값
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE posts p
+              LEFT JOIN (SELECT post_id, COUNT(*) AS cnt, MAX(created_at) AS last_at
+                           FROM comments
+                          GROUP BY post_id) c ON c.post_id = p.post_id
+              LEFT JOIN (SELECT cm.post_id, COUNT(*) AS cnt, MAX(r.created_at) AS last_at
+                           FROM replies r
+                           JOIN comments cm ON cm.comment_id = r.comment_id
+                          GROUP BY cm.post_id) r ON r.post_id = p.post_id
+               SET p.comment_count = COALESCE(c.cnt, 0),
+                   p.reply_count = COALESCE(r.cnt, 0),
+                   p.last_activity_at = GREATEST(p.created_at,
+                                                 COALESCE(c.last_at, p.created_at),
+                                                 COALESCE(r.last_at, p.created_at))
+             WHERE p.comment_count <> COALESCE(c.cnt, 0)
+                OR p.reply_count <> COALESCE(r.cnt, 0)
+                OR p.last_activity_at IS NULL
+            """, nativeQuery = true)
+    int reconcileCounters();
+
+    /**
+     * 농장 게시판 전문 검색 (MySQL FULLTEXT ngram)
+     * - 제목/본문 일치는 가중치 2, 댓글 일치는 1 로 게시글 단위 합산
+     * - 관련도 높은 순, 같은 점수면 최신 글 먼저
+     */
+    @Query(value = """
+            SELECT t.post_id          AS postId,
+                   SUM(t.score)       AS score,
+                   MAX(t.in_comment)  AS matchedInComment
+              FROM (SELECT p.post_id,
+                           MATCH(p.title, p.content) AGAINST (:query IN NATURAL LANGUAGE MODE) * 2 AS score,
+                           0 AS in_comment
+                      FROM posts p
+                     WHERE p.farm_id = :farmId
+                       AND MATCH(p.title, p.content) AGAINST (:query IN NATURAL LANGUAGE MODE)
+                    UNION ALL
+                    SELECT c.post_id,
+                           MATCH(c.content) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score,
+                           1 AS in_comment
+                      FROM comments c
+                      JOIN posts p ON p.post_id = c.post_id
+                     WHERE p.farm_id = :farmId
+                       AND MATCH(c.content) AGAINST (:query IN NATURAL LANGUAGE MODE)) t
+             GROUP BY t.post_id
+             ORDER BY score DESC, postId DESC
+             LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<PostSearchRow> searchFullText(@Param("farmId") Long farmId,
+                                       @Param("query") String query,
+                                       @Param("limit") int limit,
+                                       @Param("offset") int offset);
+
+    // 검색 결과 게시글 정보 (피드와 같은 DTO 프로젝션)
+    @Query("""
+            select new com.project.eum.dto.PostResponseDto(
+                       p.postId, p.title, p.content, a.userId, a.nickname, p.farm.farmId,
+                       p.photoUrl, p.type, p.createdAt,
+                       p.commentCount, p.replyCount, p.lastActivityAt)
+              from Post p
+              join p.author a
+             where p.postId in :postIds
+            """)
+    List<PostResponseDto> findSummariesByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 검색 색인 초기 적재용 (게시글 ID, 농장 ID, 제목, 본문)
+    @Query("""
+            select new com.project.eum.search.IndexedPost(p.postId, p.farm.farmId, p.title, p.content)
+              from Post p
+            """)
+    List<IndexedPost> findAllForSearchIndex();
+
+    // 이미지 URL 을 쓰는 본인 게시글이 있는지 (직접 업로드 이미지 재사용 방지)
+    boolean existsByAuthorUserIdAndPhotoUrl(Long userId, String photoUrl);
 }
@@ -0,0 +1,13 @@
+package com.project.eum.post;
+
+/**
+ * 게시판 전문 검색 결과 행 (네이티브 쿼리 프로젝션)
+ */
+public interface PostSearchRow {
+
+    Long getPostId();
+
+    Double getScore();
+
+    Long getMatchedInComment();
+}
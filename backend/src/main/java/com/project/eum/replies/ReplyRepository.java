@@ -1,8 +1,14 @@
 package com.project.eum.replies;
 
+import com.project.eum.dto.CollectionVersion;
+import com.project.eum.dto.ReplyResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +19,38 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     // 특정 사용자가 작성한 모든 답글 조회
     List<Reply> findByAuthorUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 여러 댓글의 답글 + 작성자를 DTO 로 한 번에 조회 (댓글 트리 조립용)
+    @Query("""
+            select new com.project.eum.dto.ReplyResponse(
+                       r.replyId, r.comment.commentId, a.userId, a.nickname,
+                       r.content, r.createdAt, r.updatedAt)
+              from Reply r
+              join r.author a
+             where r.comment.commentId in :commentIds
+             order by r.createdAt asc, r.replyId asc
+            """)
+    List<ReplyResponse> findTreeRepliesByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 댓글의 답글 일괄 삭제 (DELETE ... WHERE comment_id = ?), 삭제된 행 수 반환
+    @Modifying
+    @Query("delete from Reply r where r.comment.commentId = :commentId")
+    int deleteByCommentId(@Param("commentId") Long commentId);
+
+    // 게시글에 달린 답글 일괄 삭제 (엔티티를 읽지 않음)
+    @Modifying
+    @Query("""
+            delete from Reply r
+             where r.comment.commentId in (select c.commentId from Comments c where c.post.postId = :postId)
+            """)
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 게시글에 달린 답글 버전 (조건부 GET): 답글 수, 마지막 수정 시각, id 합
+    @Query("""
+            select new com.project.eum.dto.CollectionVersion(
+                       count(r), max(r.updatedAt), coalesce(sum(r.replyId), 0L))
+              from Reply r
+             where r.comment.post.postId = :postId
+            """)
+    CollectionVersion findCollectionVersionByPostId(@Param("postId") Long postId);
 }
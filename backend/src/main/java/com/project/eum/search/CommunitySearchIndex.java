@@ -0,0 +1,29 @@
+package com.project.eum.search;
+
+import java.util.List;
+
+/**
+ * 농장 게시판(게시글 제목/본문 + 댓글) 검색 색인
+ *
+ * - community.search.engine 설정으로 구현 선택
+ *   mysql  : MySQL FULLTEXT(ngram) 인덱스 사용 (운영 기본값, 색인은 DB 가 커밋 시 갱신)
+ *   memory : 애플리케이션 안의 역색인 (MySQL FULLTEXT 가 없는 환경용)
+ * - 글/댓글 작성·수정·삭제 시 PostService / CommentsService 가 index/remove 를 호출
+ *   (DB 가 직접 색인하는 구현은 아무것도 하지 않음)
+ */
+public interface CommunitySearchIndex {
+
+    /**
+     * 농장 안에서 검색어와 관련도가 높은 게시글 순으로 조회
+     * - 댓글에서 찾은 경우 해당 댓글이 달린 게시글로 묶어서 점수 합산
+     */
+    List<SearchHit> search(Long farmId, String query, int offset, int limit);
+
+    void indexPost(Long postId, Long farmId, String title, String content);
+
+    void removePost(Long postId);
+
+    void indexComment(Long commentId, Long postId, Long farmId, String content);
+
+    void removeComment(Long commentId);
+}
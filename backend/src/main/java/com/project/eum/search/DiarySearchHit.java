@@ -0,0 +1,8 @@
+package com.project.eum.search;
+
+/**
+ * 일기 검색 결과 한 건
+ * - score: 관련도 점수 (클수록 위)
+ */
+public record DiarySearchHit(Long diaryId, double score) {
+}
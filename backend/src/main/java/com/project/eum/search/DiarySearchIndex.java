@@ -0,0 +1,26 @@
+package com.project.eum.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재배 일기(제목 + 내용) 검색 색인 — 사용자 본인의 일기만 검색
+ *
+ * - diary.search.engine 설정으로 구현 선택
+ *   mysql  : MySQL FULLTEXT(ngram) 인덱스 사용 (운영 기본값, 색인은 DB 가 커밋 시 갱신)
+ *   memory : 애플리케이션 안의 사용자별 역색인 (MySQL FULLTEXT 가 없는 환경용)
+ * - 일기 작성·수정·삭제 시 DiaryService 가 index/remove 를 호출
+ */
+public interface DiarySearchIndex {
+
+    /**
+     * 검색어와 관련도가 높은 순으로 일기 조회
+     * - fromAt / toAt: select_at 범위 [fromAt, toAt), null 이면 제한 없음
+     */
+    List<DiarySearchHit> search(Long userId, String query, LocalDateTime fromAt, LocalDateTime toAt,
+                                int offset, int limit);
+
+    void indexDiary(Long diaryId, Long userId, String title, String content, LocalDateTime selectAt);
+
+    void removeDiary(Long diaryId);
+}
@@ -0,0 +1,224 @@
+package com.project.eum.search;
+
+import com.project.eum.diary.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 안에서 유지하는 사용자별 일기 역색인 (bigram)
+ *
+ * - MySQL FULLTEXT 를 쓸 수 없는 환경용 (diary.search.engine=memory)
+ * - 사용자마다 역색인을 따로 둠 → 검색 시 본인 일기의 bigram 목록만 훑음
+ * - 토큰화는 게시판 검색과 같음 (InMemorySearchIndex.tokenize)
+ * - 검색어가 제목이나 내용에 이어서 나오는 일기만 일치 (MySQL 구현의 구문 검색과 같음)
+ *   bigram 역색인으로 후보를 좁힌 뒤, 정규화한 본문(소문자, 공백 하나)에 검색어가 들어 있는지 확인
+ * - 점수: 검색어 bigram 별 tf × idf(해당 사용자 일기 기준) 합 / √문서 길이, 제목 bigram 은 tf 2배
+ */
+@Component
+@ConditionalOnProperty(name = "diary.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryDiarySearchIndex implements DiarySearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryDiarySearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private final DiaryRepository diaryRepository;
+
+    // 아래 필드는 lock 으로 보호됨
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    // userId → (bigram → (diaryId → tf))
+    private final Map<Long, Map<String, Map<Long, Integer>>> postingsByUser = new HashMap<>();
+    private final Map<Long, Integer> documentCountByUser = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<IndexedDiary> diaries = diaryRepository.findAllForSearchIndex();
+        write(() -> {
+            documents.clear();
+            postingsByUser.clear();
+            documentCountByUser.clear();
+            for (IndexedDiary diary : diaries) {
+                put(diary.diaryId(), diary.userId(), diary.title(), diary.content(), diary.selectAt());
+            }
+        });
+        log.info("Built diary search index: {} diaries", diaries.size());
+    }
+
+    @Override
+    public List<DiarySearchHit> search(Long userId, String query, LocalDateTime fromAt, LocalDateTime toAt,
+                                       int offset, int limit) {
+        Map<String, Integer> queryTerms = InMemorySearchIndex.tokenize(query);
+        String phrase = normalize(query);
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Integer> matchedTerms = new HashMap<>();
+        Map<Long, LocalDateTime> selectAts = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            Map<String, Map<Long, Integer>> postings = postingsByUser.get(userId);
+            if (postings == null) {
+                return List.of();
+            }
+            int total = Math.max(documentCountByUser.getOrDefault(userId, 0), 1);
+            for (String term : queryTerms.keySet()) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs == null) {
+                    return List.of();   // 없는 bigram 이 있으면 모두 포함하는 일기도 없음
+                }
+                double idf = Math.log(1.0 + (double) total / docs.size());
+                for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                    Document doc = documents.get(posting.getKey());
+                    if (doc == null || !inRange(doc.selectAt(), fromAt, toAt) || !doc.contains(phrase)) {
+                        continue;
+                    }
+                    scores.merge(posting.getKey(), posting.getValue() * idf / Math.sqrt(doc.length()), Double::sum);
+                    matchedTerms.merge(posting.getKey(), 1, Integer::sum);
+                    selectAts.put(posting.getKey(), doc.selectAt());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 관련도 순, 같으면 선택 날짜 최신 순 (MySQL 구현과 같은 순서)
+        Comparator<LocalDateTime> newestFirst = Comparator.nullsLast(Comparator.reverseOrder());
+        return scores.entrySet().stream()
+                .filter(entry -> matchedTerms.get(entry.getKey()) == queryTerms.size())
+                .map(entry -> new DiarySearchHit(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(DiarySearchHit::score).reversed()
+                        .thenComparing(hit -> selectAts.get(hit.diaryId()), newestFirst)
+                        .thenComparing(DiarySearchHit::diaryId, Comparator.reverseOrder()))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void indexDiary(Long diaryId, Long userId, String title, String content, LocalDateTime selectAt) {
+        afterCommit(() -> write(() -> put(diaryId, userId, title, content, selectAt)));
+    }
+
+    @Override
+    public void removeDiary(Long diaryId) {
+        afterCommit(() -> write(() -> remove(diaryId)));
+    }
+
+    // 기존 색인을 지우고 다시 넣음 (수정도 같은 경로)
+    private void put(Long diaryId, Long userId, String title, String content, LocalDateTime selectAt) {
+        remove(diaryId);
+        Map<String, Integer> terms = InMemorySearchIndex.tokenize(content);
+        InMemorySearchIndex.tokenize(title).forEach((term, tf) -> terms.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        documents.put(diaryId, new Document(userId, selectAt, Math.max(length, 1), terms.keySet(),
+                normalize(title), normalize(content)));
+        documentCountByUser.merge(userId, 1, Integer::sum);
+        Map<String, Map<Long, Integer>> postings = postingsByUser.computeIfAbsent(userId, id -> new HashMap<>());
+        terms.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(diaryId, tf));
+    }
+
+    private void remove(Long diaryId) {
+        Document removed = documents.remove(diaryId);
+        if (removed == null) {
+            return;
+        }
+        documentCountByUser.computeIfPresent(removed.userId(), (id, count) -> count > 1 ? count - 1 : null);
+        Map<String, Map<Long, Integer>> postings = postingsByUser.get(removed.userId());
+        if (postings == null) {
+            return;
+        }
+        for (String term : removed.terms()) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(diaryId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        if (postings.isEmpty()) {
+            postingsByUser.remove(removed.userId());
+        }
+    }
+
+    // 글자/숫자 외 문자는 공백 하나로, 대소문자 무시 (tokenize 와 같은 단어 경계)
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder();
+        boolean pendingSpace = false;
+        for (int cp : text.toLowerCase().codePoints().toArray()) {
+            if (!Character.isLetterOrDigit(cp)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && !normalized.isEmpty()) {
+                normalized.append(' ');
+            }
+            pendingSpace = false;
+            normalized.appendCodePoint(cp);
+        }
+        return normalized.toString();
+    }
+
+    private static boolean inRange(LocalDateTime selectAt, LocalDateTime fromAt, LocalDateTime toAt) {
+        if (fromAt == null && toAt == null) {
+            return true;
+        }
+        if (selectAt == null) {
+            return false;
+        }
+        return (fromAt == null || !selectAt.isBefore(fromAt)) && (toAt == null || selectAt.isBefore(toAt));
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백된 변경은 색인하지 않음)
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 색인된 일기
+    private record Document(Long userId, LocalDateTime selectAt, int length, Set<String> terms,
+                            String title, String content) {
+
+        boolean contains(String phrase) {
+            return title.contains(phrase) || content.contains(phrase);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.project.eum.search;
+
+import com.project.eum.comments.CommentsRepository;
+import com.project.eum.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애플리케이션 안에서 유지하는 역색인 (bigram) 검색
+ *
+ * - MySQL FULLTEXT 를 쓸 수 없는 환경용 (community.search.engine=memory)
+ * - 글자 2개 단위(bigram)로 쪼개 색인 → 띄어쓰기 없는 한국어도 부분 일치
+ * - 시작 시 DB 의 게시글/댓글로 한 번 색인을 만들고,
+ *   이후에는 작성·수정·삭제 때 해당 문서만 커밋 후 갱신
+ * - 점수: 검색어 bigram 별 tf × idf 합 / √문서 길이, 제목·본문은 가중치 2
+ */
+@Component
+@ConditionalOnProperty(name = "community.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemorySearchIndex implements CommunitySearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySearchIndex.class);
+
+    private static final double POST_WEIGHT = 2.0;
+    private static final double COMMENT_WEIGHT = 1.0;
+
+    private final PostRepository postRepository;
+    private final CommentsRepository commentsRepository;
+
+    // 아래 필드는 lock 으로 보호됨
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<Long>> commentsByPost = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<IndexedPost> posts = postRepository.findAllForSearchIndex();
+        List<IndexedComment> comments = commentsRepository.findAllForSearchIndex();
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            commentsByPost.clear();
+            for (IndexedPost post : posts) {
+                putPost(post.postId(), post.farmId(), post.title(), post.content());
+            }
+            for (IndexedComment comment : comments) {
+                putComment(comment.commentId(), comment.postId(), comment.farmId(), comment.content());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built community search index: {} posts, {} comments", posts.size(), comments.size());
+    }
+
+    @Override
+    public List<SearchHit> search(Long farmId, String query, int offset, int limit) {
+        Map<String, Integer> queryTerms = tokenize(query);
+        Map<Long, double[]> scores = new HashMap<>();     // postId → {점수, 댓글 일치 여부}
+
+        lock.readLock().lock();
+        try {
+            int total = Math.max(documents.size(), 1);
+            for (String term : queryTerms.keySet()) {
+                Map<String, Integer> docs = postings.get(term);
+                if (docs == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) total / docs.size());
+                for (Map.Entry<String, Integer> posting : docs.entrySet()) {
+                    Document doc = documents.get(posting.getKey());
+                    if (doc == null || !doc.farmId().equals(farmId)) {
+                        continue;
+                    }
+                    double[] score = scores.computeIfAbsent(doc.postId(), id -> new double[2]);
+                    score[0] += posting.getValue() * idf * doc.weight() / Math.sqrt(doc.length());
+                    if (doc.comment()) {
+                        score[1] = 1;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .map(entry -> new SearchHit(entry.getKey(), entry.getValue()[0], entry.getValue()[1] > 0))
+                .sorted(Comparator.comparingDouble(SearchHit::score).reversed()
+                        .thenComparing(SearchHit::postId, Comparator.reverseOrder()))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void indexPost(Long postId, Long farmId, String title, String content) {
+        afterCommit(() -> write(() -> putPost(postId, farmId, title, content)));
+    }
+
+    @Override
+    public void removePost(Long postId) {
+        afterCommit(() -> write(() -> {
+            removeDocument(postKey(postId));
+            // 게시글 삭제 시 댓글도 함께 삭제됨 (cascade)
+            Set<Long> commentIds = commentsByPost.remove(postId);
+            if (commentIds != null) {
+                commentIds.forEach(commentId -> removeDocument(commentKey(commentId)));
+            }
+        }));
+    }
+
+    @Override
+    public void indexComment(Long commentId, Long postId, Long farmId, String content) {
+        afterCommit(() -> write(() -> putComment(commentId, postId, farmId, content)));
+    }
+
+    @Override
+    public void removeComment(Long commentId) {
+        afterCommit(() -> write(() -> {
+            Document removed = removeDocument(commentKey(commentId));
+            if (removed != null) {
+                Set<Long> commentIds = commentsByPost.get(removed.postId());
+                if (commentIds != null) {
+                    commentIds.remove(commentId);
+                }
+            }
+        }));
+    }
+
+    private void putPost(Long postId, Long farmId, String title, String content) {
+        String text = (title == null ? "" : title) + " " + (content == null ? "" : content);
+        putDocument(postKey(postId), new Document(postId, farmId, false, POST_WEIGHT, 0), text);
+    }
+
+    private void putComment(Long commentId, Long postId, Long farmId, String content) {
+        putDocument(commentKey(commentId), new Document(postId, farmId, true, COMMENT_WEIGHT, 0), content);
+        commentsByPost.computeIfAbsent(postId, id -> new HashSet<>()).add(commentId);
+    }
+
+    // 기존 색인을 지우고 다시 넣음 (수정도 같은 경로)
+    private void putDocument(String key, Document doc, String text) {
+        removeDocument(key);
+        Map<String, Integer> terms = tokenize(text);
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        documents.put(key, new Document(doc.postId(), doc.farmId(), doc.comment(), doc.weight(),
+                Math.max(length, 1), terms.keySet()));
+        terms.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, tf));
+    }
+
+    private Document removeDocument(String key) {
+        Document removed = documents.remove(key);
+        if (removed != null) {
+            for (String term : removed.terms()) {
+                Map<String, Integer> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(key);
+                    if (docs.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백된 변경은 색인하지 않음)
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 글자/숫자 묶음마다 bigram 으로 쪼갬 (한 글자 묶음은 그대로)
+     * - 반환: bigram → 등장 횟수
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        text.toLowerCase().codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                word.appendCodePoint(cp);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        });
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+
+        for (String w : words) {
+            int[] cps = w.codePoints().toArray();
+            if (cps.length == 1) {
+                terms.merge(w, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + 1 < cps.length; i++) {
+                terms.merge(new String(cps, i, 2), 1, Integer::sum);
+            }
+        }
+        return terms;
+    }
+
+    private static String postKey(Long postId) {
+        return "p:" + postId;
+    }
+
+    private static String commentKey(Long commentId) {
+        return "c:" + commentId;
+    }
+
+    // 색인된 문서 (게시글 또는 댓글)
+    private record Document(Long postId, Long farmId, boolean comment, double weight, int length, Set<String> terms) {
+
+        private Document(Long postId, Long farmId, boolean comment, double weight, int length) {
+            this(postId, farmId, comment, weight, length, Set.of());
+        }
+    }
+}
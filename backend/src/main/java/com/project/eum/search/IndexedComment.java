@@ -0,0 +1,7 @@
+package com.project.eum.search;
+
+/**
+ * 검색 색인에 넣을 댓글 정보
+ */
+public record IndexedComment(Long commentId, Long postId, Long farmId, String content) {
+}
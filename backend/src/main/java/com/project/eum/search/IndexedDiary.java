@@ -0,0 +1,9 @@
+package com.project.eum.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일기 색인 초기 적재용 행 (이미지 컬럼 제외)
+ */
+public record IndexedDiary(Long diaryId, Long userId, String title, String content, LocalDateTime selectAt) {
+}
@@ -0,0 +1,7 @@
+package com.project.eum.search;
+
+/**
+ * 검색 색인에 넣을 게시글 정보
+ */
+public record IndexedPost(Long postId, Long farmId, String title, String content) {
+}
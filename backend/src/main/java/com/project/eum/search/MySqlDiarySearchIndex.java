@@ -0,0 +1,48 @@
+package com.project.eum.search;
+
+import com.project.eum.diary.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram) 인덱스 기반 일기 검색
+ *
+ * 필요한 인덱스
+ *   ALTER TABLE diaries ADD FULLTEXT INDEX ft_diaries_title_content (title, content) WITH PARSER ngram;
+ *   ALTER TABLE diaries ADD INDEX idx_diaries_user_select (user_id, select_at);
+ *
+ * - InnoDB 가 커밋 시점에 색인을 갱신하므로 index/remove 는 할 일이 없음
+ * - 검색어는 BOOLEAN MODE 구문("...")으로 넘김 → 기존 LIKE 처럼 이어진 문자열만 일치
+ */
+@Component
+@ConditionalOnProperty(name = "diary.search.engine", havingValue = "mysql", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MySqlDiarySearchIndex implements DiarySearchIndex {
+
+    private final DiaryRepository diaryRepository;
+
+    @Override
+    public List<DiarySearchHit> search(Long userId, String query, LocalDateTime fromAt, LocalDateTime toAt,
+                                       int offset, int limit) {
+        return diaryRepository.searchFullText(userId, phrase(query), fromAt, toAt, limit, offset).stream()
+                .map(row -> new DiarySearchHit(row.getDiaryId(), row.getScore()))
+                .toList();
+    }
+
+    // 구문 검색어: 안의 큰따옴표는 공백으로 바꿔 감쌈 (그 외 연산자는 구문 안에서 글자로 취급)
+    static String phrase(String query) {
+        return "\"" + query.replace('"', ' ').trim() + "\"";
+    }
+
+    @Override
+    public void indexDiary(Long diaryId, Long userId, String title, String content, LocalDateTime selectAt) {
+    }
+
+    @Override
+    public void removeDiary(Long diaryId) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.eum.search;
+
+import com.project.eum.post.PostRepository;
+import com.project.eum.post.PostSearchRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram) 인덱스 기반 검색
+ *
+ * 필요한 인덱스 (ngram 파서 → 한국어 2글자 단위 색인)
+ *   ALTER TABLE posts ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
+ *   ALTER TABLE comments ADD FULLTEXT INDEX ft_comments_content (content) WITH PARSER ngram;
+ *
+ * - InnoDB 가 커밋 시점에 색인을 갱신하므로 index/remove 는 할 일이 없음
+ */
+@Component
+@ConditionalOnProperty(name = "community.search.engine", havingValue = "mysql", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MySqlFullTextSearchIndex implements CommunitySearchIndex {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public List<SearchHit> search(Long farmId, String query, int offset, int limit) {
+        List<PostSearchRow> rows = postRepository.searchFullText(farmId, query, limit, offset);
+        return rows.stream()
+                .map(row -> new SearchHit(row.getPostId(), row.getScore(), row.getMatchedInComment() > 0))
+                .toList();
+    }
+
+    @Override
+    public void indexPost(Long postId, Long farmId, String title, String content) {
+    }
+
+    @Override
+    public void removePost(Long postId) {
+    }
+
+    @Override
+    public void indexComment(Long commentId, Long postId, Long farmId, String content) {
+    }
+
+    @Override
+    public void removeComment(Long commentId) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.eum.search;
+
+/**
+ * 검색 결과 한 건 (게시글 단위)
+ * - score: 관련도 점수 (클수록 위)
+ * - matchedInComment: 댓글에서 검색어가 발견되었는지 여부
+ */
+public record SearchHit(Long postId, double score, boolean matchedInComment) {
+}
@@ -3,10 +3,13 @@ package com.project.eum.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.eum.diagnosis.Diagnosis;
+import com.project.eum.diagnosis.DiagnosisDiaryLink;
+import com.project.eum.diagnosis.DiagnosisDiaryLinkRepository;
 import com.project.eum.diagnosis.DiagnosisRepository;
 import com.project.eum.dto.AiDiagnosisResponse;
 import com.project.eum.dto.DiaryRequest;
 import com.project.eum.dto.DiaryResponse;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,12 +20,22 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * AI 작물 진단 관련 비즈니스 로직을 처리하는 서비스
@@ -33,7 +46,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class AiDiagnosisService {
 
+    private static final int MAX_SHARE_DIAGNOSES = 20;
+
     private final DiagnosisRepository diagnosisRepository;
+    private final DiagnosisDiaryLinkRepository diagnosisDiaryLinkRepository;
     private final ObjectStorageService objectStorageService;
     private final DiaryService diaryService;
     private final RestTemplate restTemplate = new RestTemplate();
@@ -70,6 +86,9 @@ public class AiDiagnosisService {
             return createErrorResponse(cropType, "지원하지 않는 작물 타입입니다.");
         }
 
+        // Object Storage 업로드는 AI 서버 응답을 기다리는 동안 함께 진행
+        CompletableFuture<String> upload = startUpload(image, userId);
+        boolean saved = false;
         try {
             String aiServerUrl = aiServerBaseUrl + "/" + cropEndpoint;
             log.info("AI 서버 진단 요청: URL={}, 작물타입={}, 사용자ID={}", aiServerUrl, cropType, userId);
@@ -105,10 +124,11 @@ public class AiDiagnosisService {
             String label = getLabel(cropType, predictedIndex, json);
             String careComment = getCareComment(label);
 
-            // Object Storage에 이미지 업로드
+            // 먼저 시작한 이미지 업로드 결과
             String photoUrl;
             try {
-                photoUrl = objectStorageService.uploadDiagnosisImage(image, userId);
+                photoUrl = upload.join();
+                objectStorageService.deleteOnRollback(photoUrl);
                 log.info("이미지 업로드 성공: photoUrl={}", photoUrl);
             } catch (Exception e) {
                 log.error("이미지 업로드 실패, 빈 문자열로 저장", e);
@@ -119,8 +139,10 @@ public class AiDiagnosisService {
                     label, careComment != null ? careComment.length() : 0, photoUrl);
 
             Long diagnosisId = saveDiagnosis(userId, cropType, label, careComment, photoUrl);
+            saved = true;
 
             AiDiagnosisResponse result = new AiDiagnosisResponse(true, cropType, label, predictedIndex, confidence, message, careComment, diagnosisId);
+            result.setPhotoUrl(photoUrl);
             log.info("진단 완료: success={}, label={}, diagnosisId={}", result.isSuccess(), result.getLabel(), diagnosisId);
             return result;
 
@@ -149,9 +171,28 @@ public class AiDiagnosisService {
                 return createErrorResponse(cropType, "AI 서버에서 해당 엔드포인트를 찾을 수 없습니다. (404 Not Found)");
             }
             return createErrorResponse(cropType, "AI 서버 연결 실패: " + errorMsg);
+        } finally {
+            if (!saved) {
+                discardUpload(upload);
+            }
+        }
+    }
+
+    // 업로드 시작 (파일을 읽지 못하면 실패한 future → 사진 없이 진단 저장)
+    private CompletableFuture<String> startUpload(MultipartFile image, Long userId) {
+        try {
+            return objectStorageService.uploadDiagnosisImageAsync(image, userId);
+        } catch (RuntimeException e) {
+            log.error("이미지 업로드 시작 실패", e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
+    // 진단이 저장되지 않으면 먼저 올린 이미지는 쓰이지 않으므로 올라가는 대로 삭제
+    private void discardUpload(CompletableFuture<String> upload) {
+        upload.thenAccept(objectStorageService::deleteObjectByUrlAsync);
+    }
+
     /**
      * AI 서버로 전송할 Multipart 요청 생성
      * @param file 이미지 파일
@@ -320,35 +361,126 @@ public class AiDiagnosisService {
 
     /**
      * 진단 결과를 재배일기로 공유
+     * - 진단 결과 이미지는 버킷 안에서 복사해서 사용 (다시 업로드하지 않음)
+     * - 이미 공유한 진단 결과면 새로 만들지 않고 그 일기를 반환
      * @param diagnosisId 진단 결과 ID
      * @param userId 사용자 ID
-     * @return 생성된 일기 정보
-     * @throws IllegalArgumentException 진단 결과를 찾을 수 없거나 본인의 진단 결과가 아닌 경우
+     * @return 생성된(또는 이미 공유된) 일기 정보
+     * @throws EntityNotFoundException 진단 결과를 찾을 수 없거나 본인의 진단 결과가 아닌 경우
+     */
+    @Transactional
+    public ShareResult shareDiagnosisToDiary(Long diagnosisId, Long userId) {
+        return shareDiagnosesToDiary(userId, List.of(diagnosisId), null, null);
+    }
+
+    /**
+     * 여러 진단 결과를 한 재배일기로 공유 (한 트랜잭션)
+     * - 내용은 요청 순서대로 이어 붙이고, 이미지는 첫 번째로 이미지가 있는 진단 결과 것을 복사
+     * - 모두 같은 일기에 이미 공유되어 있으면 그 일기를 반환
+     * - 일부라도 다른 일기에 공유되어 있으면 IllegalStateException
+     * @param userId 사용자 ID
+     * @param diagnosisIds 진단 결과 ID 목록
+     * @param title 일기 제목 (선택사항)
+     * @param date 선택한 날짜 (선택사항, 없으면 오늘)
+     * @return 생성된(또는 이미 공유된) 일기 정보
+     * @throws IllegalArgumentException 진단 결과 ID 목록이 비었거나 너무 많은 경우
+     * @throws EntityNotFoundException 진단 결과를 찾을 수 없거나 본인의 진단 결과가 아닌 경우
+     * @throws IllegalStateException 이미 다른 일기에 공유된 진단 결과가 포함된 경우
      */
     @Transactional
-    public DiaryResponse shareDiagnosisToDiary(Long diagnosisId, Long userId) {
-        Diagnosis diagnosis = diagnosisRepository.findByDiagnosisIdAndUserId(diagnosisId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("진단 결과를 찾을 수 없습니다."));
+    public ShareResult shareDiagnosesToDiary(Long userId, List<Long> diagnosisIds, String title, LocalDate date) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (diagnosisIds != null) {
+            diagnosisIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("공유할 진단 결과를 선택해 주세요.");
+        }
+        if (ids.size() > MAX_SHARE_DIAGNOSES) {
+            throw new IllegalArgumentException("진단 결과는 한 번에 " + MAX_SHARE_DIAGNOSES + "개까지 공유할 수 있습니다.");
+        }
+
+        List<DiagnosisDiaryLink> links = diagnosisDiaryLinkRepository.findByUserIdAndDiagnosisIdIn(userId, ids);
+        if (!links.isEmpty()) {
+            ShareResult existing = existingShare(userId, ids, links);
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        Map<Long, Diagnosis> found = diagnosisRepository.findByUserIdAndDiagnosisIdIn(userId, ids).stream()
+                .collect(Collectors.toMap(Diagnosis::getDiagnosisId, Function.identity()));
+        if (found.size() != ids.size()) {
+            throw new EntityNotFoundException("진단 결과를 찾을 수 없습니다.");
+        }
+        List<Diagnosis> diagnoses = ids.stream().map(found::get).toList();
 
         // 진단 결과를 일기 형식으로 변환
-        String title = String.format("[%s 진단] %s", diagnosis.getCropName(), diagnosis.getDiseaseName());
-        String content = String.format(
+        DiaryRequest diaryRequest = new DiaryRequest();
+        diaryRequest.setTitle(StringUtils.hasText(title) ? title.trim() : shareTitle(diagnoses));
+        diaryRequest.setContent(diagnoses.stream()
+                .map(AiDiagnosisService::shareContent)
+                .collect(Collectors.joining("\n\n")));
+        diaryRequest.setDate(date != null ? date : LocalDate.now());
+
+        String photoUrl = diagnoses.stream()
+                .map(Diagnosis::getPhotoUrl)
+                .filter(StringUtils::hasText)
+                .findFirst()
+                .map(url -> objectStorageService.copyImage(url, userId, "diary"))
+                .orElse(null);
+        objectStorageService.deleteOnRollback(photoUrl);
+
+        DiaryResponse diary = diaryService.createDiaryWithPhoto(userId, diaryRequest, photoUrl);
+        diagnosisDiaryLinkRepository.saveAll(ids.stream()
+                .map(id -> DiagnosisDiaryLink.builder()
+                        .diagnosisId(id)
+                        .diaryId(diary.getDiaryId())
+                        .userId(userId)
+                        .build())
+                .toList());
+        return new ShareResult(diary, true);
+    }
+
+    /**
+     * 이미 공유된 진단 결과 처리
+     * - 모두 같은 일기에 공유되어 있으면 그 일기, 일기가 지워진 기록이면 정리 후 null (새로 공유)
+     */
+    private ShareResult existingShare(Long userId, Set<Long> ids, List<DiagnosisDiaryLink> links) {
+        Set<Long> diaryIds = links.stream().map(DiagnosisDiaryLink::getDiaryId).collect(Collectors.toSet());
+        if (diaryIds.size() != 1 || links.size() != ids.size()) {
+            throw new IllegalStateException("이미 다른 재배일기에 공유된 진단 결과가 포함되어 있습니다.");
+        }
+        Long diaryId = diaryIds.iterator().next();
+        try {
+            return new ShareResult(diaryService.getDiary(userId, diaryId), false);
+        } catch (IllegalArgumentException ex) {
+            diagnosisDiaryLinkRepository.deleteByDiaryId(diaryId);
+            return null;
+        }
+    }
+
+    private static String shareTitle(List<Diagnosis> diagnoses) {
+        Diagnosis first = diagnoses.get(0);
+        String title = String.format("[%s 진단] %s", first.getCropName(), first.getDiseaseName());
+        return diagnoses.size() > 1 ? title + " 외 " + (diagnoses.size() - 1) + "건" : title;
+    }
+
+    private static String shareContent(Diagnosis diagnosis) {
+        return String.format(
                 "작물: %s\n질병: %s\n\n관리 방법:\n%s",
                 diagnosis.getCropName(),
                 diagnosis.getDiseaseName(),
                 diagnosis.getRecommendation()
         );
+    }
 
-        DiaryRequest diaryRequest = new DiaryRequest();
-        diaryRequest.setTitle(title);
-        diaryRequest.setContent(content);
-        diaryRequest.setDate(java.time.LocalDate.now());
-
-        // 이미지는 photoUrl을 그대로 사용 (진단 결과의 photoUrl을 일기에 포함)
-        // photoUrl이 Base64 형식이면 DiaryService에서 처리
-        // 여기서는 photoUrl을 content에 포함시키거나, 별도로 처리하지 않음
-
-        return diaryService.createDiary(userId, diaryRequest, null);
+    /**
+     * 공유 결과
+     * - diary: 생성된(또는 이미 공유되어 있던) 일기
+     * - created: 이번 요청으로 새로 만들었는지 여부
+     */
+    public record ShareResult(DiaryResponse diary, boolean created) {
     }
 
     /**
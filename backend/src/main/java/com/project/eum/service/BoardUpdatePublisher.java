@@ -0,0 +1,94 @@
+package com.project.eum.service;
+
+import com.project.eum.dto.BoardChangeResponse;
+import com.project.eum.dto.BoardUpdateResponse;
+import com.project.eum.post.BoardChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시판 변경을 STOMP 로 실시간 전송 (/topic/farm/{farmId}/board)
+ *
+ * - 커밋된 변경만 전송 (@TransactionalEventListener, AFTER_COMMIT)
+ * - 바로 보내지 않고 농장별로 모았다가 broadcast-interval 마다 한 프레임으로 전송
+ *   → 댓글이 몰려도 농장당 프레임 1개
+ * - 같은 글/댓글/답글의 변경은 하나로 합침
+ *   생성 후 수정 → 생성, 생성 후 삭제 → 없음, 그 외 → 마지막 변경
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardUpdatePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardUpdatePublisher.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // farmId → (대상 키 → 변경), 값 맵은 compute 안에서만 변경
+    private final Map<Long, Map<String, BoardChangeResponse>> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.farmId() == null) {
+            return;
+        }
+        BoardChangeResponse change = new BoardChangeResponse(
+                event.type(), event.postId(), event.commentId(), event.replyId());
+        pending.compute(event.farmId(), (farmId, changes) -> {
+            Map<String, BoardChangeResponse> target = changes != null ? changes : new LinkedHashMap<>();
+            merge(target, targetKey(event), change);
+            return target;
+        });
+    }
+
+    /**
+     * 모아 둔 변경을 농장별로 한 번에 전송
+     */
+    @Scheduled(fixedDelayString = "${community.board.broadcast-interval-ms:500}")
+    public void flush() {
+        for (Long farmId : pending.keySet()) {
+            Map<String, BoardChangeResponse> changes = pending.remove(farmId);
+            if (changes == null || changes.isEmpty()) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSend(
+                        "/topic/farm/" + farmId + "/board",
+                        new BoardUpdateResponse(farmId, new ArrayList<>(changes.values()))
+                );
+            } catch (RuntimeException ex) {
+                log.warn("Failed to publish board update for farm {}: {}", farmId, ex.getMessage());
+            }
+        }
+    }
+
+    private static void merge(Map<String, BoardChangeResponse> changes, String key, BoardChangeResponse change) {
+        BoardChangeResponse previous = changes.get(key);
+        if (previous != null && previous.type().isCreated()) {
+            if (change.type().isDeleted()) {
+                changes.remove(key);    // 생겼다가 바로 지워짐 → 알릴 필요 없음
+            }
+            return;                     // 생성 후 수정 → 생성 한 번만 알림
+        }
+        changes.put(key, change);
+    }
+
+    private static String targetKey(BoardChangedEvent event) {
+        if (event.replyId() != null) {
+            return "reply:" + event.replyId();
+        }
+        if (event.commentId() != null) {
+            return "comment:" + event.commentId();
+        }
+        return "post:" + event.postId();
+    }
+}
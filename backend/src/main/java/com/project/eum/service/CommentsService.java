@@ -2,83 +2,93 @@ package com.project.eum.service;
 
 import com.project.eum.comments.Comments;
 import com.project.eum.comments.CommentsRepository;
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.CommentsRequest;
 import com.project.eum.dto.CommentsResponseDto;
 import com.project.eum.dto.CommentsUpdateRequest;
 import com.project.eum.dto.ReplyResponse;
-import com.project.eum.farm.FarmRepository;
-import com.project.eum.farm.contract.FarmContractRepository;
-import com.project.eum.farm.contract.FarmContractStatus;
+import com.project.eum.post.BoardChangeType;
+import com.project.eum.post.BoardChangedEvent;
 import com.project.eum.post.Post;
 import com.project.eum.post.PostRepository;
+import com.project.eum.replies.ReplyRepository;
+import com.project.eum.search.CommunitySearchIndex;
 import com.project.eum.user.Member;
 import com.project.eum.user.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentsService {
 
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     private final CommentsRepository commentsRepository;
+    private final ReplyRepository replyRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
-    private final FarmRepository farmRepository;
-    private final FarmContractRepository farmContractRepository;
-
-    // 농장주인지 확인
-    private boolean isFarmOwner(Long userId, Long farmId) {
-        return farmRepository.findById(farmId)
-                .map(farm -> farm.getOwner().getUserId().equals(userId))
-                .orElse(false);
-    }
-
-    // 승인된 회원인지 확인
-    private boolean isApprovedMember(Long userId, Long farmId) {
-        return farmContractRepository
-                .findByUserUserIdAndFarmFarmIdAndStatus(userId, farmId, FarmContractStatus.APPROVED)
-                .isPresent();
-    }
+    private final FarmMembershipAuthorizer farmMembershipAuthorizer;
+    private final CommunitySearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 작성 권한 확인
     private void validateCommentWritePermission(Long userId, Long farmId) {
-        boolean isOwner = isFarmOwner(userId, farmId);
-        boolean isApproved = isApprovedMember(userId, farmId);
-
-        if (!isOwner && !isApproved) {
+        if (!farmMembershipAuthorizer.membershipOf(userId, farmId).canWrite()) {
             throw new IllegalStateException("승인된 회원만 댓글을 작성할 수 있습니다.");
         }
     }
 
-    public List<CommentsResponseDto> getCommentsByPostId(Long postId) {
-        List<Comments> comments = commentsRepository.findByPost_PostId(postId);
-        return comments.stream()
-                .map(c -> {
-                    CommentsResponseDto dto = new CommentsResponseDto(
-                        c.getCommentId(),
-                        c.getPost().getPostId(),
-                        c.getAuthor().getUserId(),
-                        c.getAuthor().getNickname(),
-                        c.getContent(),
-                        c.getCreatedAt()
-                );
-
-        if (c.getReplies() != null && !c.getReplies().isEmpty()) {
-            List<ReplyResponse> replyList = c.getReplies().stream()
-                    .map(ReplyResponse::from)
-                    .collect(Collectors.toList());
-            dto.setReplies(replyList);
-        }
+    /**
+     * 게시글 댓글 트리 버전 (조건부 GET 용, 댓글·답글은 읽지 않음)
+     * - 댓글 집계 + 답글 집계를 합쳐 하나의 버전으로 만듦
+     */
+    @Transactional(readOnly = true)
+    public CollectionVersion getCommentsVersion(Long postId) {
+        return commentsRepository.findCollectionVersionByPostId(postId)
+                .combine(replyRepository.findCollectionVersionByPostId(postId));
+    }
 
-        return dto;
-    })
+    /**
+     * 게시글의 댓글 트리 조회 (쿼리 최대 2번)
+     * 1) 댓글 + 작성자 (page/size 가 있으면 해당 페이지만)
+     * 2) 1)의 댓글 ID 들에 달린 답글 + 작성자
+     * → 메모리에서 댓글별로 답글을 붙여 반환 (지연 로딩 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentsResponseDto> getCommentsByPostId(Long postId, Integer page, Integer size) {
+        Pageable pageable = size == null
+                ? Pageable.unpaged()
+                : PageRequest.of(page == null ? 0 : Math.max(page, 0), Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE));
+
+        List<CommentsResponseDto> comments = commentsRepository.findTreeRootsByPostId(postId, pageable);
+        if (comments.isEmpty()) {
+            return comments;
+        }
 
-                .collect(Collectors.toList());
+        Map<Long, CommentsResponseDto> byId = new LinkedHashMap<>();
+        for (CommentsResponseDto comment : comments) {
+            byId.put(comment.getCommentId(), comment);
+        }
+        for (ReplyResponse reply : replyRepository.findTreeRepliesByCommentIds(byId.keySet())) {
+            CommentsResponseDto parent = byId.get(reply.commentId());
+            if (parent != null) {
+                parent.getReplies().add(reply);
+            }
+        }
+        return comments;
     }
+
 @Transactional
     public CommentsResponseDto createComment(CommentsRequest request) {
         Post post = postRepository.findById(request.getPostId())
@@ -89,13 +99,22 @@ public class CommentsService {
         // 권한 검증
         validateCommentWritePermission(author.getUserId(), post.getFarm().getFarmId());
 
+        LocalDateTime now = LocalDateTime.now();
         Comments comment = Comments.builder()
                 .post(post)
                 .author(author)
                 .content(request.getContent())
+                .lastActivityAt(now)
                 .build();
         Comments savedComment = commentsRepository.save(comment);
 
+        // 게시글 댓글 수 + 1 (UPDATE posts SET comment_count = comment_count + 1)
+        postRepository.incrementCommentCount(post.getPostId(), now);
+        searchIndex.indexComment(savedComment.getCommentId(), post.getPostId(),
+                post.getFarm().getFarmId(), savedComment.getContent());
+        eventPublisher.publishEvent(BoardChangedEvent.comment(post.getFarm().getFarmId(),
+                BoardChangeType.COMMENT_CREATED, post.getPostId(), savedComment.getCommentId()));
+
         return new CommentsResponseDto(
                 savedComment.getCommentId(),
                 savedComment.getPost().getPostId(),
@@ -120,6 +139,11 @@ public class CommentsService {
 
         comment.setContent(request.getContent());
         Comments savedComment = commentsRepository.save(comment);
+        Post post = savedComment.getPost();
+        searchIndex.indexComment(savedComment.getCommentId(), post.getPostId(),
+                post.getFarm().getFarmId(), savedComment.getContent());
+        eventPublisher.publishEvent(BoardChangedEvent.comment(post.getFarm().getFarmId(),
+                BoardChangeType.COMMENT_UPDATED, post.getPostId(), commentId));
 
         CommentsResponseDto dto = new CommentsResponseDto(
                 savedComment.getCommentId(),
@@ -149,7 +173,14 @@ public class CommentsService {
             throw new IllegalArgumentException("작성자만 삭제할 수 있습니다.");
         }
 
-        commentsRepository.delete(comment);
+        // 답글 → 댓글 순서로 일괄 삭제, 삭제된 답글 수만큼 게시글 답글 수도 감소
+        Post post = comment.getPost();
+        int replyCount = replyRepository.deleteByCommentId(commentId);
+        commentsRepository.deleteByCommentId(commentId);
+        postRepository.decrementCommentCount(post.getPostId(), replyCount);
+        searchIndex.removeComment(commentId);
+        eventPublisher.publishEvent(BoardChangedEvent.comment(post.getFarm().getFarmId(),
+                BoardChangeType.COMMENT_DELETED, post.getPostId(), commentId));
 
     }
 
@@ -0,0 +1,37 @@
+package com.project.eum.service;
+
+import com.project.eum.comments.CommentsRepository;
+import com.project.eum.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시판 카운터(댓글 수 / 답글 수 / 마지막 활동 시간) 보정 작업
+ *
+ * - 평소에는 CommentsService / ReplyService 가 상대 UPDATE(n = n + 1)로 카운터를 유지
+ * - 실패한 트랜잭션, 직접 DB 수정 등으로 어긋난 값을 주기적으로 한 번에 다시 계산
+ * - 실제 값과 다른 행만 UPDATE 되므로 평소에는 거의 쓰기가 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class CommunityCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunityCounterReconciler.class);
+
+    private final PostRepository postRepository;
+    private final CommentsRepository commentsRepository;
+
+    @Scheduled(cron = "${community.counters.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        int comments = commentsRepository.reconcileCounters();
+        int posts = postRepository.reconcileCounters();
+        if (comments > 0 || posts > 0) {
+            log.info("Reconciled community counters: {} posts, {} comments", posts, comments);
+        }
+    }
+}
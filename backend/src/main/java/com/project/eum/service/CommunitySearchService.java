@@ -0,0 +1,102 @@
+package com.project.eum.service;
+
+import com.project.eum.dto.CommunitySearchResponse;
+import com.project.eum.dto.CommunitySearchResult;
+import com.project.eum.dto.PostResponseDto;
+import com.project.eum.post.PostRepository;
+import com.project.eum.search.CommunitySearchIndex;
+import com.project.eum.search.SearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 농장 게시판 검색
+ * 1) 검색 색인(CommunitySearchIndex)에서 관련도 순 게시글 ID 조회 (size + 1 개)
+ * 2) 해당 게시글 정보를 한 번에 조회해 색인 순서대로 응답 구성
+ */
+@Service
+@RequiredArgsConstructor
+public class CommunitySearchService {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 50;
+    private static final int MIN_QUERY_LENGTH = 2;   // ngram 토큰 크기
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int SNIPPET_LENGTH = 120;
+
+    private final CommunitySearchIndex searchIndex;
+    private final PostRepository postRepository;
+
+    @Transactional(readOnly = true)
+    public CommunitySearchResponse search(Long farmId, String query, Integer page, Integer size) {
+        if (farmId == null) {
+            throw new IllegalArgumentException("농장 정보가 필요합니다.");
+        }
+        String keyword = query == null ? "" : query.trim();
+        if (keyword.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MIN_QUERY_LENGTH + "자 이상 입력해 주세요.");
+        }
+        if (keyword.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해 주세요.");
+        }
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+
+        List<SearchHit> hits = searchIndex.search(farmId, keyword, pageNumber * pageSize, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+        if (hits.isEmpty()) {
+            return new CommunitySearchResponse(List.of(), pageNumber, pageSize, false);
+        }
+
+        Map<Long, PostResponseDto> posts = postRepository
+                .findSummariesByIds(hits.stream().map(SearchHit::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostResponseDto::getId, Function.identity()));
+
+        List<CommunitySearchResult> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            PostResponseDto post = posts.get(hit.postId());
+            if (post == null) {
+                continue;   // 색인 반영 직전에 삭제된 글
+            }
+            results.add(new CommunitySearchResult(
+                    post.getId(),
+                    post.getFarmId(),
+                    post.getType(),
+                    post.getTitle(),
+                    snippet(post.getContent(), keyword),
+                    post.getAuthorId(),
+                    post.getUserNickname(),
+                    post.getCreatedAt(),
+                    post.getCommentCount(),
+                    hit.score(),
+                    hit.matchedInComment()
+            ));
+        }
+        return new CommunitySearchResponse(results, pageNumber, pageSize, hasNext);
+    }
+
+    // 검색어가 처음 나오는 위치 주변을 잘라냄 (없으면 앞부분)
+    private static String snippet(String content, String keyword) {
+        if (!StringUtils.hasText(content)) {
+            return "";
+        }
+        int index = content.toLowerCase(Locale.ROOT).indexOf(keyword.toLowerCase(Locale.ROOT));
+        int start = index < 0 ? 0 : Math.max(0, index - SNIPPET_LENGTH / 4);
+        int end = Math.min(content.length(), start + SNIPPET_LENGTH);
+        String cut = content.substring(start, end);
+        return (start > 0 ? "…" : "") + cut + (end < content.length() ? "…" : "");
+    }
+}
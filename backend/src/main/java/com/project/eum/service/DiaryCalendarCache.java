@@ -0,0 +1,81 @@
+package com.project.eum.service;
+
+import com.project.eum.dto.DiaryCalendarResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 월간 일기 달력 캐시
+ *
+ * - (userId, 월) → 달력 응답을 캐시해서 달을 넘길 때마다 집계 쿼리를 다시 돌리지 않음
+ * - 일기 작성/수정/삭제 시 해당 사용자의 캐시를 모두 제거 (커밋 후)
+ *   → 수정으로 날짜가 다른 달로 옮겨 가도 두 달 모두 비워짐
+ * - 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않음 (오래된 값이 남지 않게)
+ */
+@Component
+public class DiaryCalendarCache {
+
+    private final Map<Long, Map<YearMonth, CachedCalendar>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** 캐시 유지 시간 */
+    @Value("${diary.calendar-cache.ttl-ms:600000}")
+    private long ttlMillis;
+
+    /** 캐시할 최대 사용자 수 (넘으면 전체 비움) */
+    @Value("${diary.calendar-cache.max-users:5000}")
+    private int maxUsers;
+
+    public DiaryCalendarResponse get(Long userId, YearMonth month, Supplier<DiaryCalendarResponse> loader) {
+        long now = System.currentTimeMillis();
+        Map<YearMonth, CachedCalendar> months = cache.get(userId);
+        CachedCalendar cached = months != null ? months.get(month) : null;
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.calendar();
+        }
+
+        long stamp = invalidations.get();
+        DiaryCalendarResponse calendar = loader.get();
+        if (invalidations.get() == stamp) {
+            if (cache.size() >= maxUsers && !cache.containsKey(userId)) {
+                cache.clear();
+            }
+            cache.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                    .put(month, new CachedCalendar(calendar, now + ttlMillis));
+        }
+        return calendar;
+    }
+
+    /**
+     * 사용자의 달력 캐시 제거
+     * - 트랜잭션 안이면 커밋 후 제거 (롤백되면 그대로 둠)
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    private record CachedCalendar(DiaryCalendarResponse calendar, long expiresAt) {
+    }
+}
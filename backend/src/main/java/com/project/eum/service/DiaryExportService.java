@@ -0,0 +1,407 @@
+package com.project.eum.service;
+
+import com.project.eum.diary.DiaryExportRow;
+import com.project.eum.diary.DiaryRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 일기 내보내기 (ZIP 스트리밍)
+ *
+ * - 일기는 keyset 페이지(export-page-size 건)로 읽어서 바로 ZIP 에 씀 (전체 목록을 메모리에 올리지 않음)
+ *   페이지 조회는 실행기 스레드에서 하고 다음 페이지를 미리 읽어 둠
+ *   → 조회마다 짧은 트랜잭션, 요청 스레드(OSIV)가 다운로드 내내 DB 연결을 잡지 않음
+ * - 페이지에는 사진 값을 넣지 않음 (photo_url 은 LONGTEXT, Base64 일 수 있음)
+ *   사진은 앞으로 쓸 photo-parallelism 개 일기만큼 실행기에서 한 건씩 값을 읽고 Object Storage 연결을 미리 열어 둠
+ *   → 순서대로 ZIP 에 쓰면서 본문은 스트림 그대로 복사 (파일 전체를 버퍼링하지 않음)
+ * - 미리 여는 사진 수는 모든 내보내기를 합쳐 max-prefetched-photos 로 제한 (Object Storage 연결 풀 보호)
+ *   창의 맨 앞 한 건은 허가 없이 열고, 허가를 못 얻으면 앞에서부터 써서 창을 줄임
+ *   → 내보내기끼리 서로 허가를 기다리며 멈추지 않음 (열린 연결 ≤ 허가 수 + 동시 내보내기 수)
+ * - 창에서 버린 사진 작업은 취소, 취소가 늦어 연결이 열리면 작업이 끝날 때 바로 닫음
+ * - ZIP 구성
+ *   diaries/{날짜}_{diaryId}.txt   : 제목, 날짜, 내용
+ *   photos/{날짜}_{diaryId}.{확장자} : 사진 (압축 없이 저장, 이미 압축된 형식)
+ * - 사진을 가져오지 못하면 해당 사진만 빠지고 내보내기는 계속됨
+ * - 한 번에 최대 MAX_EXPORT_DAYS 일, 생략한 날짜는 다른 쪽 날짜(둘 다 없으면 오늘) 기준으로 채움
+ */
+@Service
+public class DiaryExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DiaryExportService.class);
+
+    private static final int MAX_EXPORT_DAYS = 366;
+    private static final int EXPORT_PAGE_SIZE = 100;
+    // 날짜 없는 일기의 sort_at
+    private static final LocalDateTime UNDATED_SORT_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final DiaryRepository diaryRepository;
+    private final ObjectStorageService objectStorageService;
+    private final int photoParallelism;
+    // 모든 내보내기가 함께 쓰는 미리 열기 허가 (창 맨 앞 한 건 제외)
+    private final Semaphore prefetchPermits;
+
+    // 사진 연결을 미리 여는 실행기 (내보내기마다 photoParallelism, 전체는 prefetchPermits 로 제한)
+    private final ExecutorService photoExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DiaryExportService(
+            DiaryRepository diaryRepository,
+            ObjectStorageService objectStorageService,
+            @Value("${diary.export.photo-parallelism:4}") int photoParallelism,
+            @Value("${diary.export.max-prefetched-photos:32}") int maxPrefetchedPhotos
+    ) {
+        this.diaryRepository = diaryRepository;
+        this.objectStorageService = objectStorageService;
+        this.photoParallelism = Math.max(photoParallelism, 1);
+        this.prefetchPermits = new Semaphore(Math.max(maxPrefetchedPhotos, 0));
+    }
+
+    /**
+     * 내보내기 기간 확인 (응답을 쓰기 전에 호출)
+     * @throws IllegalArgumentException 기간이 잘못되었거나 너무 긴 경우
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        resolveRange(from, to);
+    }
+
+    /**
+     * 선택한 날짜 기간의 일기를 ZIP 으로 출력
+     * - 한쪽 날짜를 생략하면 다른 쪽에서 MAX_EXPORT_DAYS 일, 둘 다 생략하면 오늘까지 MAX_EXPORT_DAYS 일
+     * - 시작 날짜를 생략하면 날짜 없는 일기도 포함
+     * @param userId 사용자 ID
+     * @param from 선택한 날짜 시작 (포함, 선택사항)
+     * @param to 선택한 날짜 끝 (포함, 선택사항)
+     * @param out 응답 스트림 (닫지 않음)
+     * @return 내보낸 일기 수
+     */
+    public int export(Long userId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        ExportRange range = resolveRange(from, to);
+
+        Deque<PendingDiary> window = new ArrayDeque<>();
+        int exported = 0;
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        try {
+            // 날짜 없는 일기(sort_at 이 가장 작음)를 먼저, 이어서 선택한 기간
+            if (range.includeUndated()) {
+                exported += exportRange(zip, window, userId, UNDATED_SORT_AT, UNDATED_SORT_AT.plusDays(1));
+            }
+            exported += exportRange(zip, window, userId,
+                    range.from().atStartOfDay(), range.to().plusDays(1).atStartOfDay());
+            while (!window.isEmpty()) {
+                write(zip, window.removeFirst());
+                exported++;
+            }
+            zip.finish();
+        } finally {
+            // 클라이언트가 끊기는 등 중간에 멈추면 미리 열어 둔 사진 연결을 닫음
+            window.forEach(PendingDiary::discard);
+        }
+        return exported;
+    }
+
+    // [fromAt, toAt) 일기를 페이지로 읽어 창에 넣고, 창이 차면 앞에서부터 씀 (쓴 수 반환)
+    private int exportRange(ZipOutputStream zip, Deque<PendingDiary> window, Long userId,
+                            LocalDateTime fromAt, LocalDateTime toAt) throws IOException {
+        int written = 0;
+        Future<List<DiaryExportRow>> next = fetchPage(userId, fromAt, toAt, fromAt, 0L);
+        while (true) {
+            List<DiaryExportRow> rows = awaitPage(next);
+            boolean last = rows.size() < EXPORT_PAGE_SIZE;
+            if (!last) {
+                DiaryExportRow tail = rows.get(rows.size() - 1);
+                next = fetchPage(userId, fromAt, toAt, tail.sortAt(), tail.diaryId());
+            }
+            for (DiaryExportRow row : rows) {
+                written += enqueue(zip, window, row);
+            }
+            if (last) {
+                return written;
+            }
+        }
+    }
+
+    /**
+     * 창 뒤에 한 건 추가 (자리를 만들려고 쓴 수 반환)
+     * - 창이 비어 있으면 바로 추가 (허가 없이, 내보내기마다 한 건은 항상 진행)
+     * - 아니면 창 크기 안이고 사진이 없거나 허가를 얻었을 때만 미리 열고, 아니면 맨 앞을 써서 자리를 만듦
+     */
+    private int enqueue(ZipOutputStream zip, Deque<PendingDiary> window, DiaryExportRow row) throws IOException {
+        boolean hasPhoto = Boolean.TRUE.equals(row.hasPhoto());
+        int written = 0;
+        boolean permit = false;
+        while (!window.isEmpty()) {
+            if (window.size() < photoParallelism && (!hasPhoto || (permit = prefetchPermits.tryAcquire()))) {
+                break;
+            }
+            write(zip, window.removeFirst());
+            written++;
+        }
+        window.addLast(hasPhoto ? openPhoto(row, permit) : new PendingDiary(row, null, null, null));
+        return written;
+    }
+
+    // 요청 스레드 밖에서 조회 → 조회가 끝나면 연결 반환
+    private Future<List<DiaryExportRow>> fetchPage(Long userId, LocalDateTime fromAt, LocalDateTime toAt,
+                                                   LocalDateTime afterSortAt, Long afterId) {
+        Pageable page = PageRequest.of(0, EXPORT_PAGE_SIZE);
+        return photoExecutor.submit(() ->
+                diaryRepository.findExportPage(userId, fromAt, toAt, afterSortAt, afterId, page));
+    }
+
+    private static List<DiaryExportRow> awaitPage(Future<List<DiaryExportRow>> page) throws IOException {
+        try {
+            return page.get();
+        } catch (InterruptedException ex) {
+            page.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Diary export interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IOException("Failed to read diaries for export", ex.getCause());
+        }
+    }
+
+    /**
+     * 생략한 날짜를 채우고 기간 확인
+     * - 시작/끝 날짜 모두 포함해서 MAX_EXPORT_DAYS 일까지
+     */
+    private static ExportRange resolveRange(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            to = LocalDate.now();
+        }
+        boolean includeUndated = from == null;
+        LocalDate start = from != null ? from : to.minusDays(MAX_EXPORT_DAYS - 1);
+        LocalDate end = to != null ? to : from.plusDays(MAX_EXPORT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_EXPORT_DAYS) {
+            throw new IllegalArgumentException("한 번에 " + MAX_EXPORT_DAYS + "일까지 내보낼 수 있습니다.");
+        }
+        return new ExportRange(start, end, includeUndated);
+    }
+
+    // 창에서 꺼낸 일기를 씀 (도중에 실패해도 사진 연결은 닫음)
+    private void write(ZipOutputStream zip, PendingDiary pending) throws IOException {
+        try {
+            DiaryExportRow row = pending.row();
+            String name = baseName(row);
+
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry("diaries/" + name + ".txt"));
+            zip.write(text(row).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+
+            Photo photo = pending.await();
+            if (photo == null) {
+                return;
+            }
+            try (InputStream in = photo.content()) {
+                zip.setLevel(Deflater.NO_COMPRESSION);
+                zip.putNextEntry(new ZipEntry("photos/" + name + "." + photo.extension()));
+                in.transferTo(zip);
+                zip.closeEntry();
+            }
+        } finally {
+            pending.discard();
+        }
+    }
+
+    /**
+     * 사진을 실행기에서 미리 열기
+     * - 작업이 끝났는데 이미 버려진(취소된) 일기면 연 스트림을 바로 닫음
+     * - permit 은 일기를 쓰거나 버릴 때 반환
+     */
+    private PendingDiary openPhoto(DiaryExportRow row, boolean permit) {
+        Semaphore heldPermits = permit ? prefetchPermits : null;
+        CompletableFuture<Photo> photo = new CompletableFuture<>();
+        try {
+            Future<?> task = photoExecutor.submit(() -> {
+                try {
+                    Photo opened = loadPhoto(row.diaryId());
+                    if (!photo.complete(opened) && opened != null) {
+                        closeQuietly(opened);
+                    }
+                } catch (Throwable ex) {
+                    photo.completeExceptionally(ex);
+                }
+            });
+            return new PendingDiary(row, photo, task, heldPermits);
+        } catch (RuntimeException ex) {
+            if (heldPermits != null) {
+                heldPermits.release();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 일기 사진 값을 읽어 스트림 열기 (한 건씩 조회, 짧은 트랜잭션)
+     * - Object Storage URL: GetObject 응답 스트림
+     * - Base64 Data URL (이전 형식): 디코딩 스트림
+     * @return 사진 (없거나 알 수 없는 형식이면 null)
+     */
+    private Photo loadPhoto(Long diaryId) throws IOException {
+        String photoUrl = diaryRepository.findPhotoUrlById(diaryId).orElse(null);
+        if (photoUrl == null || photoUrl.isBlank()) {
+            return null;
+        }
+        if (photoUrl.startsWith("data:")) {
+            int comma = photoUrl.indexOf(',');
+            if (comma < 0 || !photoUrl.substring(0, comma).endsWith(";base64")) {
+                return null;
+            }
+            InputStream decoded = Base64.getMimeDecoder().wrap(new ByteArrayInputStream(
+                    photoUrl.substring(comma + 1).getBytes(StandardCharsets.US_ASCII)));
+            return new Photo(decoded, extensionOf(photoUrl.substring(5, comma)));
+        }
+        String key = objectStorageService.keyOf(photoUrl);
+        if (key == null) {
+            return null;
+        }
+        return new Photo(objectStorageService.openObject(key), extensionOf(key));
+    }
+
+    private static void closeQuietly(Photo photo) {
+        try {
+            photo.content().close();
+        } catch (IOException | RuntimeException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    private static String text(DiaryExportRow row) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("제목: ").append(row.title() != null ? row.title() : "").append('\n');
+        sb.append("날짜: ").append(row.selectAt() != null ? row.selectAt().format(DATE) : "-").append('\n');
+        sb.append("작성: ").append(row.createdAt() != null ? row.createdAt().format(DATE_TIME) : "-").append('\n');
+        sb.append('\n');
+        sb.append(row.content() != null ? row.content() : "").append('\n');
+        return sb.toString();
+    }
+
+    private static String baseName(DiaryExportRow row) {
+        String date = row.selectAt() != null ? row.selectAt().format(DATE) : "undated";
+        return date + "_" + row.diaryId();
+    }
+
+    // 키 / MIME 타입 끝부분에서 확장자 추출 (모르면 jpg)
+    private static String extensionOf(String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (lower.contains("png")) {
+            return "png";
+        }
+        if (lower.contains("gif")) {
+            return "gif";
+        }
+        if (lower.contains("webp")) {
+            return "webp";
+        }
+        return "jpg";
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        photoExecutor.shutdownNow();
+        photoExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record ExportRange(LocalDate from, LocalDate to, boolean includeUndated) {
+    }
+
+    private record Photo(InputStream content, String extension) {
+    }
+
+    // 창에 들어 있는 일기 (사진이 없으면 photo / task 는 null)
+    private static final class PendingDiary {
+
+        private final DiaryExportRow row;
+        private final CompletableFuture<Photo> photo;
+        private final Future<?> task;
+        private final Semaphore permits;
+        private boolean discarded;
+
+        private PendingDiary(DiaryExportRow row, CompletableFuture<Photo> photo, Future<?> task, Semaphore permits) {
+            this.row = row;
+            this.photo = photo;
+            this.task = task;
+            this.permits = permits;
+        }
+
+        DiaryExportRow row() {
+            return row;
+        }
+
+        // 사진 연결이 열릴 때까지 대기 (실패하면 사진 없이 진행)
+        Photo await() throws IOException {
+            if (photo == null) {
+                return null;
+            }
+            try {
+                return photo.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Diary export interrupted", ex);
+            } catch (ExecutionException ex) {
+                log.warn("Failed to fetch photo of diary {} for export: {}", row.diaryId(),
+                        ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * 쓰고 난 뒤 / 쓰지 못한 일기 정리 (한 번만)
+         * - 작업 취소, 이미 열린 연결은 닫음 (아직 여는 중이면 작업이 끝날 때 닫음)
+         * - 미리 열기 허가 반환
+         */
+        void discard() {
+            if (discarded) {
+                return;
+            }
+            discarded = true;
+            if (photo != null) {
+                task.cancel(true);
+                if (!photo.cancel(false)) {
+                    photo.thenAccept(opened -> {
+                        if (opened != null) {
+                            closeQuietly(opened);
+                        }
+                    });
+                }
+            }
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
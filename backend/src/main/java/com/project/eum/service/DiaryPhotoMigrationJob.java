@@ -0,0 +1,225 @@
+package com.project.eum.service;
+
+import com.project.eum.diary.DiaryPhotoCandidate;
+import com.project.eum.diary.DiaryPhotoMigrationSkipRepository;
+import com.project.eum.diary.DiaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 일기 photo_url(LONGTEXT)에 Base64 로 들어 있는 이미지를 Object Storage 로 옮기는 백그라운드 작업
+ *
+ * - 기본은 꺼져 있음 (diary.photo-migration.enabled=true 로 한 인스턴스에서만 켬)
+ * - 시작 후 별도 가상 스레드에서 diary_id 순으로 batch-size 건씩 처리, 배치 사이 interval 만큼 쉼
+ *   (공용 @Scheduled 스레드를 붙잡지 않음)
+ * - 한 건씩 이미지 값을 읽어 디코딩 → 업로드 → URL 로 교체 (메모리에는 한 건만)
+ * - 옮긴 행은 조회 조건(URL 아님)에서 빠지므로 재시작하면 남은 행부터 다시 진행
+ * - 교체 직전에 사용자가 이미지를 바꿨으면 교체하지 않고 올린 이미지를 지움
+ * - 이미지로 해석할 수 없는 값은 diary_photo_migration_skips 에 기록하고 이후 실행에서 제외
+ *   (ID 는 로그에도 남김, 기록을 지우면 다시 시도)
+ * - Micrometer 메트릭 (actuator 는 health,info 만 노출 → 연결된 모니터링 레지스트리에서 확인, 종료 시 로그로도 남김)
+ *   diary.photo-migration.migrated  : 옮긴 일기 수
+ *   diary.photo-migration.skipped   : 이미지로 해석할 수 없거나 그 사이 바뀌어 건너뛴 수
+ *   diary.photo-migration.failed    : 업로드/교체 실패 수 (다음 실행 때 다시 시도)
+ *   diary.photo-migration.remaining : 시작 시점 대상 수 - 처리한 수
+ *   diary.photo-migration.cursor    : 마지막으로 처리한 diary_id
+ *   diary.photo-migration.inline.bytes : 옮긴 인라인 값 크기 분포
+ */
+@Component
+public class DiaryPhotoMigrationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DiaryPhotoMigrationJob.class);
+
+    private static final Pattern DATA_URL = Pattern.compile(
+            "^data:(image/[a-z0-9.+-]+)(;[^,;]+=[^,;]*)*;base64,", Pattern.CASE_INSENSITIVE);
+
+    private static final String SKIP_NOT_IMAGE = "NOT_IMAGE";
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryPhotoMigrationSkipRepository skipRepository;
+    private final ObjectStorageService objectStorageService;
+    private final DiaryCalendarCache diaryCalendarCache;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long intervalMillis;
+
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLong remaining = new AtomicLong();
+    private final Counter migrated;
+    private final Counter skipped;
+    private final Counter failed;
+    private final DistributionSummary inlineBytes;
+
+    private volatile Thread worker;
+
+    public DiaryPhotoMigrationJob(
+            DiaryRepository diaryRepository,
+            DiaryPhotoMigrationSkipRepository skipRepository,
+            ObjectStorageService objectStorageService,
+            DiaryCalendarCache diaryCalendarCache,
+            MeterRegistry meterRegistry,
+            @Value("${diary.photo-migration.enabled:false}") boolean enabled,
+            @Value("${diary.photo-migration.batch-size:10}") int batchSize,
+            @Value("${diary.photo-migration.interval-ms:2000}") long intervalMillis
+    ) {
+        this.diaryRepository = diaryRepository;
+        this.skipRepository = skipRepository;
+        this.objectStorageService = objectStorageService;
+        this.diaryCalendarCache = diaryCalendarCache;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.intervalMillis = Math.max(intervalMillis, 0);
+
+        this.migrated = Counter.builder("diary.photo-migration.migrated").register(meterRegistry);
+        this.skipped = Counter.builder("diary.photo-migration.skipped").register(meterRegistry);
+        this.failed = Counter.builder("diary.photo-migration.failed").register(meterRegistry);
+        this.inlineBytes = DistributionSummary.builder("diary.photo-migration.inline.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("diary.photo-migration.remaining", remaining, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("diary.photo-migration.cursor", cursor, AtomicLong::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = Thread.ofVirtual().name("diary-photo-migration").start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            remaining.set(diaryRepository.countInlinePhotos());
+            if (remaining.get() == 0) {
+                return;
+            }
+            log.info("Diary photo migration started: {} diaries with inline images", remaining.get());
+
+            while (!Thread.currentThread().isInterrupted()) {
+                List<DiaryPhotoCandidate> batch = diaryRepository.findInlinePhotoCandidates(cursor.get(), batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (DiaryPhotoCandidate candidate : batch) {
+                    migrate(candidate);
+                    cursor.set(candidate.getDiaryId());
+                    remaining.updateAndGet(n -> Math.max(n - 1, 0));
+                }
+                Thread.sleep(intervalMillis);
+            }
+            log.info("Diary photo migration finished: migrated={}, skipped={}, failed={}",
+                    (long) migrated.count(), (long) skipped.count(), (long) failed.count());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.info("Diary photo migration stopped at diary {}", cursor.get());
+        } catch (RuntimeException ex) {
+            log.warn("Diary photo migration aborted at diary {}: {}", cursor.get(), ex.getMessage());
+        }
+    }
+
+    private void migrate(DiaryPhotoCandidate candidate) {
+        Long diaryId = candidate.getDiaryId();
+        try {
+            String photo = diaryRepository.findPhotoUrlById(diaryId).orElse(null);
+            if (photo == null || photo.isBlank() || photo.startsWith("http")) {
+                // 그 사이 삭제/교체됨 → 더 이상 대상이 아님
+                skipped.increment();
+                return;
+            }
+            InlineImage image = InlineImage.parse(photo);
+            if (image == null) {
+                // 다음 실행부터 제외 (재시작할 때마다 다시 읽고 디코딩하지 않음)
+                skipRepository.record(diaryId, SKIP_NOT_IMAGE, LocalDateTime.now());
+                skipped.increment();
+                log.info("Diary {} photo is not an inline image, recorded as skipped", diaryId);
+                return;
+            }
+
+            String url = objectStorageService.uploadDiaryImage(image.content(), image.contentType(),
+                    "migrated_" + diaryId + "." + image.extension(), candidate.getUserId());
+            if (diaryRepository.replaceInlinePhotoUrl(diaryId, url) == 0) {
+                // 그 사이 사용자가 새 이미지로 바꿈 → 방금 올린 이미지는 필요 없음
+                objectStorageService.deleteObjectByUrlAsync(url);
+                skipped.increment();
+                return;
+            }
+            migrated.increment();
+            inlineBytes.record(photo.length());
+            diaryCalendarCache.invalidate(candidate.getUserId());
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.warn("Failed to migrate photo of diary {}: {}", diaryId, ex.getMessage());
+        }
+    }
+
+    /**
+     * 인라인 이미지 (Data URL 또는 접두어 없는 Base64)
+     */
+    private record InlineImage(byte[] content, String contentType, String extension) {
+
+        static InlineImage parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            Matcher matcher = DATA_URL.matcher(value);
+            String payload = matcher.find() ? value.substring(matcher.end()) : value;
+            byte[] content;
+            try {
+                content = Base64.getMimeDecoder().decode(payload);
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+
+            // 선언된 형식보다 실제 바이트를 믿음
+            String contentType = sniff(content);
+            if (contentType == null) {
+                return null;
+            }
+            String extension = contentType.substring("image/".length()).toLowerCase(Locale.ROOT);
+            return new InlineImage(content, contentType, extension.equals("jpeg") ? "jpg" : extension);
+        }
+
+        private static String sniff(byte[] b) {
+            if (b.length >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+                return "image/jpeg";
+            }
+            if (b.length >= 8 && (b[0] & 0xFF) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G') {
+                return "image/png";
+            }
+            if (b.length >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8') {
+                return "image/gif";
+            }
+            if (b.length >= 12 && b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                    && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+                return "image/webp";
+            }
+            return null;
+        }
+    }
+}
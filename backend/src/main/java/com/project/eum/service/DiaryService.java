@@ -1,15 +1,31 @@
 package com.project.eum.service;
 
 import com.project.eum.diary.Diary;
+import com.project.eum.diary.DiaryCalendarRow;
 import com.project.eum.diary.DiaryRepository;
+import com.project.eum.dto.DiaryCalendarDay;
+import com.project.eum.dto.DiaryCalendarResponse;
 import com.project.eum.dto.DiaryRequest;
 import com.project.eum.dto.DiaryResponse;
+import com.project.eum.dto.DiaryTimelineItem;
+import com.project.eum.dto.DiaryTimelineResponse;
+import com.project.eum.search.DiarySearchHit;
+import com.project.eum.search.DiarySearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,9 +36,17 @@ import java.util.stream.Collectors;
 public class DiaryService {
 
     private static final long MAX_IMAGE_SIZE = 1 * 1024 * 1024; // 1MB
+    private static final int SEARCH_MAX_SIZE = 100;
+    private static final int SEARCH_MIN_INDEXED_LENGTH = 2;  // ngram 토큰 크기
+    private static final int SEARCH_MAX_QUERY_LENGTH = 100;
+    private static final int DEFAULT_TIMELINE_SIZE = 20;
+    private static final int MAX_TIMELINE_SIZE = 50;
 
     private final DiaryRepository diaryRepository;
     private final ObjectStorageService objectStorageService;
+    private final DiarySearchIndex diarySearchIndex;
+    private final DiaryCalendarCache diaryCalendarCache;
+    private final UploadService uploadService;
 
     /**
      * 사용자의 일기 목록 조회 (최신순)
@@ -32,9 +56,71 @@ public class DiaryService {
     @Transactional(readOnly = true)
     public List<DiaryResponse> getDiaries(Long userId) {
         List<Diary> diaries = diaryRepository.findByUserIdOrderBySelectAtDesc(userId);
-        return diaries.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(diaries);
+    }
+
+    /**
+     * 일기 타임라인 (keyset 페이지네이션, 선택한 날짜 최신순, 날짜 없는 일기는 마지막)
+     * - 목록용 프로젝션: 내용은 앞부분만, Base64 이미지는 읽지 않음 (상세는 getDiary)
+     * - 첫 페이지는 커서 없이, 다음 페이지는 직전 응답의 nextCursorSortAt / nextCursorId 로 요청
+     *   (커서가 정렬 값을 직접 담으므로 커서 일기가 그사이 삭제돼도 이어서 조회됨)
+     * - size + 1 개를 읽어서 다음 페이지가 있는지 판단
+     * @param userId 사용자 ID
+     * @param cursorSortAt 직전 페이지 마지막 일기의 정렬 값 (선택사항)
+     * @param cursorId 직전 페이지 마지막 일기 ID (선택사항)
+     * @param size 페이지 크기 (선택사항, 최대 50)
+     * @return 일기 타임라인 한 페이지
+     */
+    @Transactional(readOnly = true)
+    public DiaryTimelineResponse getTimeline(Long userId, LocalDateTime cursorSortAt, Long cursorId, Integer size) {
+        int pageSize = size == null ? DEFAULT_TIMELINE_SIZE : Math.min(Math.max(size, 1), MAX_TIMELINE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DiaryTimelineItem> rows;
+        if (cursorSortAt == null || cursorId == null) {
+            rows = diaryRepository.findTimeline(userId, limit);
+        } else {
+            rows = diaryRepository.findTimelineAfter(userId, cursorSortAt, cursorId, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DiaryTimelineItem> page = hasNext ? rows.subList(0, pageSize) : rows;
+        ImageVariantUrls variants = objectStorageService.variantUrls(
+                page.stream().map(DiaryTimelineItem::photoUrl).toList());
+        List<DiaryTimelineItem> diaries = page.stream()
+                .map(item -> item.withThumbnailUrl(variants.thumbnailOf(item.photoUrl())))
+                .toList();
+        DiaryTimelineItem last = hasNext ? diaries.get(diaries.size() - 1) : null;
+        return new DiaryTimelineResponse(
+                diaries,
+                last != null ? last.sortAt() : null,
+                last != null ? last.diaryId() : null,
+                hasNext
+        );
+    }
+
+    /**
+     * 한 달 일기 달력 (일기가 있는 날의 일기 수 + 썸네일)
+     * - 사용자별 월간 캐시 사용, 일기 작성/수정/삭제 시 무효화
+     * @param userId 사용자 ID
+     * @param month 조회할 달
+     * @return 일기가 있는 날 목록
+     */
+    @Transactional(readOnly = true)
+    public DiaryCalendarResponse getCalendar(Long userId, YearMonth month) {
+        return diaryCalendarCache.get(userId, month, () -> {
+            List<DiaryCalendarRow> rows = diaryRepository.findCalendar(userId,
+                    month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+            ImageVariantUrls variants = objectStorageService.variantUrls(
+                    rows.stream().map(DiaryCalendarRow::photoUrl).toList());
+            List<DiaryCalendarDay> days = rows.stream()
+                    .map(row -> new DiaryCalendarDay(
+                            month.atDay(row.day()),
+                            row.entryCount(),
+                            variants.thumbnailOf(row.photoUrl())))
+                    .toList();
+            return new DiaryCalendarResponse(month, days);
+        });
     }
 
     /**
@@ -57,21 +143,57 @@ public class DiaryService {
     }
 
     /**
-     * 일기 검색 (내용에 키워드 포함)
+     * 일기 검색 (제목 + 내용, 관련도 순)
+     * - 2글자 이상: 검색 색인(DiarySearchIndex) 사용
+     * - 1글자 / 날짜만: 본인 일기 범위 안에서 LIKE (선택한 날짜 순)
+     * - 검색어와 날짜가 모두 없으면 전체 목록 (기존 동작)
      * @param userId 사용자 ID
      * @param keyword 검색 키워드
+     * @param from 선택한 날짜 시작 (포함, 선택사항)
+     * @param to 선택한 날짜 끝 (포함, 선택사항)
+     * @param page 페이지 번호 (0부터, 선택사항)
+     * @param size 페이지 크기 (선택사항, 최대 100), page / size 가 모두 없으면 전체 결과 (기존 동작)
      * @return 검색된 일기 목록
+     * @throws IllegalArgumentException 날짜 범위가 잘못되었거나 검색어가 너무 긴 경우
      */
     @Transactional(readOnly = true)
-    public List<DiaryResponse> searchDiaries(Long userId, String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
+    public List<DiaryResponse> searchDiaries(Long userId, String keyword, LocalDate from, LocalDate to,
+                                             Integer page, Integer size) {
+        String query = keyword == null ? "" : keyword.trim();
+        if (query.isEmpty() && from == null && to == null) {
             return getDiaries(userId);
         }
+        if (query.length() > SEARCH_MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + SEARCH_MAX_QUERY_LENGTH + "자 이하로 입력해 주세요.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("검색 시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        LocalDateTime fromAt = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toAt = to != null ? to.plusDays(1).atStartOfDay() : null;
+        boolean paged = page != null || size != null;
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = size == null ? SEARCH_MAX_SIZE : Math.min(Math.max(size, 1), SEARCH_MAX_SIZE);
 
-        List<Diary> diaries = diaryRepository.findByUserIdAndContentContaining(userId, keyword.trim());
-        return diaries.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        if (query.length() < SEARCH_MIN_INDEXED_LENGTH) {
+            Pageable pageable = paged ? PageRequest.of(pageNumber, pageSize) : Pageable.unpaged();
+            return toResponses(diaryRepository.searchByKeyword(userId, query, fromAt, toAt, pageable));
+        }
+
+        List<DiarySearchHit> hits = paged
+                ? diarySearchIndex.search(userId, query, fromAt, toAt, pageNumber * pageSize, pageSize)
+                : diarySearchIndex.search(userId, query, fromAt, toAt, 0, Integer.MAX_VALUE);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Diary> diaries = diaryRepository.findAllById(hits.stream().map(DiarySearchHit::diaryId).toList())
+                .stream()
+                .filter(diary -> diary.getUserId().equals(userId))
+                .collect(Collectors.toMap(Diary::getDiaryId, Function.identity()));
+        return toResponses(hits.stream()
+                .map(hit -> diaries.get(hit.diaryId()))
+                .filter(Objects::nonNull)   // 색인 반영 직전에 삭제된 일기
+                .toList());
     }
 
     /**
@@ -89,8 +211,22 @@ public class DiaryService {
         if (imageFile != null && !imageFile.isEmpty()) {
             validateImageSize(imageFile);
             photoUrl = objectStorageService.uploadDiaryImage(imageFile, userId);
+            objectStorageService.deleteOnRollback(photoUrl);
+        } else if (StringUtils.hasText(request.getPhotoUrl())) {
+            photoUrl = uploadedPhotoUrl(userId, request.getPhotoUrl());
         }
+        return createDiaryWithPhoto(userId, request, photoUrl);
+    }
 
+    /**
+     * 이미 Object Storage 에 있는 이미지로 일기 작성 (진단 결과 공유 등)
+     * @param userId 사용자 ID
+     * @param request 일기 제목, 내용, 날짜
+     * @param photoUrl 이미지 URL (선택사항)
+     * @return 생성된 일기 정보
+     */
+    @Transactional
+    public DiaryResponse createDiaryWithPhoto(Long userId, DiaryRequest request, String photoUrl) {
         Diary diary = Diary.builder()
                 .userId(userId)
                 .title(request.getTitle())
@@ -100,6 +236,9 @@ public class DiaryService {
                 .build();
 
         Diary savedDiary = diaryRepository.save(diary);
+        diarySearchIndex.indexDiary(savedDiary.getDiaryId(), userId, savedDiary.getTitle(),
+                savedDiary.getContent(), savedDiary.getSelectAt());
+        diaryCalendarCache.invalidate(userId);
         return toResponse(savedDiary);
     }
 
@@ -137,10 +276,21 @@ public class DiaryService {
         // 이미지 업데이트
         if (imageFile != null && !imageFile.isEmpty()) {
             validateImageSize(imageFile);
+            String oldPhotoUrl = diary.getPhotoUrl();
             String newPhotoUrl = objectStorageService.uploadDiaryImage(imageFile, userId);
+            objectStorageService.deleteOnRollback(newPhotoUrl);
             diary.updatePhotoUrl(newPhotoUrl);
+            // 이전 이미지는 커밋 후 삭제 (Base64 등 버킷 밖 값은 건너뜀)
+            objectStorageService.deleteObjectByUrlAsync(oldPhotoUrl);
+        } else if (StringUtils.hasText(request.getPhotoUrl()) && !request.getPhotoUrl().equals(diary.getPhotoUrl())) {
+            String oldPhotoUrl = diary.getPhotoUrl();
+            diary.updatePhotoUrl(uploadedPhotoUrl(userId, request.getPhotoUrl()));
+            objectStorageService.deleteObjectByUrlAsync(oldPhotoUrl);
         }
 
+        diarySearchIndex.indexDiary(diary.getDiaryId(), userId, diary.getTitle(),
+                diary.getContent(), diary.getSelectAt());
+        diaryCalendarCache.invalidate(userId);
         return toResponse(diary);
     }
 
@@ -159,11 +309,11 @@ public class DiaryService {
             throw new IllegalArgumentException("본인의 일기만 삭제할 수 있습니다.");
         }
 
-        if (diary.getPhotoUrl() != null) {
-            objectStorageService.deleteObjectByUrl(diary.getPhotoUrl());
-        }
-
         diaryRepository.delete(diary);
+        diarySearchIndex.removeDiary(diaryId);
+        diaryCalendarCache.invalidate(userId);
+        // 이미지는 커밋 후 요청 스레드 밖에서 삭제
+        objectStorageService.deleteObjectByUrlAsync(diary.getPhotoUrl());
     }
 
     /**
@@ -172,6 +322,20 @@ public class DiaryService {
      * @return DiaryResponse DTO
      */
     private DiaryResponse toResponse(Diary diary) {
+        return toResponse(diary, objectStorageService.variantUrls(
+                diary.getPhotoUrl() != null ? List.of(diary.getPhotoUrl()) : List.of()));
+    }
+
+    // 목록 변환 (축소본 URL 은 목록 전체를 한 번에 조회)
+    private List<DiaryResponse> toResponses(List<Diary> diaries) {
+        ImageVariantUrls variants = objectStorageService.variantUrls(
+                diaries.stream().map(Diary::getPhotoUrl).filter(Objects::nonNull).toList());
+        return diaries.stream()
+                .map(diary -> toResponse(diary, variants))
+                .collect(Collectors.toList());
+    }
+
+    private DiaryResponse toResponse(Diary diary, ImageVariantUrls variants) {
         return DiaryResponse.builder()
                 .diaryId(diary.getDiaryId())
                 .title(diary.getTitle())
@@ -180,9 +344,20 @@ public class DiaryService {
                 .createdAt(diary.getCreatedAt())
                 .updatedAt(diary.getUpdatedAt())
                 .selectAt(diary.getSelectAt())
+                .thumbnailUrl(variants.thumbnailOf(diary.getPhotoUrl()))
+                .mediumUrl(variants.mediumOf(diary.getPhotoUrl()))
                 .build();
     }
 
+    // 직접 업로드한 이미지 URL 확인 (본인 일기 이미지, 크기/형식 정책)
+    private String uploadedPhotoUrl(Long userId, String photoUrl) {
+        String confirmed = uploadService.requireUploadedUrl(userId, UploadCategory.DIARY, photoUrl);
+        if (confirmed == null) {
+            throw new IllegalArgumentException("업로드한 이미지를 찾을 수 없습니다.");
+        }
+        return confirmed;
+    }
+
     private void validateImageSize(MultipartFile imageFile) {
         if (imageFile.getSize() > MAX_IMAGE_SIZE) {
             throw new IllegalArgumentException("이미지 크기는 1MB 이하여야 합니다. 현재 크기: " + (imageFile.getSize() / 1024) + "KB");
@@ -0,0 +1,132 @@
+package com.project.eum.service;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * JPEG EXIF 방향(Orientation, 태그 0x0112) 읽기/적용
+ *
+ * - 휴대폰 사진은 픽셀을 돌리지 않고 EXIF 방향 값만 기록하는 경우가 많아,
+ *   그대로 축소하면 브라우저가 원본은 돌려서 보여주고 축소본(EXIF 없음)은 누운 채로 보임
+ * - ImageIO 기본 JPEG 메타데이터의 APP1(Exif) 세그먼트에서 IFD0 만 읽음 (별도 라이브러리 없음)
+ * - 1(정상) 이외 값이면 축소 전에 픽셀을 돌림/뒤집음
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG 메타데이터의 EXIF 방향 값 (없거나 읽을 수 없으면 NORMAL)
+     */
+    static int of(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return NORMAL;
+        }
+        Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!"markerSequence".equals(child.getNodeName())) {
+                continue;
+            }
+            for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode node
+                        && "unknown".equals(node.getNodeName())
+                        && String.valueOf(APP1_MARKER).equals(node.getAttribute("MarkerTag"))
+                        && node.getUserObject() instanceof byte[] data) {
+                    int orientation = fromExif(data);
+                    if (orientation != NORMAL) {
+                        return orientation;
+                    }
+                }
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * APP1 세그먼트 내용("Exif\0\0" + TIFF) → IFD0 의 방향 값
+     */
+    static int fromExif(byte[] data) {
+        int tiff = EXIF_HEADER.length;
+        if (data.length < tiff + 8 || !Arrays.equals(data, 0, tiff, EXIF_HEADER, 0, tiff)) {
+            return NORMAL;
+        }
+        boolean littleEndian = data[tiff] == 'I' && data[tiff + 1] == 'I';
+        if (!littleEndian && !(data[tiff] == 'M' && data[tiff + 1] == 'M')) {
+            return NORMAL;
+        }
+        long ifd = tiff + readInt(data, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > data.length) {
+            return NORMAL;
+        }
+        int entries = readShort(data, (int) ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > data.length) {
+                break;
+            }
+            if (readShort(data, entry, littleEndian) == ORIENTATION_TAG) {
+                int value = readShort(data, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 방향 값대로 돌린/뒤집은 이미지 (NORMAL 이면 그대로)
+     * - 5~8 은 가로/세로가 바뀜
+     */
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180°
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 좌상-우하 대각선 기준 뒤집기
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90°
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 우상-좌하 대각선 기준 뒤집기
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90°
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean littleEndian) {
+        long high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        long low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -8,10 +8,12 @@ import com.project.eum.farm.FarmRepository;
 import com.project.eum.farm.contract.FarmContract;
 import com.project.eum.farm.contract.FarmContractRepository;
 import com.project.eum.farm.contract.FarmContractStatus;
+import com.project.eum.farm.contract.FarmMembershipChangedEvent;
 import com.project.eum.user.Member;
 import com.project.eum.user.MemberRepository;
 import com.project.eum.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -29,6 +31,7 @@ public class FarmContractService {
     private final FarmContractRepository farmContractRepository;
     private final FarmRepository farmRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public FarmContractResponse apply(Long userId, FarmContractApplyRequest request) {
@@ -118,6 +121,8 @@ public class FarmContractService {
             memberRepository.save(applicant);
         }
 
+        // 게시판 권한 캐시 무효화 (커밋 후)
+        publishMembershipChanged(contract);
         return FarmContractResponse.from(contract);
     }
 
@@ -140,6 +145,7 @@ public class FarmContractService {
         }
 
         farmContractRepository.delete(contract);
+        publishMembershipChanged(contract);
     }
 
     @Transactional
@@ -171,9 +177,18 @@ public class FarmContractService {
                 applicant.setFarm(null);
                 memberRepository.save(applicant);
             }
+            publishMembershipChanged(contract);
         });
     }
 
+    // 회원-농장 관계 변경 알림 → FarmMembershipAuthorizer 캐시 제거
+    private void publishMembershipChanged(FarmContract contract) {
+        eventPublisher.publishEvent(new FarmMembershipChangedEvent(
+                contract.getUser().getUserId(),
+                contract.getFarm().getFarmId()
+        ));
+    }
+
     private FarmContractStatus parseStatus(String source) {
         try {
             return FarmContractStatus.valueOf(source.trim().toUpperCase(Locale.ROOT));
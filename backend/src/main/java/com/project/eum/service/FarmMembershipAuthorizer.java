@@ -0,0 +1,124 @@
+package com.project.eum.service;
+
+import com.project.eum.farm.FarmMembership;
+import com.project.eum.farm.FarmRepository;
+import com.project.eum.farm.contract.FarmContractRepository;
+import com.project.eum.farm.contract.FarmContractStatus;
+import com.project.eum.farm.contract.FarmMembershipChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 농장 게시판 권한 확인 (농장주 / 승인 회원) + 캐시
+ *
+ * - (userId, farmId) → OWNER / APPROVED / NONE 을 캐시해서
+ *   글/댓글/답글 작성 때마다 farms, farm_contracts 를 조회하지 않음
+ * - 계약 승인/거절/삭제/만료 시 FarmMembershipChangedEvent 를 받아 해당 항목 제거 (커밋 후)
+ * - 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않음 (오래된 값이 남지 않게)
+ * - 혹시 놓친 변경이 있어도 ttl 이 지나면 다시 조회
+ * - 조회는 호출한 쪽 트랜잭션과 별개의 짧은 읽기 트랜잭션(READ COMMITTED)에서 실행
+ *   → 호출한 쪽 REPEATABLE READ 스냅샷에 남은 옛 APPROVED 를 읽어 캐시에 넣지 않음
+ *   (캐시를 못 찾았을 때만 커넥션을 하나 더 씀)
+ */
+@Component
+public class FarmMembershipAuthorizer {
+
+    private final FarmRepository farmRepository;
+    private final FarmContractRepository farmContractRepository;
+    private final TransactionTemplate loadTransaction;
+
+    private final Map<Key, CachedMembership> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** 캐시 유지 시간 */
+    @Value("${community.membership-cache.ttl-ms:600000}")
+    private long ttlMillis;
+
+    /** 캐시 최대 항목 수 (넘으면 전체 비움) */
+    @Value("${community.membership-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public FarmMembershipAuthorizer(FarmRepository farmRepository,
+                                    FarmContractRepository farmContractRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.farmRepository = farmRepository;
+        this.farmContractRepository = farmContractRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    public FarmMembership membershipOf(Long userId, Long farmId) {
+        if (userId == null || farmId == null) {
+            return FarmMembership.NONE;
+        }
+        Key key = new Key(userId, farmId);
+        long now = System.currentTimeMillis();
+        CachedMembership cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.membership();
+        }
+
+        long stamp = invalidations.get();
+        FarmMembership membership = load(userId, farmId);
+        if (invalidations.get() == stamp) {
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+            cache.put(key, new CachedMembership(membership, now + ttlMillis));
+        }
+        return membership;
+    }
+
+    // 농장주인지 확인
+    public boolean isFarmOwner(Long userId, Long farmId) {
+        return membershipOf(userId, farmId) == FarmMembership.OWNER;
+    }
+
+    // 승인된 회원인지 확인 (농장주 제외)
+    public boolean isApprovedMember(Long userId, Long farmId) {
+        return membershipOf(userId, farmId) == FarmMembership.APPROVED;
+    }
+
+    /**
+     * 계약 변경 이벤트 → 캐시 제거
+     * - 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖에서 발행되면 바로 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(FarmMembershipChangedEvent event) {
+        invalidations.incrementAndGet();
+        cache.remove(new Key(event.userId(), event.farmId()));
+    }
+
+    private FarmMembership load(Long userId, Long farmId) {
+        return loadTransaction.execute(status -> loadCommitted(userId, farmId));
+    }
+
+    private FarmMembership loadCommitted(Long userId, Long farmId) {
+        boolean owner = farmRepository.findById(farmId)
+                .map(farm -> farm.getOwner().getUserId().equals(userId))
+                .orElse(false);
+        if (owner) {
+            return FarmMembership.OWNER;
+        }
+        boolean approved = farmContractRepository
+                .findByUserUserIdAndFarmFarmIdAndStatus(userId, farmId, FarmContractStatus.APPROVED)
+                .isPresent();
+        return approved ? FarmMembership.APPROVED : FarmMembership.NONE;
+    }
+
+    private record Key(Long userId, Long farmId) {
+    }
+
+    private record CachedMembership(FarmMembership membership, long expiresAt) {
+    }
+}
@@ -1,11 +1,10 @@
 package com.project.eum.service;
 
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.CreateFarmRequest;
 import com.project.eum.dto.FarmResponse;
 import com.project.eum.farm.Farm;
 import com.project.eum.farm.FarmRepository;
-import com.project.eum.farm.contract.FarmContractRepository;
-import com.project.eum.farm.contract.FarmContractStatus;
 import com.project.eum.service.dto.GeoCoordinate;
 import com.project.eum.user.Member;
 import com.project.eum.user.MemberRepository;
@@ -37,7 +36,7 @@ public class FarmService {
     private final MemberRepository memberRepository;
     private final FarmRepository farmRepository;
     private final KakaoAddressSearchClient kakaoAddressSearchClient;
-    private final FarmContractRepository farmContractRepository;
+    private final FarmMembershipAuthorizer farmMembershipAuthorizer;
 
     /**
      * 농장 등록.
@@ -87,6 +86,14 @@ public class FarmService {
         return saved;
     }
 
+    /**
+     * 전체 농장 목록 버전 (조건부 GET 용, 목록은 읽지 않음).
+     */
+    @Transactional(readOnly = true)
+    public CollectionVersion getFarmsVersion() {
+        return farmRepository.findCollectionVersion();
+    }
+
     /**
      * 전체 농장 조회.
      */
@@ -259,21 +266,17 @@ public class FarmService {
     }
 
     /**
-     * 농장주인지 확인
+     * 농장주인지 확인 (권한 캐시 사용)
      */
     public boolean isFarmOwner(Long userId, Long farmId) {
-        return farmRepository.findById(farmId)
-                .map(farm -> farm.getOwner().getUserId().equals(userId))
-                .orElse(false);
+        return farmMembershipAuthorizer.isFarmOwner(userId, farmId);
     }
 
     /**
-     * 승인된 회원인지 확인
+     * 승인된 회원인지 확인 (권한 캐시 사용)
      */
     public boolean isApprovedMember(Long userId, Long farmId) {
-        return farmContractRepository
-                .findByUserUserIdAndFarmFarmIdAndStatus(userId, farmId, FarmContractStatus.APPROVED)
-                .isPresent();
+        return farmMembershipAuthorizer.isApprovedMember(userId, farmId);
     }
 
     /**
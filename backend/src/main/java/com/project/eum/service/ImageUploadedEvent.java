@@ -0,0 +1,9 @@
+package com.project.eum.service;
+
+/**
+ * Object Storage 에 이미지 원본을 올린 뒤 발행되는 이벤트
+ * - ImageVariantService 가 받아서 축소본을 비동기로 생성
+ * - 키만 전달 (대기열에 원본 바이트를 쌓지 않음), 축소할 때 Object Storage 에서 다시 읽음
+ */
+public record ImageUploadedEvent(String key) {
+}
@@ -0,0 +1,60 @@
+package com.project.eum.service;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 업로드 이미지의 축소본 종류
+ *
+ * - 원본 키 옆에 "{원본 키}.{suffix}.jpg" 로 저장 → 원본 URL 만으로 축소본 URL 을 알 수 있음
+ *   예) community/3/20250101_120000_ab12cd34_photo.png
+ *       → community/3/20250101_120000_ab12cd34_photo.png.thumb.jpg
+ * - 업로드 직후 비동기로 만들어지므로 다 만들어진 원본에만 URL 을 내보냄 (ImageVariantUrls)
+ */
+public enum ImageVariant {
+
+    /** 목록 카드용 (긴 변 320px) */
+    THUMBNAIL("thumb", 320),
+    /** 상세/모바일 화면용 (긴 변 960px) */
+    MEDIUM("medium", 960);
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public String keyOf(String originalKey) {
+        return originalKey + "." + suffix + ".jpg";
+    }
+
+    /**
+     * 축소본 키 → 원본 키 (축소본 키가 아니면 그대로)
+     */
+    public static String originalKeyOf(String key) {
+        for (ImageVariant variant : values()) {
+            String ending = "." + variant.suffix + ".jpg";
+            if (key.endsWith(ending)) {
+                return key.substring(0, key.length() - ending.length());
+            }
+        }
+        return key;
+    }
+
+    /**
+     * 원본 URL → 축소본 URL
+     * - Object Storage 에 올린 http(s) URL 만 대상 (Base64 Data URL 등은 null)
+     */
+    public String urlOf(String originalUrl) {
+        if (!StringUtils.hasText(originalUrl)
+                || !(originalUrl.startsWith("http://") || originalUrl.startsWith("https://"))) {
+            return null;
+        }
+        return keyOf(originalUrl);
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.eum.service;
+
+import com.project.eum.storage.ImageVariantRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 축소본을 만들어 둔 원본 객체 키 기록 (image_variants)
+ *
+ * - ImageVariantService 가 모든 축소본을 올린 뒤에만 기록 → 생성 전/실패/건너뜀이면 축소본 URL 을 내보내지 않음
+ * - 원본을 지우면 기록도 지움 (ObjectStorageService.deleteObjects)
+ *   → 같은 공유(내용 주소) 키를 다시 올려도 새로 만들 때까지는 축소본이 없는 것으로 봄
+ * - 기록 실패는 로그만 남김 (축소본 URL 이 빠질 뿐, 원본 사용에는 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantRegistry {
+
+    private final ImageVariantRecordRepository imageVariantRecordRepository;
+
+    public void markGenerated(String key) {
+        try {
+            imageVariantRecordRepository.markGenerated(key, LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to record image variants of {}: {}", key, ex.getMessage());
+        }
+    }
+
+    /**
+     * 축소본이 있는 키만 골라냄 (IN 조회 1번)
+     */
+    public Set<String> generatedAmong(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            return new HashSet<>(imageVariantRecordRepository.findGeneratedKeys(keys));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to look up image variants: {}", ex.getMessage());
+            return Set.of();
+        }
+    }
+
+    public void forget(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            imageVariantRecordRepository.deleteByObjectKeys(keys);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to forget image variants: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.project.eum.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지의 썸네일 / 중간 크기 축소본 생성
+ *
+ * - ObjectStorageService 가 원본을 올린 뒤 발행하는 ImageUploadedEvent 를 받아
+ *   전용 스레드 풀에서 원본을 다시 읽어 축소 → JPEG 로 원본 옆 키(ImageVariant.keyOf)에 업로드
+ * - 대기열에는 키만 쌓음 (원본 바이트를 들고 있지 않음)
+ * - 디코딩 전에 ImageReader 로 가로/세로를 먼저 읽어 max-pixels 를 넘으면 건너뜀 (압축 폭탄 방지)
+ *   가장 큰 축소본의 2배 정도로만 줄여서(subsampling) 디코딩 → 원본 크기 비트맵을 만들지 않음
+ * - 축소는 CPU 작업이라 스레드 수와 대기열을 제한, 넘치면 건너뜀 (축소본 URL 없이 원본 사용)
+ * - ImageIO 가 읽지 못하는 형식(WebP, HEIC 등)은 축소본 없이 원본만 사용
+ * - JPEG EXIF 방향(Orientation)은 축소 전에 적용 (ExifOrientation)
+ * - 모든 축소본을 올린 원본만 기록 (ObjectStorageService.markVariantsGenerated) → 응답은 기록된 원본에만 축소본 URL 포함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.82f;
+    // 가장 큰 축소본의 긴 변 (디코딩 시 이 크기의 2배 이상만 유지)
+    private static final int LARGEST_VARIANT = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::maxSize)
+            .max()
+            .orElseThrow();
+
+    private final ObjectStorageService objectStorageService;
+
+    /** 축소본 생성 스레드 수 */
+    @Value("${storage.image-variants.threads:2}")
+    private int threads;
+
+    /** 대기열 크기 (넘치는 요청은 축소본 없이 건너뜀) */
+    @Value("${storage.image-variants.queue-size:64}")
+    private int queueSize;
+
+    /** 축소본을 만들 최대 원본 픽셀 수 (가로 × 세로, 넘으면 건너뜀) */
+    @Value("${storage.image-variants.max-pixels:40000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize));
+    }
+
+    @EventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        try {
+            executor.execute(() -> generate(event.key()));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Image variant queue full, skip variants for {}", event.key());
+        }
+    }
+
+    private void generate(String key) {
+        try {
+            BufferedImage source = read(key);
+            if (source == null) {
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] jpeg = toJpeg(resize(source, variant.maxSize()));
+                objectStorageService.putObject(variant.keyOf(key), jpeg, "image/jpeg");
+            }
+            // 모두 올린 뒤에만 기록 → 그 전에는 응답에 축소본 URL 을 넣지 않음
+            objectStorageService.markVariantsGenerated(key);
+            log.debug("Generated image variants for {}", key);
+        } catch (Exception ex) {
+            log.warn("Failed to generate image variants for {}: {}", key, ex.getMessage());
+        }
+    }
+
+    /**
+     * 원본을 스트림으로 읽어 크기 확인 후 필요한 만큼만 줄여서 디코딩
+     * - JPEG EXIF 방향 값이 있으면 축소 전에 픽셀을 돌려 둠 (축소본에는 EXIF 가 없음)
+     * @return 디코딩한 이미지 (지원하지 않는 형식이거나 너무 크면 null)
+     */
+    private BufferedImage read(String key) throws IOException {
+        try (InputStream in = objectStorageService.openObject(key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.info("Unsupported image format, skip variants for {}", key);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Image {} is too large ({}x{}), skip variants", key, width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (LARGEST_VARIANT * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                int orientation = ExifOrientation.of(reader.getImageMetadata(0));
+                return ExifOrientation.apply(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 가 되도록 축소 (확대하지 않음)
+     * - 한 번에 크게 줄이면 계단 현상이 생겨 절반씩 나눠 줄임
+     * - 투명 배경은 흰색으로 채움 (JPEG 는 알파 채널 없음)
+     * - 원본 크기 복사본은 만들지 않음 (첫 단계부터 원본에서 바로 줄임)
+     */
+    static BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = draw(current, width, height);
+        }
+        if (current == source || width != targetWidth || height != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
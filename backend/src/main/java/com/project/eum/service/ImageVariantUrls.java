@@ -0,0 +1,30 @@
+package com.project.eum.service;
+
+import java.util.Set;
+
+/**
+ * 응답에 내보낼 축소본 URL
+ * - 축소본을 모두 만들어 둔 원본 URL 만 대상, 나머지는 null (클라이언트는 원본 사용)
+ * - ObjectStorageService.variantUrls 로 목록 단위로 한 번에 조회
+ */
+public record ImageVariantUrls(Set<String> generatedPhotoUrls) {
+
+    public static ImageVariantUrls none() {
+        return new ImageVariantUrls(Set.of());
+    }
+
+    public String thumbnailOf(String photoUrl) {
+        return urlOf(ImageVariant.THUMBNAIL, photoUrl);
+    }
+
+    public String mediumOf(String photoUrl) {
+        return urlOf(ImageVariant.MEDIUM, photoUrl);
+    }
+
+    private String urlOf(ImageVariant variant, String photoUrl) {
+        if (photoUrl == null || !generatedPhotoUrls.contains(photoUrl)) {
+            return null;
+        }
+        return variant.urlOf(photoUrl);
+    }
+}
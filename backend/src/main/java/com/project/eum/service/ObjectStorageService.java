@@ -1,35 +1,122 @@
 package com.project.eum.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Naver Cloud Platform Object Storage 업로드 서비스
  * AWS S3 호환 API 사용
+ *
+ * - 이미지 업로드는 S3AsyncClient 로 보내고 CompletableFuture 로 돌려줌 (upload*Async)
+ *   기존 동기 메서드는 같은 경로를 기다리기만 함
+ * - multipart-threshold 이상이면 멀티파트 업로드 (파트를 병렬로 전송, 실패 시 abort)
+ * - 동시에 전송 중인 바이트는 max-in-flight 로 제한 (넘으면 다음 파트/업로드가 대기)
+ * - content-addressed 모드면 서버 경유 업로드를 "shared/{해시 앞 2자}/{SHA-256}" 키로 저장
+ *   같은 내용이 이미 있으면 업로드를 건너뛰고 참조 수만 올림 (shared_objects)
+ *   삭제 요청은 참조 수를 내리고, 마지막 참조일 때만 실제로 삭제
+ * - 축소본은 다 만들어진 원본만 기록해 두고(ImageVariantRegistry) 그 원본에만 축소본 URL 을 내보냄 (variantUrls)
  */
 @Slf4j
 @Service
 public class ObjectStorageService {
 
+    // DeleteObjects 한 요청의 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+    // S3 멀티파트 파트 최소 크기 (마지막 파트 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    // 내용 주소(해시) 키 앞부분
+    private static final String SHARED_PREFIX = "shared/";
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner presigner;
     private final String bucketName;
     private final String endpoint;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SharedObjectReferenceCounter referenceCounter;
+    private final ImageVariantRegistry imageVariantRegistry;
+
+    // 이미지 삭제 전용 실행기 (요청 스레드에서 Object Storage 왕복을 기다리지 않음)
+    private final ExecutorService deleteExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // 업로드 진행 관리용 (파트 나누기 / 전송 대기 / 완료 요청), 실제 전송은 S3AsyncClient
+    private final ExecutorService uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int multipartThreshold;
+    private final int partSize;
+    private final int maxInFlightBytes;
+    // 메모리에 올려 전송 중인 업로드 바이트 수 제한 (permit 1개 = 1바이트, 파일을 읽기 전에 잡고 업로드가 끝나면 반납)
+    private final Semaphore inFlightBytes;
+
+    private final boolean contentAddressed;
+    private final long existsCacheTtlMillis;
+    private final int existsCacheMaxEntries;
+    // 올라가 있는 것으로 확인한 공유 객체 키 → 확인 만료 시각 (HEAD 재요청 줄이기)
+    private final Map<String, Long> knownSharedObjects = new ConcurrentHashMap<>();
 
     
     /* ============================================================
@@ -40,104 +127,633 @@ public class ObjectStorageService {
             @Value("${cloud.ncp.object-storage.region}") String region,
             @Value("${cloud.ncp.object-storage.access-key}") String accessKey,
             @Value("${cloud.ncp.object-storage.secret-key}") String secretKey,
-            @Value("${cloud.ncp.object-storage.bucket-name}") String bucketName
+            @Value("${cloud.ncp.object-storage.bucket-name}") String bucketName,
+            @Value("${cloud.ncp.object-storage.path-style-access:false}") boolean pathStyleAccess,
+            @Value("${storage.upload.multipart-threshold-mb:8}") int multipartThresholdMb,
+            @Value("${storage.upload.part-size-mb:5}") int partSizeMb,
+            @Value("${storage.upload.max-in-flight-mb:64}") int maxInFlightMb,
+            @Value("${storage.content-addressed.enabled:false}") boolean contentAddressed,
+            @Value("${storage.content-addressed.exists-cache-ttl-ms:3600000}") long existsCacheTtlMillis,
+            @Value("${storage.content-addressed.exists-cache-max-entries:10000}") int existsCacheMaxEntries,
+            ApplicationEventPublisher eventPublisher,
+            SharedObjectReferenceCounter referenceCounter,
+            ImageVariantRegistry imageVariantRegistry
     ) {
         this.endpoint = endpoint;
         this.bucketName = bucketName;
+        this.eventPublisher = eventPublisher;
+        this.referenceCounter = referenceCounter;
+        this.imageVariantRegistry = imageVariantRegistry;
+        this.contentAddressed = contentAddressed;
+        this.existsCacheTtlMillis = existsCacheTtlMillis;
+        this.existsCacheMaxEntries = existsCacheMaxEntries;
+        this.partSize = Math.max(partSizeMb * 1024 * 1024, MIN_PART_SIZE);
+        this.multipartThreshold = Math.max(multipartThresholdMb * 1024 * 1024, this.partSize);
+        this.maxInFlightBytes = Math.max(maxInFlightMb * 1024 * 1024, this.partSize);
+        this.inFlightBytes = new Semaphore(this.maxInFlightBytes);
 
         // 1) 인증 정보 생성
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        // 2) S3Client 생성 (NCP Object Storage compatible)
+        // 2) S3Client 생성 (NCP Object Storage compatible, MinIO 등 로컬 대체 서버는 path-style 사용)
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
         this.s3Client = S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .serviceConfiguration(s3Configuration)
+                .build();
+
+        // 3) 이미지 업로드용 비동기 클라이언트 (Netty, 같은 설정)
+        this.s3AsyncClient = S3AsyncClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .serviceConfiguration(s3Configuration)
                 .build();
 
-        log.info("ObjectStorageService 초기화: endpoint={}, bucket={}", endpoint, bucketName);
+        // 4) 직접 업로드용 Presigned URL 생성기 (같은 설정)
+        this.presigner = S3Presigner.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .serviceConfiguration(s3Configuration)
+                .build();
+
+        log.info("ObjectStorageService 초기화: endpoint={}, bucket={}, contentAddressed={}",
+                endpoint, bucketName, contentAddressed);
     }
 
     /**
      * 작물 진단 이미지를 Object Storage에 업로드
      */
     public String uploadDiagnosisImage(MultipartFile file, Long userId) {
-        return uploadImage(file, userId, "diagnosis");
+        return await(uploadDiagnosisImageAsync(file, userId));
     }
 
     /**
      * 재배 일기 이미지를 Object Storage에 업로드
      */
     public String uploadDiaryImage(MultipartFile file, Long userId) {
-        return uploadImage(file, userId, "diary");
+        return await(uploadDiaryImageAsync(file, userId));
     }
 
     /**
      * 커뮤니티 게시글 이미지를 Object Storage에 업로드
      */
     public String uploadCommunityImage(MultipartFile file, Long userId) {
-        return uploadImage(file, userId, "community");
+        return await(uploadCommunityImageAsync(file, userId));
+    }
+
+    /**
+     * 이미 메모리에 있는 재배 일기 이미지를 Object Storage에 업로드 (DB 에 인라인 저장된 이미지 이전용)
+     */
+    public String uploadDiaryImage(byte[] content, String contentType, String originalFilename, Long userId) {
+        return await(withInFlight(content.length,
+                () -> uploadImageAsync(content, contentType, originalFilename, userId, "diary")));
+    }
+
+    /**
+     * 작물 진단 이미지를 비동기로 업로드 (다른 작업과 함께 진행할 때)
+     * @return 공개 URL 로 완료되는 future
+     */
+    public CompletableFuture<String> uploadDiagnosisImageAsync(MultipartFile file, Long userId) {
+        return uploadImageAsync(file, userId, "diagnosis");
     }
 
-    private String uploadImage(MultipartFile file, Long userId, String category) {
+    /**
+     * 재배 일기 이미지를 비동기로 업로드
+     */
+    public CompletableFuture<String> uploadDiaryImageAsync(MultipartFile file, Long userId) {
+        return uploadImageAsync(file, userId, "diary");
+    }
+
+    /**
+     * 커뮤니티 게시글 이미지를 비동기로 업로드
+     */
+    public CompletableFuture<String> uploadCommunityImageAsync(MultipartFile file, Long userId) {
+        return uploadImageAsync(file, userId, "community");
+    }
+
+    private CompletableFuture<String> uploadImageAsync(MultipartFile file, Long userId, String category) {
+        // 읽기 전에 파일 크기만큼 자리를 잡음 → 동시 업로드가 많아도 메모리에 올린 바이트는 max-in-flight 까지
+        return withInFlight(file.getSize(), () -> {
+            byte[] content;
+            try {
+                // 요청이 끝나면 임시 파일이 지워지므로 바이트는 호출 스레드에서 먼저 읽음 (축소본 생성에도 사용)
+                content = file.getBytes();
+
+            // 예외 처리
+            } catch (IOException e) {
+                log.error("Object Storage 업로드 실패: 파일 읽기 오류", e);
+                throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+            }
+            return uploadImageAsync(content, file.getContentType(), file.getOriginalFilename(), userId, category);
+        });
+    }
+
+    private CompletableFuture<String> uploadImageAsync(byte[] content, String contentType, String originalFilename,
+                                                       Long userId, String category) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                String filename = contentAddressed ? sharedKey(content) : newKey(category, userId, originalFilename);
+                log.info("Object Storage 업로드 시작: bucket={}, key={}, size={}", bucketName, filename, content.length);
+
+                if (contentAddressed) {
+                    // 같은 내용이 이미 있으면 참조만 추가 (축소본도 이미 있음)
+                    if (!putShared(filename, content, contentType)) {
+                        log.info("Object Storage 같은 이미지가 있어 업로드 생략: key={}", filename);
+                        return publicUrlPrefix() + filename;
+                    }
+                } else {
+                    put(filename, content, contentType);
+                }
+
+                // 업로드된 파일의 공개 URL 생성
+                String publicUrl = String.format("%s/%s/%s", endpoint, bucketName, filename);
+                log.info("Object Storage 업로드 완료: url={}", publicUrl);
+
+                // 썸네일/중간 크기 축소본은 비동기로 생성 (ImageVariantService)
+                eventPublisher.publishEvent(new ImageUploadedEvent(filename));
+
+                return publicUrl;
+
+            // 예외 처리
+            } catch (Exception e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Object Storage 업로드 실패", cause);
+                throw new RuntimeException("이미지 업로드에 실패했습니다: " + cause.getMessage(), cause);
+            }
+        }, uploadExecutor);
+    }
+
+    // 실제 업로드 실행 (크기에 따라 단일 PUT / 멀티파트)
+    private void put(String key, byte[] content, String contentType) {
+        if (content.length >= multipartThreshold) {
+            putMultipart(key, content, contentType);
+            return;
+        }
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) content.length)
+                .acl("public-read")
+                .build();
+        s3AsyncClient.putObject(putRequest, AsyncRequestBody.fromBytes(content)).join();
+    }
+
+    /**
+     * 공유 객체 참조를 추가하고, 아직 없을 때만 업로드
+     * @return 새로 업로드했는지 (false 면 이미 있던 객체를 같이 씀)
+     */
+    private boolean putShared(String key, byte[] content, String contentType) {
+        int refs = referenceCounter.acquire(key);
+        try {
+            if (sharedObjectExists(key, refs > 1)) {
+                return false;
+            }
+            put(key, content, contentType);
+            rememberSharedObject(key);
+            return true;
+        } catch (RuntimeException e) {
+            referenceCounter.release(key, () -> { });
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 올라가 있는 공유 객체에 참조 추가 (다른 일기/게시글에서 같은 이미지를 쓸 때)
+     * - 해제는 다른 이미지와 같이 deleteObjectByUrl(Async)
+     * @throws IllegalArgumentException 객체가 없으면
+     */
+    public void addSharedReference(String key) {
+        int refs = referenceCounter.acquire(key);
+        if (!sharedObjectExists(key, refs > 1)) {
+            referenceCounter.release(key, () -> { });
+            throw new IllegalArgumentException("업로드한 이미지를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 내용 주소 방식으로 저장된 원본 키인지 (축소본 키 제외)
+     */
+    public boolean isSharedKey(String key) {
+        return key != null && key.startsWith(SHARED_PREFIX) && ImageVariant.originalKeyOf(key).equals(key);
+    }
+
+    // 올라가 있는지 확인 (trustCache 면 캐시 먼저, 새 참조 행이면 삭제 직후일 수 있어 항상 HEAD)
+    private boolean sharedObjectExists(String key, boolean trustCache) {
+        if (trustCache) {
+            Long expiresAt = knownSharedObjects.get(key);
+            if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+                return true;
+            }
+        }
+        if (headObject(key) == null) {
+            knownSharedObjects.remove(key);
+            return false;
+        }
+        rememberSharedObject(key);
+        return true;
+    }
+
+    private void rememberSharedObject(String key) {
+        if (knownSharedObjects.size() >= existsCacheMaxEntries) {
+            knownSharedObjects.clear();
+        }
+        knownSharedObjects.put(key, System.currentTimeMillis() + existsCacheTtlMillis);
+    }
+
+    // 공유 객체 키: shared/{해시 앞 2자}/{SHA-256 hex}
+    private static String sharedKey(byte[] content) {
+        try {
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            return SHARED_PREFIX + hash.substring(0, 2) + "/" + hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 (파트는 병렬 전송, 파트는 같은 배열을 나눈 것이라 자리는 업로드 전체로 이미 잡혀 있음)
+     * - 한 파트라도 실패하면 남은 파트는 보내지 않고 업로드를 abort
+     */
+    private void putMultipart(String key, byte[] content, String contentType) {
+        String uploadId = s3AsyncClient.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .acl("public-read")
+                        .build())
+                .join()
+                .uploadId();
+        try {
+            List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+            for (int offset = 0; offset < content.length; offset += partSize) {
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    break;
+                }
+                int partNumber = parts.size() + 1;
+                int length = Math.min(partSize, content.length - offset);
+                ByteBuffer part = ByteBuffer.wrap(content, offset, length);
+                UploadPartRequest partRequest = UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build();
+                parts.add(s3AsyncClient.uploadPart(partRequest, AsyncRequestBody.fromByteBuffer(part))
+                        .thenApply(response -> CompletedPart.builder()
+                                .partNumber(partNumber)
+                                .eTag(response.eTag())
+                                .build()));
+            }
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+
+            s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder()
+                                    .parts(parts.stream().map(CompletableFuture::join).toList())
+                                    .build())
+                            .build())
+                    .join();
+            log.info("Object Storage 멀티파트 업로드 완료: key={}, parts={}", key, parts.size());
+        } catch (RuntimeException e) {
+            s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .build())
+                    .whenComplete((response, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to abort multipart upload {} of {}: {}", uploadId, key, ex.getMessage());
+                        }
+                    });
+            throw e;
+        }
+    }
+
+    // 메모리에 올릴 바이트만큼 자리를 잡고 업로드 시작, 끝나면(성공/실패) 반납
+    private <T> CompletableFuture<T> withInFlight(long bytes, Supplier<CompletableFuture<T>> request) {
+        int permits = (int) Math.min(Math.max(bytes, 0L), maxInFlightBytes);
+        inFlightBytes.acquireUninterruptibly(permits);
+        try {
+            return request.get().whenComplete((response, ex) -> inFlightBytes.release(permits));
+        } catch (RuntimeException e) {
+            inFlightBytes.release(permits);
+            throw e;
+        }
+    }
+
+    // 동기 메서드용: 업로드 결과를 기다리고 실패는 원래 예외로 던짐
+    private static String await(CompletableFuture<String> upload) {
         try {
-            // 파일명 생성: {category}/{userId}/{timestamp}_{uuid}_{originalFilename}
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String uuid = UUID.randomUUID().toString().substring(0, 8);
-            String originalFilename = file.getOriginalFilename();
-            String filename = String.format("%s/%d/%s_%s_%s", category, userId, timestamp, uuid, originalFilename);
+            return upload.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 이미 올라가 있는 이미지를 다른 분류로 복사 (버킷 안에서 CopyObject, 다시 업로드하지 않음)
+     * - 축소본도 함께 복사 (아직 없으면 건너뜀, 모두 복사했을 때만 축소본 URL 을 내보냄)
+     * - 원본과 복사본은 따로 삭제됨
+     * - 공유(내용 주소) 객체면 복사하지 않고 참조만 추가해 같은 URL 을 돌려줌
+     * @return 복사본 공개 URL (이 버킷의 URL 이 아니면 null)
+     */
+    public String copyImage(String sourceUrl, Long userId, String category) {
+        String sourceKey = keyOf(sourceUrl);
+        if (sourceKey == null) {
+            return null;
+        }
+        if (isSharedKey(sourceKey)) {
+            addSharedReference(sourceKey);
+            return publicUrlPrefix() + sourceKey;
+        }
+        String targetKey = newKey(category, userId, sourceKey.substring(sourceKey.lastIndexOf('/') + 1));
+        copyObject(sourceKey, targetKey);
+        boolean variantsCopied = true;
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                copyObject(variant.keyOf(sourceKey), variant.keyOf(targetKey));
+            } catch (NoSuchKeyException e) {
+                log.debug("Variant {} of {} not found, skip copy", variant, sourceKey);
+                variantsCopied = false;
+            }
+        }
+        if (variantsCopied) {
+            imageVariantRegistry.markGenerated(targetKey);
+        }
+        String publicUrl = publicUrlPrefix() + targetKey;
+        log.info("Object Storage 복사 완료: {} -> {}", sourceKey, targetKey);
+        return publicUrl;
+    }
+
+    private void copyObject(String sourceKey, String targetKey) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucketName)
+                .destinationKey(targetKey)
+                .acl("public-read")
+                .build());
+    }
 
-            log.info("Object Storage 업로드 시작: bucket={}, key={}, size={}", bucketName, filename, file.getSize());
+    // 파일명 생성: {category}/{userId}/{timestamp}_{uuid}_{originalFilename}
+    static String newKey(String category, Long userId, String originalFilename) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String uuid = UUID.randomUUID().toString().substring(0, 8);
+        return String.format("%s/%d/%s_%s_%s", category, userId, timestamp, uuid, originalFilename);
+    }
+
+    /**
+     * 클라이언트가 직접 올릴 Presigned PUT URL 생성
+     * - Content-Type / Content-Length / ACL 이 서명에 포함되어 다른 값으로는 올릴 수 없음
+     */
+    public PresignedPutObjectRequest presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .acl("public-read")
+                .build();
+        return presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putRequest)
+                .build());
+    }
 
-            // S3 업로드 요청
-            PutObjectRequest putRequest = PutObjectRequest.builder()
+    /**
+     * 객체 메타데이터 조회 (HEAD, 없으면 null)
+     */
+    public HeadObjectResponse headObject(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
                     .bucket(bucketName)
-                    .key(filename)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .acl("public-read")
-                    .build();
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
 
-            // 실제 업로드 실행
-            s3Client.putObject(putRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+    /**
+     * 클라이언트가 직접 올린 원본 확인 후 축소본 생성 요청 (ImageVariantService 가 원본을 다시 읽음)
+     */
+    public void publishUploaded(String key) {
+        eventPublisher.publishEvent(new ImageUploadedEvent(key));
+    }
 
-            // 업로드된 파일의 공개 URL 생성
-            String publicUrl = String.format("%s/%s/%s", endpoint, bucketName, filename);
-            log.info("Object Storage 업로드 완료: url={}", publicUrl);
+    /**
+     * 지정한 키로 바이트를 업로드 (축소본 저장용)
+     */
+    public void putObject(String key, byte[] content, String contentType) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) content.length)
+                .acl("public-read")
+                .build();
+        s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+    }
 
-            return publicUrl;
+    /**
+     * 원본의 축소본을 모두 올렸음을 기록 (이후 응답에 축소본 URL 포함)
+     */
+    public void markVariantsGenerated(String key) {
+        imageVariantRegistry.markGenerated(key);
+    }
 
-        // 예외 처리
-        } catch (IOException e) {
-            log.error("Object Storage 업로드 실패: 파일 읽기 오류", e);
-            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Object Storage 업로드 실패", e);
-            throw new RuntimeException("이미지 업로드에 실패했습니다: " + e.getMessage(), e);
+    /**
+     * 목록 응답용 축소본 URL 조회 (축소본이 다 만들어진 원본만, IN 조회 1번)
+     * - 이 버킷 URL 이 아닌 값(Base64 Data URL 등)은 건너뜀
+     */
+    public ImageVariantUrls variantUrls(Collection<String> photoUrls) {
+        Map<String, String> urlByKey = new HashMap<>();
+        for (String photoUrl : photoUrls) {
+            String key = keyOf(photoUrl);
+            if (key != null) {
+                urlByKey.put(key, photoUrl);
+            }
+        }
+        if (urlByKey.isEmpty()) {
+            return ImageVariantUrls.none();
+        }
+        Set<String> generated = new HashSet<>();
+        for (String key : imageVariantRegistry.generatedAmong(urlByKey.keySet())) {
+            generated.add(urlByKey.get(key));
         }
+        return new ImageVariantUrls(generated);
     }
 
+    /**
+     * 객체 본문을 스트림으로 열기 (전체를 메모리에 올리지 않음, 호출한 쪽에서 닫아야 함)
+     */
+    public InputStream openObject(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * 원본과 축소본을 함께 삭제 (한 번의 DeleteObjects 요청)
+     * - 공유 객체는 참조 하나만 해제하고, 마지막 참조일 때만 삭제
+     */
     public void deleteObjectByUrl(String url) {
         if (!StringUtils.hasText(url)) {
             return;
         }
-        String prefix = endpoint.endsWith("/")
-                ? endpoint + bucketName + "/"
-                : endpoint + "/" + bucketName + "/";
-        if (!url.startsWith(prefix)) {
-            log.warn("URL {} does not match bucket prefix {}, skip delete", url, prefix);
+        String key = keyOf(url);
+        if (key == null) {
+            log.warn("URL {} does not match bucket prefix {}, skip delete", url, publicUrlPrefix());
             return;
         }
-        String key = url.substring(prefix.length());
         try {
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-            s3Client.deleteObject(deleteRequest);
+            if (isSharedKey(key)) {
+                boolean deleted = referenceCounter.release(key, () -> {
+                    deleteObjects(withVariants(key));
+                    knownSharedObjects.remove(key);
+                });
+                log.info("Released shared object {} (deleted={})", key, deleted);
+                return;
+            }
+            deleteObjects(withVariants(key));
             log.info("Deleted object from storage: {}", key);
         } catch (Exception e) {
             log.error("Failed to delete object {}: {}", key, e.getMessage());
         }
     }
+
+    private static List<String> withVariants(String key) {
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        for (ImageVariant variant : ImageVariant.values()) {
+            keys.add(variant.keyOf(key));
+        }
+        return keys;
+    }
+
+    /**
+     * 여러 객체를 DeleteObjects 로 삭제 (요청당 최대 1000개씩 나눠서)
+     * - 원본의 축소본 생성 기록도 함께 지움
+     * @return 삭제에 성공한 키 수
+     */
+    public int deleteObjects(List<String> keys) {
+        int deleted = 0;
+        for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build();
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+            for (S3Error error : response.errors()) {
+                log.warn("Failed to delete object {}: {} {}", error.key(), error.code(), error.message());
+            }
+            deleted += objects.size() - response.errors().size();
+        }
+        imageVariantRegistry.forget(keys);
+        return deleted;
+    }
+
+    /**
+     * prefix 아래 객체를 페이지 단위로 나열 (ListObjectsV2, 다음 페이지는 필요할 때 요청)
+     */
+    public void forEachObject(String prefix, Consumer<S3Object> action) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .build();
+        s3Client.listObjectsV2Paginator(request).contents().forEach(action);
+    }
+
+    /**
+     * 공개 URL → 객체 키 (이 버킷의 URL 이 아니면 null)
+     */
+    public String keyOf(String url) {
+        String prefix = publicUrlPrefix();
+        if (url == null || !url.startsWith(prefix)) {
+            return null;
+        }
+        return url.substring(prefix.length());
+    }
+
+    /**
+     * 이 버킷 공개 URL 의 공통 앞부분 ("{endpoint}/{bucket}/")
+     */
+    public String publicUrlPrefix() {
+        return endpoint.endsWith("/")
+                ? endpoint + bucketName + "/"
+                : endpoint + "/" + bucketName + "/";
+    }
+
+    /**
+     * 이미지 삭제를 요청 스레드 밖에서 실행
+     * - 트랜잭션 안이면 커밋 후에만 삭제 (롤백되면 이미지 유지)
+     * - 삭제 실패는 로그만 남김 (deleteObjectByUrl 과 동일)
+     */
+    public void deleteObjectByUrlAsync(String url) {
+        if (!StringUtils.hasText(url)) {
+            return;
+        }
+        Runnable task = () -> deleteExecutor.execute(() -> deleteObjectByUrl(url));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 이미지 삭제 (서버 경유 업로드 / 복사 / 공유 참조 추가 직후 호출)
+     * - 업로드와 공유 참조는 요청 트랜잭션 밖에서 확정되므로, 글/일기 저장이 롤백되면 여기서 되돌림
+     *   (공유 객체는 참조 하나만 해제)
+     * - 트랜잭션 밖이면 아무것도 하지 않음
+     */
+    public void deleteOnRollback(String url) {
+        if (!StringUtils.hasText(url) || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteObjectByUrlAsync(url);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        presigner.close();
+        // 진행 중인 업로드를 잠시 기다린 뒤 비동기 클라이언트 종료
+        uploadExecutor.shutdown();
+        if (!uploadExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Object storage uploads did not finish before shutdown");
+        }
+        s3AsyncClient.close();
+        // 남은 삭제 요청은 잠시 기다렸다가 종료
+        deleteExecutor.shutdown();
+        if (!deleteExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Object storage delete tasks did not finish before shutdown");
+        }
+    }
 }
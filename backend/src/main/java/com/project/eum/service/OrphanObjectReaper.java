@@ -0,0 +1,221 @@
+package com.project.eum.service;
+
+import com.project.eum.diagnosis.DiagnosisRepository;
+import com.project.eum.diary.DiaryRepository;
+import com.project.eum.post.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Object Storage 고아 객체 정리 작업
+ *
+ * - DB 에서 참조하지 않는 이미지(교체된 이전 이미지, DB 저장에 실패한 업로드, 삭제 실패 등)를 지움
+ * - 1) 일기/게시글/진단의 이미지 URL 을 keyset 페이지로 읽어 객체 키의 64비트 해시 정렬 배열로 만듦
+ *      (URL 문자열을 들고 있지 않음, 해시 충돌은 "참조 중"으로 판단 → 지우지 않는 쪽으로만 틀림)
+ *   2) prefix 별로 버킷을 페이지 단위로 나열하며 참조되지 않은 객체를 모아 DeleteObjects 로 삭제
+ * - 키 자체가 참조 중이면 유지, 아니면 축소본(.thumb.jpg 등)으로 보고 원본 키가 참조 중이면 유지
+ * - min-age 보다 최근에 올라온 객체는 건드리지 않음 (DB 저장 전 업로드, 축소본 생성 중 등)
+ * - dry-run 이면 삭제하지 않고 개수/키만 로그
+ * - 스케줄 시각에는 별도 가상 스레드만 띄움 (공용 @Scheduled 스레드를 붙잡지 않음)
+ *   이전 실행이 아직 돌고 있으면 이번 실행은 건너뜀, 종료 시 중단
+ */
+@Service
+public class OrphanObjectReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanObjectReaper.class);
+
+    private static final int REFERENCE_PAGE_SIZE = 1000;
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final ObjectStorageService objectStorageService;
+    private final DiaryRepository diaryRepository;
+    private final PostRepository postRepository;
+    private final DiagnosisRepository diagnosisRepository;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration minAge;
+    private final List<String> prefixes;
+
+    private Thread worker;
+
+    public OrphanObjectReaper(
+            ObjectStorageService objectStorageService,
+            DiaryRepository diaryRepository,
+            PostRepository postRepository,
+            DiagnosisRepository diagnosisRepository,
+            @Value("${storage.orphan-reaper.enabled:true}") boolean enabled,
+            @Value("${storage.orphan-reaper.dry-run:true}") boolean dryRun,
+            @Value("${storage.orphan-reaper.min-age-hours:24}") long minAgeHours,
+            @Value("${storage.orphan-reaper.prefixes:diary/,community/,diagnosis/}") List<String> prefixes
+    ) {
+        this.objectStorageService = objectStorageService;
+        this.diaryRepository = diaryRepository;
+        this.postRepository = postRepository;
+        this.diagnosisRepository = diagnosisRepository;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.minAge = Duration.ofHours(Math.max(minAgeHours, 1));
+        this.prefixes = prefixes;
+    }
+
+    @Scheduled(cron = "${storage.orphan-reaper.cron:0 0 5 * * *}")
+    public synchronized void reap() {
+        if (!enabled) {
+            return;
+        }
+        if (worker != null && worker.isAlive()) {
+            log.info("Orphan object reaper is still running, skipping this run");
+            return;
+        }
+        worker = Thread.ofVirtual().name("orphan-object-reaper").start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            // 참조 목록을 먼저 만들고 나열 → 그 사이 새로 올라온 객체는 min-age 로 보호
+            Instant cutoff = Instant.now().minus(minAge);
+            long[] referenced = loadReferencedKeys();
+            for (String prefix : prefixes) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Orphan object reaper stopped");
+                    return;
+                }
+                reapPrefix(prefix.trim(), referenced, cutoff);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Orphan object reaper failed: {}", ex.getMessage());
+        }
+    }
+
+    private void reapPrefix(String prefix, long[] referenced, Instant cutoff) {
+        long[] counts = new long[4];    // 나열, 최근, 고아, 삭제
+        List<String> orphans = new ArrayList<>();
+        objectStorageService.forEachObject(prefix, object -> {
+            counts[0]++;
+            if (object.lastModified() != null && object.lastModified().isAfter(cutoff)) {
+                counts[1]++;
+                return;
+            }
+            if (isReferenced(referenced, object.key())) {
+                return;
+            }
+            counts[2]++;
+            orphans.add(object.key());
+            if (orphans.size() >= DELETE_BATCH_SIZE) {
+                counts[3] += delete(orphans);
+                orphans.clear();
+            }
+        });
+        counts[3] += delete(orphans);
+        log.info("Orphan object reaper [{}]{}: listed={}, recent={}, orphans={}, deleted={}",
+                prefix, dryRun ? " (dry-run)" : "", counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    // 키 자체가 참조 중인지 먼저 보고, 아니면 축소본으로 보고 원본 키를 확인
+    // (원본 파일 이름이 우연히 .thumb.jpg 등으로 끝나도 그대로 참조 여부를 판단)
+    private static boolean isReferenced(long[] referenced, String key) {
+        if (Arrays.binarySearch(referenced, hash(key)) >= 0) {
+            return true;
+        }
+        String originalKey = ImageVariant.originalKeyOf(key);
+        return !originalKey.equals(key) && Arrays.binarySearch(referenced, hash(originalKey)) >= 0;
+    }
+
+    private int delete(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        if (dryRun) {
+            keys.forEach(key -> log.debug("Orphan object (dry-run): {}", key));
+            return 0;
+        }
+        return objectStorageService.deleteObjects(keys);
+    }
+
+    /**
+     * DB 가 참조하는 객체 키의 해시 (정렬됨, 이진 탐색용)
+     */
+    private long[] loadReferencedKeys() {
+        String urlPrefix = objectStorageService.publicUrlPrefix() + "%";
+        HashBuffer hashes = new HashBuffer();
+        collect(hashes, urlPrefix, diaryRepository::findPhotoReferences);
+        collect(hashes, urlPrefix, postRepository::findPhotoReferences);
+        collect(hashes, urlPrefix, diagnosisRepository::findPhotoReferences);
+        long[] sorted = hashes.toSortedArray();
+        log.info("Orphan object reaper loaded {} referenced objects", sorted.length);
+        return sorted;
+    }
+
+    private void collect(HashBuffer hashes, String urlPrefix, ReferencePage pages) {
+        Long afterId = 0L;
+        Pageable page = PageRequest.of(0, REFERENCE_PAGE_SIZE);
+        while (true) {
+            List<PhotoReference> rows = pages.load(afterId, urlPrefix, page);
+            for (PhotoReference row : rows) {
+                String key = objectStorageService.keyOf(row.photoUrl());
+                if (key != null) {
+                    hashes.add(hash(key));
+                }
+            }
+            if (rows.size() < REFERENCE_PAGE_SIZE) {
+                return;
+            }
+            afterId = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    // FNV-1a 64비트
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    @FunctionalInterface
+    private interface ReferencePage {
+        List<PhotoReference> load(Long afterId, String urlPrefix, Pageable pageable);
+    }
+
+    // long 가변 배열 (박싱 없이 보관)
+    private static final class HashBuffer {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
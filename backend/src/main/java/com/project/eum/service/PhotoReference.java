@@ -0,0 +1,7 @@
+package com.project.eum.service;
+
+/**
+ * DB 에서 참조 중인 이미지 URL 한 건 (고아 객체 정리용, id 는 keyset 페이지 커서)
+ */
+public record PhotoReference(Long id, String photoUrl) {
+}
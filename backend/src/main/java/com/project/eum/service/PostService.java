@@ -1,23 +1,33 @@
 package com.project.eum.service;
 
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.PostCreateRequest;
+import com.project.eum.dto.PostFeedResponse;
 import com.project.eum.dto.PostResponseDto;
 import com.project.eum.dto.PostUpdateRequest;
+import com.project.eum.comments.CommentsRepository;
+import com.project.eum.farm.FarmMembership;
 import com.project.eum.farm.FarmRepository;
-import com.project.eum.farm.contract.FarmContractRepository;
-import com.project.eum.farm.contract.FarmContractStatus;
+import com.project.eum.post.BoardChangeType;
+import com.project.eum.post.BoardChangedEvent;
 import com.project.eum.post.Post;
 import com.project.eum.post.PostRepository;
 import com.project.eum.post.PostType;
+import com.project.eum.replies.ReplyRepository;
+import com.project.eum.search.CommunitySearchIndex;
 import com.project.eum.user.MemberRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,37 +35,30 @@ import java.util.stream.Collectors;
 public class PostService {
 
     private static final long MAX_IMAGE_SIZE = 5 * 1024 * 1024; // 5MB
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
 
     private final PostRepository postRepository;
+    private final CommentsRepository commentsRepository;
+    private final ReplyRepository replyRepository;
     private final FarmRepository farmRepository;
     private final MemberRepository memberRepository;
-    private final FarmContractRepository farmContractRepository;
     private final ObjectStorageService objectStorageService;
-
-    // 농장주인지 확인
-    private boolean isFarmOwner(Long userId, Long farmId) {
-        return farmRepository.findById(farmId)
-                .map(farm -> farm.getOwner().getUserId().equals(userId))
-                .orElse(false);
-    }
-
-    // 승인된 회원인지 확인
-    private boolean isApprovedMember(Long userId, Long farmId) {
-        return farmContractRepository
-                .findByUserUserIdAndFarmFarmIdAndStatus(userId, farmId, FarmContractStatus.APPROVED)
-                .isPresent();
-    }
+    private final UploadService uploadService;
+    private final FarmMembershipAuthorizer farmMembershipAuthorizer;
+    private final CommunitySearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 글 작성 권한 확인
     private void validatePostWritePermission(Long userId, Long farmId, PostType type) {
-        boolean isOwner = isFarmOwner(userId, farmId);
+        FarmMembership membership = farmMembershipAuthorizer.membershipOf(userId, farmId);
 
-        if (type == PostType.NOTICE && !isOwner) {
+        if (type == PostType.NOTICE && membership != FarmMembership.OWNER) {
             throw new IllegalStateException("공지사항은 농장주만 작성할 수 있습니다.");
         }
 
         if (type == PostType.GENERAL) {
-            if (!isOwner && !isApprovedMember(userId, farmId)) {
+            if (!membership.canWrite()) {
                 throw new IllegalStateException("승인된 회원만 글을 작성할 수 있습니다.");
             }
         }
@@ -63,7 +66,7 @@ public class PostService {
 
     private void validatePostModifyPermission(Post post, Long requesterId) {
         if (post.getType() == PostType.NOTICE) {
-            if (!isFarmOwner(requesterId, post.getFarm().getFarmId())) {
+            if (!farmMembershipAuthorizer.isFarmOwner(requesterId, post.getFarm().getFarmId())) {
                 throw new IllegalArgumentException("해당 농장주만 공지사항을 수정하거나 삭제할 수 있습니다.");
             }
         } else {
@@ -91,8 +94,12 @@ public class PostService {
         if (imageFile != null && !imageFile.isEmpty()) {
             validateImageSize(imageFile);
             photoUrl = objectStorageService.uploadCommunityImage(imageFile, author.getUserId());
+            objectStorageService.deleteOnRollback(photoUrl);
         } else if (StringUtils.hasText(request.getPhotoUrl())) {
-            photoUrl = request.getPhotoUrl();
+            // 직접 업로드한 이미지면 본인 업로드 / 크기 / 형식 확인 (그 외 URL 은 기존처럼 그대로 사용)
+            String uploaded = uploadService.requireUploadedUrl(author.getUserId(), UploadCategory.COMMUNITY,
+                    request.getPhotoUrl());
+            photoUrl = uploaded != null ? uploaded : request.getPhotoUrl();
         }
 
         Post post = Post.builder()
@@ -102,9 +109,13 @@ public class PostService {
                 .type(postType)
                 .author(author)
                 .farm(farm)
+                .lastActivityAt(LocalDateTime.now())
                 .build();
 
-        return new PostResponseDto(postRepository.save(post));
+        Post saved = postRepository.save(post);
+        searchIndex.indexPost(saved.getPostId(), farm.getFarmId(), saved.getTitle(), saved.getContent());
+        eventPublisher.publishEvent(BoardChangedEvent.post(farm.getFarmId(), BoardChangeType.POST_CREATED, saved.getPostId()));
+        return withVariants(List.of(new PostResponseDto(saved))).get(0);
     }
 
     // 게시글 수정
@@ -118,7 +129,10 @@ public class PostService {
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
 
-        return new PostResponseDto(postRepository.save(post));
+        Post saved = postRepository.save(post);
+        searchIndex.indexPost(saved.getPostId(), saved.getFarm().getFarmId(), saved.getTitle(), saved.getContent());
+        eventPublisher.publishEvent(BoardChangedEvent.post(saved.getFarm().getFarmId(), BoardChangeType.POST_UPDATED, postId));
+        return withVariants(List.of(new PostResponseDto(saved))).get(0);
     }
 
     // 게시글 삭제
@@ -129,22 +143,75 @@ public class PostService {
 
         validatePostModifyPermission(post, requesterId);
 
-        if (post.getPhotoUrl() != null) {
-            objectStorageService.deleteObjectByUrl(post.getPhotoUrl());
-        }
+        // 답글 → 댓글 → 게시글 순서로 일괄 삭제 (cascade 로 자식 엔티티를 하나씩 읽고 지우지 않음)
+        Long farmId = post.getFarm().getFarmId();
+        replyRepository.deleteByPostId(postId);
+        commentsRepository.deleteByPostId(postId);
+        postRepository.deleteByPostId(postId);
 
-        postRepository.delete(post);
+        // 이미지는 커밋 후 요청 스레드 밖에서 삭제
+        objectStorageService.deleteObjectByUrlAsync(post.getPhotoUrl());
+        searchIndex.removePost(postId);
+        eventPublisher.publishEvent(BoardChangedEvent.post(farmId, BoardChangeType.POST_DELETED, postId));
     }
 
-    // 전체 게시글 조회
+    /**
+     * 전체 게시글 목록 버전 (조건부 GET 용, 목록은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public CollectionVersion getPostsVersion() {
+        return postRepository.findCollectionVersion();
+    }
+
+    /**
+     * 전체 게시글 조회
+     * @deprecated 모든 농장의 글을 한 번에 읽으므로 {@link #getFeed} 사용
+     */
+    @Deprecated
     public List<PostResponseDto> getAllPosts() {
-        List<Post> posts = postRepository.findAll(
-                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"))
+        return withVariants(postRepository.findAllByOrderByCreatedAtDescPostIdDesc().stream()
+                .map(PostResponseDto::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 농장별 게시판 피드 (keyset 페이지네이션, 최신순)
+     * - 첫 페이지는 커서 없이, 다음 페이지는 직전 응답의 nextCursor 값으로 요청
+     * - size + 1 개를 읽어서 다음 페이지가 있는지 판단
+     */
+    public PostFeedResponse getFeed(Long farmId, PostType type,
+                                    LocalDateTime cursorCreatedAt, Long cursorId, Integer size) {
+        if (farmId == null) {
+            throw new IllegalArgumentException("농장 정보가 필요합니다.");
+        }
+        PostType feedType = type != null ? type : PostType.GENERAL;
+        int pageSize = size == null ? DEFAULT_FEED_SIZE : Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostResponseDto> rows;
+        if (cursorCreatedAt == null || cursorId == null) {
+            rows = postRepository.findFeed(farmId, feedType, limit);
+        } else {
+            rows = postRepository.findFeedAfter(farmId, feedType, cursorCreatedAt, cursorId, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostResponseDto> posts = withVariants(hasNext ? rows.subList(0, pageSize) : rows);
+        PostResponseDto last = hasNext ? posts.get(posts.size() - 1) : null;
+        return new PostFeedResponse(
+                posts,
+                last != null ? last.getCreatedAt() : null,
+                last != null ? last.getId() : null,
+                hasNext
         );
+    }
 
-        return posts.stream()
-                .map(PostResponseDto::new)
-                .collect(Collectors.toList());
+    // 축소본이 만들어진 이미지만 thumbnailUrl/mediumUrl 채움 (목록 전체를 한 번에 조회)
+    private List<PostResponseDto> withVariants(List<PostResponseDto> posts) {
+        ImageVariantUrls variants = objectStorageService.variantUrls(
+                posts.stream().map(PostResponseDto::getPhotoUrl).filter(Objects::nonNull).toList());
+        posts.forEach(post -> post.applyVariants(variants));
+        return posts;
     }
 
     private void validateImageSize(MultipartFile imageFile) {
@@ -4,18 +4,21 @@ import com.project.eum.comments.Comments;
 import com.project.eum.dto.ReplyCreateRequest;
 import com.project.eum.dto.ReplyResponse;
 import com.project.eum.dto.ReplyUpdateRequest;
-import com.project.eum.farm.FarmRepository;
-import com.project.eum.farm.contract.FarmContractRepository;
-import com.project.eum.farm.contract.FarmContractStatus;
+import com.project.eum.post.BoardChangeType;
+import com.project.eum.post.BoardChangedEvent;
+import com.project.eum.post.Post;
+import com.project.eum.post.PostRepository;
 import com.project.eum.replies.Reply;
 import com.project.eum.comments.CommentsRepository;
 import com.project.eum.replies.ReplyRepository;
 import com.project.eum.user.Member;
 import com.project.eum.user.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,30 +28,14 @@ public class ReplyService {
 
     private final ReplyRepository replyRepository;
     private final CommentsRepository commentsRepository;
+    private final PostRepository postRepository;
     private final MemberRepository memberRepository;
-    private final FarmRepository farmRepository;
-    private final FarmContractRepository farmContractRepository;
-
-    // 농장주인지 확인
-    private boolean isFarmOwner(Long userId, Long farmId) {
-        return farmRepository.findById(farmId)
-                .map(farm -> farm.getOwner().getUserId().equals(userId))
-                .orElse(false);
-    }
-
-    // 승인된 회원인지 확인
-    private boolean isApprovedMember(Long userId, Long farmId) {
-        return farmContractRepository
-                .findByUserUserIdAndFarmFarmIdAndStatus(userId, farmId, FarmContractStatus.APPROVED)
-                .isPresent();
-    }
+    private final FarmMembershipAuthorizer farmMembershipAuthorizer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 대댓글 작성 권한 확인
     private void validateReplyWritePermission(Long userId, Long farmId) {
-        boolean isOwner = isFarmOwner(userId, farmId);
-        boolean isApproved = isApprovedMember(userId, farmId);
-
-        if (!isOwner && !isApproved) {
+        if (!farmMembershipAuthorizer.membershipOf(userId, farmId).canWrite()) {
             throw new IllegalStateException("승인된 회원만 답글을 작성할 수 있습니다.");
         }
     }
@@ -78,6 +65,14 @@ public class ReplyService {
                 .build();
 
         Reply saved = replyRepository.save(reply);
+
+        // 댓글/게시글 답글 수 + 1 (상대 UPDATE)
+        LocalDateTime now = LocalDateTime.now();
+        commentsRepository.incrementReplyCount(comment.getCommentId(), now);
+        postRepository.incrementReplyCount(comment.getPost().getPostId(), now);
+        eventPublisher.publishEvent(BoardChangedEvent.reply(farmId, BoardChangeType.REPLY_CREATED,
+                comment.getPost().getPostId(), comment.getCommentId(), saved.getReplyId()));
+
         return ReplyResponse.from(saved);
     }
 
@@ -106,6 +101,7 @@ public class ReplyService {
         }
 
         reply.setContent(request.content());
+        publishReplyChange(reply, BoardChangeType.REPLY_UPDATED);
         return ReplyResponse.from(reply);
     }
 
@@ -123,5 +119,19 @@ public class ReplyService {
         }
 
         replyRepository.delete(reply);
+
+        // 댓글/게시글 답글 수 - 1
+        Comments comment = reply.getComment();
+        commentsRepository.decrementReplyCount(comment.getCommentId());
+        postRepository.decrementReplyCount(comment.getPost().getPostId());
+        publishReplyChange(reply, BoardChangeType.REPLY_DELETED);
+    }
+
+    // 실시간 게시판 업데이트 이벤트 발행 (커밋 후 전송)
+    private void publishReplyChange(Reply reply, BoardChangeType type) {
+        Comments comment = reply.getComment();
+        Post post = comment.getPost();
+        eventPublisher.publishEvent(BoardChangedEvent.reply(post.getFarm().getFarmId(), type,
+                post.getPostId(), comment.getCommentId(), reply.getReplyId()));
     }
 }
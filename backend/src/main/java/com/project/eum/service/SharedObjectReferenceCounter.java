@@ -0,0 +1,57 @@
+package com.project.eum.service;
+
+import com.project.eum.storage.SharedObject;
+import com.project.eum.storage.SharedObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유(내용 주소) 객체 참조 수 관리
+ *
+ * - 추가/해제는 호출한 쪽 트랜잭션과 별개로 바로 커밋 (REQUIRES_NEW)
+ *   → 새로 올린 객체와 같게 취급, 호출한 쪽이 롤백되면 해제를 따로 요청 (ObjectStorageService.deleteOnRollback)
+ * - 마지막 참조 해제 시 행 잠금을 잡은 채로 객체를 지우고 행 삭제
+ *   → 그 사이 같은 키로 들어온 추가는 잠금을 기다렸다가 새 행으로 시작 (객체를 다시 올림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SharedObjectReferenceCounter {
+
+    private final SharedObjectRepository sharedObjectRepository;
+
+    /**
+     * 참조 하나 추가
+     * @return 추가 후 참조 수 (1 이면 새 행 → 객체가 없을 수 있음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int acquire(String key) {
+        sharedObjectRepository.addReference(key, LocalDateTime.now());
+        return sharedObjectRepository.findRefCount(key).orElse(1);
+    }
+
+    /**
+     * 참조 하나 해제, 마지막 참조였으면 deleteObject 실행 후 행 삭제
+     * - deleteObject 가 실패하면 해제도 롤백 (참조 수 유지)
+     * @return 마지막 참조였는지
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String key, Runnable deleteObject) {
+        SharedObject shared = sharedObjectRepository.findForUpdate(key).orElse(null);
+        if (shared == null) {
+            log.warn("No reference count for shared object {}, skip release", key);
+            return false;
+        }
+        if (shared.release() > 0) {
+            return false;
+        }
+        deleteObject.run();
+        sharedObjectRepository.delete(shared);
+        return true;
+    }
+}
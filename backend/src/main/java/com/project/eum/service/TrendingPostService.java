@@ -0,0 +1,122 @@
+package com.project.eum.service;
+
+import com.project.eum.dto.PostResponseDto;
+import com.project.eum.dto.TrendingPostResult;
+import com.project.eum.dto.TrendingPostsResponse;
+import com.project.eum.post.PostRepository;
+import com.project.eum.trending.TrendingEntry;
+import com.project.eum.trending.TrendingScoreEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 농장 인기글 조회 (캐시된 상위 N 개)
+ *
+ * - 농장별로 상위 MAX_SIZE 개 응답을 만들어 두고, 요청 size 만큼 잘라서 반환
+ *   → 캐시 적중 시 DB 조회 없이 메모리에서 바로 응답
+ * - 다시 만드는 조건
+ *   1) 순위 버전(TrendingScoreEngine.version)이 바뀌었고 refresh 간격이 지났을 때
+ *   2) 버전이 같아도 ttl 이 지났을 때 (제목 수정, 댓글 수 등 반영)
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingPostService {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 50;
+
+    private final TrendingScoreEngine trendingScoreEngine;
+    private final PostRepository postRepository;
+    private final ObjectStorageService objectStorageService;
+
+    private final Map<Long, CachedTrending> cache = new ConcurrentHashMap<>();
+
+    /** 순위가 바뀌어도 이 간격 안에서는 캐시 사용 (몰리는 댓글에 재조회 폭주 방지) */
+    @Value("${community.trending.cache-refresh-ms:5000}")
+    private long refreshMillis;
+
+    /** 순위가 그대로여도 이 시간이 지나면 다시 조회 */
+    @Value("${community.trending.cache-ttl-ms:60000}")
+    private long ttlMillis;
+
+    public TrendingPostsResponse getTrending(Long farmId, Integer size) {
+        if (farmId == null) {
+            throw new IllegalArgumentException("농장 정보가 필요합니다.");
+        }
+        int limit = size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+
+        long version = trendingScoreEngine.version(farmId);
+        long now = System.currentTimeMillis();
+        CachedTrending cached = cache.get(farmId);
+        if (cached == null || !cached.isFresh(version, now, refreshMillis, ttlMillis)) {
+            cached = new CachedTrending(load(farmId), version, now);
+            cache.put(farmId, cached);
+        }
+
+        TrendingPostsResponse response = cached.response();
+        if (response.posts().size() <= limit) {
+            return response;
+        }
+        return new TrendingPostsResponse(farmId, response.posts().subList(0, limit), response.generatedAt());
+    }
+
+    // 순위 상위 MAX_SIZE 개 + 게시글 정보 한 번에 조회
+    private TrendingPostsResponse load(Long farmId) {
+        List<TrendingEntry> entries = trendingScoreEngine.top(farmId, MAX_SIZE);
+        if (entries.isEmpty()) {
+            return new TrendingPostsResponse(farmId, List.of(), LocalDateTime.now());
+        }
+
+        Map<Long, PostResponseDto> posts = postRepository
+                .findSummariesByIds(entries.stream().map(TrendingEntry::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostResponseDto::getId, Function.identity()));
+        ImageVariantUrls variants = objectStorageService.variantUrls(
+                posts.values().stream().map(PostResponseDto::getPhotoUrl).filter(Objects::nonNull).toList());
+
+        List<TrendingPostResult> results = new ArrayList<>(entries.size());
+        for (TrendingEntry entry : entries) {
+            PostResponseDto post = posts.get(entry.postId());
+            if (post == null) {
+                continue;   // 순위 반영 직전에 삭제된 글
+            }
+            results.add(new TrendingPostResult(
+                    post.getId(),
+                    post.getFarmId(),
+                    post.getType(),
+                    post.getTitle(),
+                    post.getPhotoUrl(),
+                    variants.thumbnailOf(post.getPhotoUrl()),
+                    post.getAuthorId(),
+                    post.getUserNickname(),
+                    post.getCreatedAt(),
+                    post.getCommentCount(),
+                    post.getReplyCount(),
+                    post.getLastActivityAt(),
+                    entry.score()
+            ));
+        }
+        return new TrendingPostsResponse(farmId, List.copyOf(results), LocalDateTime.now());
+    }
+
+    private record CachedTrending(TrendingPostsResponse response, long version, long builtAt) {
+
+        boolean isFresh(long currentVersion, long now, long refreshMillis, long ttlMillis) {
+            long age = now - builtAt;
+            if (age >= ttlMillis) {
+                return false;
+            }
+            return version == currentVersion || age < refreshMillis;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.eum.service;
+
+import java.util.Set;
+
+/**
+ * 클라이언트가 Presigned URL 로 직접 올릴 수 있는 이미지 분류와 정책
+ * - 키: {prefix}/{userId}/... (ObjectStorageService 업로드와 같은 규칙)
+ * - maxBytes: 기존 multipart 업로드 제한과 동일
+ */
+public enum UploadCategory {
+
+    DIARY("diary", 1024 * 1024),
+    COMMUNITY("community", 5 * 1024 * 1024);
+
+    /** 허용하는 이미지 형식 */
+    public static final Set<String> CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+    private final String prefix;
+    private final long maxBytes;
+
+    UploadCategory(String prefix, long maxBytes) {
+        this.prefix = prefix;
+        this.maxBytes = maxBytes;
+    }
+
+    public String prefix() {
+        return prefix;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    // 이 사용자가 올린 키인지 확인
+    public boolean owns(String key, Long userId) {
+        return key != null && key.startsWith(prefix + "/" + userId + "/");
+    }
+
+    public static UploadCategory from(String value) {
+        for (UploadCategory category : values()) {
+            if (category.prefix.equalsIgnoreCase(value)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 업로드 분류입니다.");
+    }
+}
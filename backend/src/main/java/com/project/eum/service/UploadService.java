@@ -0,0 +1,193 @@
+package com.project.eum.service;
+
+import com.project.eum.diary.DiaryRepository;
+import com.project.eum.dto.UploadConfirmResponse;
+import com.project.eum.dto.UploadPresignRequest;
+import com.project.eum.dto.UploadPresignResponse;
+import com.project.eum.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이미지 직접 업로드 (Presigned PUT)
+ *
+ * - 1) presign: 분류/형식/크기 정책 확인 후 사용자 전용 키로 서명된 PUT URL 발급
+ *   2) 클라이언트가 Object Storage 로 직접 업로드 (서버를 거치지 않음)
+ *   3) confirm: HEAD 로 실제 올라간 크기/형식을 다시 확인, 정책에 맞지 않으면 지우고 거부
+ * - 글/일기 작성 시 받은 URL 도 같은 확인을 거침 (confirm 을 건너뛴 요청 대비)
+ *   이미 다른 글/일기에 붙은 이미지는 받지 않음 (한쪽을 지우거나 바꾸면 다른 쪽 이미지도 지워지므로)
+ * - 기존 multipart 업로드도 그대로 지원 (AI 진단은 이미지를 AI 서버로 보내야 하므로 multipart 만)
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private static final int FILENAME_MAX_LENGTH = 100;
+
+    private final ObjectStorageService objectStorageService;
+    private final DiaryRepository diaryRepository;
+    private final PostRepository postRepository;
+
+    /** 발급한 업로드 URL 유효 시간 */
+    @Value("${storage.upload.presign-ttl-seconds:300}")
+    private long presignTtlSeconds;
+
+    /**
+     * 직접 업로드 URL 발급
+     * @throws IllegalArgumentException 분류/형식/크기가 정책에 맞지 않는 경우
+     */
+    public UploadPresignResponse presign(Long userId, UploadPresignRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("업로드할 파일 정보를 입력해 주세요.");
+        }
+        UploadCategory category = UploadCategory.from(request.category());
+        String contentType = normalizeContentType(request.contentType());
+        validate(category, contentType, request.contentLength() == null ? -1 : request.contentLength());
+
+        String key = ObjectStorageService.newKey(category.prefix(), userId, sanitize(request.filename(), contentType));
+        PresignedPutObjectRequest presigned = objectStorageService.presignPut(key, contentType,
+                request.contentLength(), Duration.ofSeconds(presignTtlSeconds));
+
+        // 브라우저가 직접 붙이는 host / content-length 는 제외하고 보내야 할 헤더만 전달
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (!name.equals("host") && !name.equals("content-length")) {
+                headers.put(header.getKey(), String.join(",", header.getValue()));
+            }
+        }
+        return new UploadPresignResponse(key, presigned.url().toString(), "PUT", headers,
+                presigned.expiration(), objectStorageService.publicUrlPrefix() + key);
+    }
+
+    /**
+     * 직접 업로드 완료 확인 (HEAD)
+     * - 정책에 맞지 않는 파일은 바로 삭제
+     * @throws IllegalArgumentException 본인 업로드가 아니거나, 파일이 없거나, 정책에 맞지 않는 경우
+     */
+    public UploadConfirmResponse confirm(Long userId, String key) {
+        UploadCategory category = categoryOf(key);
+        if (category == null || !category.owns(key, userId)) {
+            throw new IllegalArgumentException("업로드한 파일을 찾을 수 없습니다.");
+        }
+        HeadObjectResponse head = objectStorageService.headObject(key);
+        if (head == null) {
+            throw new IllegalArgumentException("업로드한 파일을 찾을 수 없습니다.");
+        }
+        String contentType = normalizeContentType(head.contentType());
+        long contentLength = head.contentLength() == null ? -1 : head.contentLength();
+        try {
+            validate(category, contentType, contentLength);
+        } catch (IllegalArgumentException ex) {
+            objectStorageService.deleteObjectByUrlAsync(objectStorageService.publicUrlPrefix() + key);
+            throw ex;
+        }
+        return new UploadConfirmResponse(key, objectStorageService.publicUrlPrefix() + key, contentType, contentLength);
+    }
+
+    /**
+     * 글/일기에 붙일 직접 업로드 URL 확인
+     * - 이 버킷이 아닌 URL 은 null (호출한 쪽의 기존 처리를 따름)
+     * - 직접 올린 뒤 아직 어디에도 붙지 않은 이미지만 (복사본/기존 일기 이미지 재사용 불가, 공유 이미지 제외)
+     * - 확인되면 축소본 생성 요청 (실제로 쓰이는 이미지만)
+     * - 공유(내용 주소) 이미지면 참조만 추가 (같은 사진을 다른 일기/게시글에 다시 쓸 때), 롤백되면 해제
+     *   키에 사용자/분류가 없으므로 본인의 같은 분류 일기/게시글에 이미 붙어 있는 이미지만 허용하고,
+     *   크기/형식 정책도 다시 확인 (다른 곳에서 쓰는 객체이므로 맞지 않아도 지우지 않음)
+     * @return 확인된 공개 URL
+     * @throws IllegalArgumentException 다른 분류/다른 사용자의 업로드, 이미 사용 중인 이미지, 정책에 맞지 않는 경우
+     */
+    public String requireUploadedUrl(Long userId, UploadCategory category, String url) {
+        String key = objectStorageService.keyOf(url);
+        if (key == null) {
+            return null;
+        }
+        if (objectStorageService.isSharedKey(key)) {
+            if (!isAttached(category, userId, url)) {
+                throw new IllegalArgumentException("본인이 업로드한 이미지만 사용할 수 있습니다.");
+            }
+            validateExisting(category, key);
+            objectStorageService.addSharedReference(key);
+            objectStorageService.deleteOnRollback(url);
+            return url;
+        }
+        if (!category.owns(key, userId)) {
+            throw new IllegalArgumentException("본인이 업로드한 이미지만 사용할 수 있습니다.");
+        }
+        if (isAttached(category, userId, objectStorageService.publicUrlPrefix() + key)) {
+            throw new IllegalArgumentException("이미 사용 중인 이미지입니다. 이미지를 다시 업로드해 주세요.");
+        }
+        String confirmed = confirm(userId, key).url();
+        objectStorageService.publishUploaded(key);
+        return confirmed;
+    }
+
+    // 이미 올라가 있는 객체의 크기/형식 정책 확인 (HEAD)
+    private void validateExisting(UploadCategory category, String key) {
+        HeadObjectResponse head = objectStorageService.headObject(key);
+        if (head == null) {
+            throw new IllegalArgumentException("업로드한 파일을 찾을 수 없습니다.");
+        }
+        validate(category, normalizeContentType(head.contentType()),
+                head.contentLength() == null ? -1 : head.contentLength());
+    }
+
+    // 본인 일기/게시글에 이미 붙어 있는 URL 인지 (키에 사용자 ID 가 있으므로 본인 것만 보면 됨)
+    private boolean isAttached(UploadCategory category, Long userId, String url) {
+        return switch (category) {
+            case DIARY -> diaryRepository.existsByUserIdAndPhotoUrl(userId, url);
+            case COMMUNITY -> postRepository.existsByAuthorUserIdAndPhotoUrl(userId, url);
+        };
+    }
+
+    private static UploadCategory categoryOf(String key) {
+        if (!StringUtils.hasText(key) || key.indexOf('/') < 0) {
+            return null;
+        }
+        try {
+            return UploadCategory.from(key.substring(0, key.indexOf('/')));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static void validate(UploadCategory category, String contentType, long contentLength) {
+        if (contentType == null || !UploadCategory.CONTENT_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException("JPG, PNG, GIF, WebP 이미지만 업로드할 수 있습니다.");
+        }
+        if (contentLength <= 0) {
+            throw new IllegalArgumentException("파일 크기를 확인해 주세요.");
+        }
+        if (contentLength > category.maxBytes()) {
+            throw new IllegalArgumentException("이미지 크기는 " + category.maxBytes() / (1024 * 1024) + "MB 이하여야 합니다.");
+        }
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return null;
+        }
+        int semicolon = contentType.indexOf(';');
+        String type = semicolon >= 0 ? contentType.substring(0, semicolon) : contentType;
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 키에 넣을 파일명 (경로/특수문자 제거, 없으면 형식으로 이름 생성)
+    private static String sanitize(String filename, String contentType) {
+        String name = filename == null ? "" : filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.isBlank() || name.chars().allMatch(c -> c == '_' || c == '.')) {
+            name = "image." + contentType.substring("image/".length()).replace("jpeg", "jpg");
+        }
+        return name.length() > FILENAME_MAX_LENGTH ? name.substring(name.length() - FILENAME_MAX_LENGTH) : name;
+    }
+}
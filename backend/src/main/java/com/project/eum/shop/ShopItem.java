@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 /**
  * 상점에서 판매되는 원시 아이템 정보 (DB shop_items 테이블과 매핑).
@@ -38,4 +41,9 @@ public class ShopItem {
 
     @Column(name = "item_category", length = 50)
     private String itemCategory;
+
+    // 수정일시 (DB 에서 직접 고쳐도 ON UPDATE 로 갱신, 카탈로그 ETag 계산용)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 }
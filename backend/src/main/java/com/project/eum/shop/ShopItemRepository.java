@@ -1,6 +1,8 @@
 package com.project.eum.shop;
 
+import com.project.eum.dto.CollectionVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -8,4 +10,12 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface ShopItemRepository extends JpaRepository<ShopItem, Long> {
+
+    // 카탈로그 버전 (조건부 GET): 행 수, 마지막 수정 시각, id 합
+    @Query("""
+            select new com.project.eum.dto.CollectionVersion(
+                       count(s), max(s.updatedAt), coalesce(sum(s.id), 0L))
+              from ShopItem s
+            """)
+    CollectionVersion findCollectionVersion();
 }
@@ -1,5 +1,6 @@
 package com.project.eum.shop;
 
+import com.project.eum.dto.CollectionVersion;
 import com.project.eum.dto.ShopCatalogItemResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,14 @@ public class ShopItemService {
 
     private final ShopItemRepository shopItemRepository;
 
+    /**
+     * 카탈로그 버전 (조건부 GET 용, 아이템은 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public CollectionVersion getCatalogVersion() {
+        return shopItemRepository.findCollectionVersion();
+    }
+
     @Transactional(readOnly = true)
     public List<ShopCatalogItemResponse> getCatalogItems() {
         List<ShopItem> rows = shopItemRepository.findAll();
@@ -0,0 +1,26 @@
+package com.project.eum.storage;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 축소본(ImageVariant 전체)을 만들어 둔 원본 객체
+ * - 행이 있을 때만 응답에 축소본 URL 을 내보냄 (ImageVariantRegistry)
+ * - 행 추가는 네이티브 upsert 로만 함 (ImageVariantRecordRepository)
+ */
+@Entity
+@Table(name = "image_variants")
+@Getter
+@NoArgsConstructor
+public class ImageVariantRecord {
+
+    @Id
+    @Column(name = "object_key", length = 255)
+    private String objectKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
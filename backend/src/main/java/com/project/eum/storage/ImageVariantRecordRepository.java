@@ -0,0 +1,34 @@
+package com.project.eum.storage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageVariantRecordRepository extends JpaRepository<ImageVariantRecord, String> {
+
+    // 축소본 생성 완료 기록 (다시 만들면 시각만 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO image_variants (object_key, created_at)
+            VALUES (:objectKey, :now)
+            ON DUPLICATE KEY UPDATE created_at = :now
+            """, nativeQuery = true)
+    int markGenerated(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    @Query("select v.objectKey from ImageVariantRecord v where v.objectKey in :objectKeys")
+    List<String> findGeneratedKeys(@Param("objectKeys") Collection<String> objectKeys);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ImageVariantRecord v where v.objectKey in :objectKeys")
+    int deleteByObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
+}
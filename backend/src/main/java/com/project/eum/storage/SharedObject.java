@@ -0,0 +1,40 @@
+package com.project.eum.storage;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(해시) 키로 저장한 공유 이미지의 참조 수
+ * - 같은 사진을 올린 일기/게시글/진단이 한 객체를 함께 씀
+ * - 참조가 0 이 되면 객체와 이 행을 함께 삭제 (SharedObjectReferenceCounter)
+ * - 행 추가/증가는 네이티브 upsert 로만 함 (SharedObjectRepository)
+ */
+@Entity
+@Table(name = "shared_objects")
+@Getter
+@NoArgsConstructor
+public class SharedObject {
+
+    @Id
+    @Column(name = "object_key", length = 255)
+    private String objectKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 참조 하나 해제 → 남은 참조 수
+    public int release() {
+        refCount = Math.max(refCount - 1, 0);
+        updatedAt = LocalDateTime.now();
+        return refCount;
+    }
+}
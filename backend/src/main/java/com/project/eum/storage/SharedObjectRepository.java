@@ -0,0 +1,33 @@
+package com.project.eum.storage;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SharedObjectRepository extends JpaRepository<SharedObject, String> {
+
+    // 참조 추가 (없으면 1 로 생성, 있으면 +1) — 행 잠금은 트랜잭션 끝까지 유지
+    @Modifying
+    @Query(value = """
+            INSERT INTO shared_objects (object_key, ref_count, created_at, updated_at)
+            VALUES (:objectKey, 1, :now, :now)
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now
+            """, nativeQuery = true)
+    int addReference(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    @Query("select s.refCount from SharedObject s where s.objectKey = :objectKey")
+    Optional<Integer> findRefCount(@Param("objectKey") String objectKey);
+
+    // 참조 해제용 (같은 키의 추가/해제는 이 행 잠금으로 순서가 정해짐)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SharedObject s where s.objectKey = :objectKey")
+    Optional<SharedObject> findForUpdate(@Param("objectKey") String objectKey);
+}
@@ -0,0 +1,39 @@
+package com.project.eum.trending;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 점수 스냅샷 (재시작 시 TrendingScoreEngine 복원용)
+ * - logScore: log2 공간에 저장한 시간 감쇠 점수 (TrendingBoard 참고)
+ * - 게시글 삭제 시 엔진이 다음 스냅샷에서 지우므로 posts 에 FK 를 걸지 않음
+ */
+@Entity
+@Table(
+        name = "post_trending_scores",
+        indexes = @Index(name = "idx_post_trending_scores_farm", columnList = "farm_id")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostTrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "farm_id", nullable = false)
+    private Long farmId;
+
+    @Column(name = "log_score", nullable = false)
+    private double logScore;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
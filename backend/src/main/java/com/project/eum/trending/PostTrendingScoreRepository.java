@@ -0,0 +1,29 @@
+package com.project.eum.trending;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PostTrendingScoreRepository extends JpaRepository<PostTrendingScore, Long> {
+
+    // 농장 스냅샷 교체 1) 기존 행 일괄 삭제
+    @Modifying
+    @Query("delete from PostTrendingScore s where s.farmId = :farmId")
+    int deleteByFarmId(@Param("farmId") Long farmId);
+
+    // 농장 스냅샷 교체 2) 새 점수 INSERT (merge 의 사전 SELECT 없이)
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_trending_scores (post_id, farm_id, log_score, updated_at)
+            VALUES (:postId, :farmId, :logScore, :updatedAt)
+            """, nativeQuery = true)
+    int insertScore(@Param("postId") Long postId,
+                    @Param("farmId") Long farmId,
+                    @Param("logScore") double logScore,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,131 @@
+package com.project.eum.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 농장 하나의 인기글 순위 (점수순 정렬 구조)
+ *
+ * - 점수는 log2 공간, 시간 단위는 "반감기"로 저장
+ *   실제 점수 = 2^(logScore - 현재시각/반감기)
+ *   → 모든 글이 같은 비율로 감쇠하므로 시간이 지나도 순서가 그대로
+ *   → 이벤트가 올 때만 해당 글 하나를 다시 정렬하면 됨 (주기적 재계산 없음)
+ * - 가중치 w 인 이벤트가 시각 t 에 오면 logScore ← log2(2^logScore + w·2^(t/반감기))
+ * - 모든 메서드는 이 객체로 동기화
+ */
+final class TrendingBoard {
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::logScore).reversed()
+            .thenComparing(Ranked::postId, Comparator.reverseOrder());
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final NavigableSet<Ranked> ranking = new TreeSet<>(ORDER);
+    private long version;
+    private boolean dirty;
+
+    synchronized void add(Long postId, double logWeight, int maxPosts) {
+        Double previous = scores.get(postId);
+        double next = previous == null ? logWeight : logAdd(previous, logWeight);
+        put(postId, next);
+        // 상한을 넘으면 가장 낮은 글부터 제외
+        while (ranking.size() > maxPosts) {
+            Ranked lowest = ranking.pollLast();
+            scores.remove(lowest.postId());
+        }
+        changed();
+    }
+
+    synchronized void remove(Long postId) {
+        Double previous = scores.remove(postId);
+        if (previous != null) {
+            ranking.remove(new Ranked(postId, previous));
+            changed();
+        }
+    }
+
+    // 스냅샷 복원용 (변경으로 치지 않음)
+    synchronized void restore(Long postId, double logScore) {
+        put(postId, logScore);
+    }
+
+    synchronized List<Ranked> top(int limit) {
+        List<Ranked> result = new ArrayList<>(Math.min(limit, ranking.size()));
+        for (Ranked ranked : ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(ranked);
+        }
+        return result;
+    }
+
+    /**
+     * 최소 점수 아래로 감쇠한 글을 정리 (정렬 끝에서부터)
+     */
+    synchronized void prune(double minLogScore) {
+        Iterator<Ranked> lowest = ranking.descendingIterator();
+        boolean removed = false;
+        while (lowest.hasNext()) {
+            Ranked ranked = lowest.next();
+            if (ranked.logScore() >= minLogScore) {
+                break;
+            }
+            lowest.remove();
+            scores.remove(ranked.postId());
+            removed = true;
+        }
+        if (removed) {
+            changed();
+        }
+    }
+
+    /**
+     * 변경이 있었으면 현재 점수 사본을 돌려주고 dirty 해제 (없으면 null)
+     */
+    synchronized Map<Long, Double> drainIfDirty() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        return new HashMap<>(scores);
+    }
+
+    // 스냅샷 저장 실패 시 다음 주기에 다시 저장
+    synchronized void markDirty() {
+        dirty = true;
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    private void put(Long postId, double logScore) {
+        Double previous = scores.put(postId, logScore);
+        if (previous != null) {
+            ranking.remove(new Ranked(postId, previous));
+        }
+        ranking.add(new Ranked(postId, logScore));
+    }
+
+    private void changed() {
+        version++;
+        dirty = true;
+    }
+
+    // log2(2^a + 2^b) 를 넘침 없이 계산
+    static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        return max + Math.log1p(Math.pow(2, min - max)) / Math.log(2);
+    }
+
+    record Ranked(Long postId, double logScore) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.eum.trending;
+
+/**
+ * 인기글 순위 한 건
+ * - score: 조회 시점 기준으로 감쇠된 점수
+ */
+public record TrendingEntry(Long postId, double score) {
+}
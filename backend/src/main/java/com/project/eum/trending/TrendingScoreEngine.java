@@ -0,0 +1,159 @@
+package com.project.eum.trending;
+
+import com.project.eum.post.BoardChangeType;
+import com.project.eum.post.BoardChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 농장별 인기글 점수 (시간 감쇠)
+ *
+ * - 게시판 변경 이벤트(BoardChangedEvent)를 커밋 후 받아 해당 글 점수만 갱신
+ *   글 작성 1점, 댓글 2점, 답글 1점 / 글 삭제 시 순위에서 제외
+ * - 점수는 반감기(half-life-hours)마다 절반으로 줄어듦 (TrendingBoard 참고)
+ * - 농장별 순위는 메모리에만 두고, snapshot-interval 마다 바뀐 농장만 테이블에 저장
+ *   → 재시작 시 테이블에서 복원
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingScoreEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingScoreEngine.class);
+
+    private static final double POST_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double REPLY_WEIGHT = 1.0;
+    // 이 점수 아래로 감쇠한 글은 순위에서 제외
+    private static final double MIN_SCORE = 0.05;
+
+    private final PostTrendingScoreRepository scoreRepository;
+
+    private final Map<Long, TrendingBoard> boards = new ConcurrentHashMap<>();
+
+    /** 점수 반감기 (시간) */
+    @Value("${community.trending.half-life-hours:12}")
+    private double halfLifeHours;
+
+    /** 농장별 순위에 유지할 최대 글 수 */
+    @Value("${community.trending.max-posts-per-farm:200}")
+    private int maxPostsPerFarm;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<PostTrendingScore> rows = scoreRepository.findAll();
+        for (PostTrendingScore row : rows) {
+            board(row.getFarmId()).restore(row.getPostId(), row.getLogScore());
+        }
+        log.info("Restored trending scores: {} posts in {} farms", rows.size(), boards.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.farmId() == null || event.postId() == null) {
+            return;
+        }
+        if (event.type() == BoardChangeType.POST_DELETED) {
+            TrendingBoard board = boards.get(event.farmId());
+            if (board != null) {
+                board.remove(event.postId());
+            }
+            return;
+        }
+        double weight = weightOf(event.type());
+        if (weight > 0) {
+            double logWeight = Math.log(weight) / Math.log(2) + nowInHalfLives();
+            board(event.farmId()).add(event.postId(), logWeight, maxPostsPerFarm);
+        }
+    }
+
+    /**
+     * 농장 인기글 상위 limit 개 (현재 시각 기준 점수)
+     */
+    public List<TrendingEntry> top(Long farmId, int limit) {
+        TrendingBoard board = boards.get(farmId);
+        if (board == null) {
+            return List.of();
+        }
+        double now = nowInHalfLives();
+        List<TrendingEntry> result = new ArrayList<>();
+        for (TrendingBoard.Ranked ranked : board.top(limit)) {
+            result.add(new TrendingEntry(ranked.postId(), Math.pow(2, ranked.logScore() - now)));
+        }
+        return result;
+    }
+
+    /**
+     * 농장 순위 버전 (순위가 바뀔 때마다 증가, 캐시 무효화 판단용)
+     */
+    public long version(Long farmId) {
+        TrendingBoard board = boards.get(farmId);
+        return board == null ? 0L : board.version();
+    }
+
+    /**
+     * 바뀐 농장의 점수만 테이블에 저장 (농장 단위로 교체)
+     */
+    @Scheduled(fixedDelayString = "${community.trending.snapshot-interval-ms:60000}")
+    @Transactional
+    public void snapshot() {
+        double minLogScore = Math.log(MIN_SCORE) / Math.log(2) + nowInHalfLives();
+        LocalDateTime now = LocalDateTime.now();
+        List<TrendingBoard> drained = new ArrayList<>();
+        int saved = 0;
+        try {
+            for (Map.Entry<Long, TrendingBoard> entry : boards.entrySet()) {
+                Long farmId = entry.getKey();
+                TrendingBoard board = entry.getValue();
+                board.prune(minLogScore);
+                Map<Long, Double> scores = board.drainIfDirty();
+                if (scores == null) {
+                    continue;
+                }
+                drained.add(board);
+                scoreRepository.deleteByFarmId(farmId);
+                for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                    scoreRepository.insertScore(score.getKey(), farmId, score.getValue(), now);
+                }
+                saved += scores.size();
+            }
+        } catch (RuntimeException ex) {
+            // 트랜잭션이 롤백되므로 이번에 꺼낸 농장은 다음 주기에 다시 저장
+            drained.forEach(TrendingBoard::markDirty);
+            throw ex;
+        }
+        if (saved > 0) {
+            log.debug("Saved trending snapshot: {} posts in {} farms", saved, drained.size());
+        }
+    }
+
+    private TrendingBoard board(Long farmId) {
+        return boards.computeIfAbsent(farmId, id -> new TrendingBoard());
+    }
+
+    private double nowInHalfLives() {
+        return System.currentTimeMillis() / (halfLifeHours * 3_600_000.0);
+    }
+
+    private static double weightOf(BoardChangeType type) {
+        return switch (type) {
+            case POST_CREATED -> POST_WEIGHT;
+            case COMMENT_CREATED -> COMMENT_WEIGHT;
+            case REPLY_CREATED -> REPLY_WEIGHT;
+            default -> 0;
+        };
+    }
+}
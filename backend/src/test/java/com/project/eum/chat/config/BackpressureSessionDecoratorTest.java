@@ -0,0 +1,115 @@
+package com.project.eum.chat.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BackpressureSessionDecoratorTest {
+
+    private static final int LIMIT = 1000;
+
+    private ChatBackpressureManager manager;
+    private WebSocketSession delegate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ChatBackpressureManager(new ChatWebSocketProperties(), new SimpleMeterRegistry());
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("s1");
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        manager.shutdown();
+    }
+
+    @Test
+    void dropShedsTypingAndPresenceButClosesOnChatMessageOverflow() throws Exception {
+        // 전송 작업을 실행하지 않는 실행기 → 보낸 프레임이 모두 큐에 남음
+        BackpressureSessionDecorator session = new BackpressureSessionDecorator(
+                delegate, manager, command -> { }, LIMIT, 10_000, OverflowStrategy.DROP);
+
+        session.sendMessage(frame("/topic/chat/1/typing", 400));
+        session.sendMessage(frame("/topic/chat/1/presence", 400));
+        session.sendMessage(frame("/topic/chat/1", 400));
+        assertThat(session.getBufferSize()).isLessThanOrEqualTo(LIMIT);
+
+        session.sendMessage(frame("/topic/chat/1", 400));
+        assertThatThrownBy(() -> session.sendMessage(frame("/topic/chat/1", 400)))
+                .isInstanceOf(SessionLimitExceededException.class);
+        assertThat(session.getBufferSize()).isZero();
+    }
+
+    @Test
+    void terminateClosesOnFirstOverflow() throws Exception {
+        BackpressureSessionDecorator session = new BackpressureSessionDecorator(
+                delegate, manager, command -> { }, LIMIT, 10_000, OverflowStrategy.TERMINATE);
+
+        session.sendMessage(frame("/topic/chat/1/typing", 600));
+        assertThatThrownBy(() -> session.sendMessage(frame("/topic/chat/1/typing", 600)))
+                .isInstanceOf(SessionLimitExceededException.class);
+    }
+
+    @Test
+    void presenceFramesForTheSameDestinationAreCoalesced() throws Exception {
+        BackpressureSessionDecorator session = new BackpressureSessionDecorator(
+                delegate, manager, command -> { }, LIMIT, 10_000, OverflowStrategy.DROP);
+
+        for (int i = 0; i < 10; i++) {
+            session.sendMessage(frame("/topic/chat/1/presence", 300));
+        }
+        assertThat(session.getBufferSize()).isLessThan(2 * 300);
+    }
+
+    @Test
+    void watchdogClosesSessionWhoseSendIsStuck() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).sendMessage(any());
+        BackpressureSessionDecorator session = new BackpressureSessionDecorator(
+                delegate, manager, executor, LIMIT, 50, OverflowStrategy.DROP);
+
+        session.sendMessage(frame("/topic/chat/1", 100));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long now = System.currentTimeMillis();
+        assertThat(session.closeIfSendTimedOut(now)).isFalse();
+        assertThat(session.closeIfSendTimedOut(now + 1000)).isTrue();
+        assertThat(session.closeIfSendTimedOut(now + 2000)).isFalse();   // 한 번만 닫음
+        verify(delegate, timeout(5000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        release.countDown();
+    }
+
+    // STOMP MESSAGE 프레임 (본문으로 크기 맞춤)
+    private static TextMessage frame(String destination, int size) {
+        String headers = "MESSAGE\ndestination:" + destination + "\nsubscription:sub-0\n\n";
+        return new TextMessage(headers + "x".repeat(Math.max(0, size - headers.length() - 1)) + "\u0000");
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.eum.chat.repository;
+
+import com.project.eum.chat.dto.ChatRoomResponse;
+import com.project.eum.chat.entity.ChatRoom;
+import com.project.eum.farm.Farm;
+import com.project.eum.support.MySqlRepositoryTest;
+import com.project.eum.user.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomRepositoryTest extends MySqlRepositoryTest {
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Test
+    void roomListIsOneStatementRegardlessOfRoomCount() {
+        Member farmer = persistMember("farmer");
+        Farm farm = persistFarm(farmer);
+        persistRoom(farm, farmer, persistMember("buyer"));
+
+        long oneRoom = countStatements(() -> toResponses(farmer.getUserId()));
+
+        for (int i = 0; i < 20; i++) {
+            persistRoom(farm, farmer, persistMember("buyer"));
+        }
+        // 농장주가 다른 농장의 구매자인 방 (UNION 두 번째 분기)
+        Member otherFarmer = persistMember("other");
+        persistRoom(persistFarm(otherFarmer), otherFarmer, farmer);
+
+        List<ChatRoomResponse> rooms = new ArrayList<>();
+        long manyRooms = countStatements(() -> rooms.addAll(toResponses(farmer.getUserId())));
+
+        assertThat(rooms).hasSize(22);
+        assertThat(oneRoom).isEqualTo(1);
+        assertThat(manyRooms).isEqualTo(oneRoom);
+    }
+
+    @Test
+    void roomListShowsCounterpartAndUnreadPerSide() {
+        Member farmer = persistMember("farmer");
+        Member buyer = persistMember("buyer");
+        ChatRoom room = persistRoom(persistFarm(farmer), farmer, buyer);
+        room.setLastMessageAt(LocalDateTime.now());
+        room.setLastMessagePreview("안녕하세요");
+        room.setUserLastReadAt(room.getLastMessageAt().plusSeconds(1));
+
+        List<ChatRoomResponse> farmerRooms = new ArrayList<>();
+        List<ChatRoomResponse> buyerRooms = new ArrayList<>();
+        countStatements(() -> {
+            farmerRooms.addAll(toResponses(farmer.getUserId()));
+            buyerRooms.addAll(toResponses(buyer.getUserId()));
+        });
+
+        assertThat(farmerRooms).singleElement().satisfies(response -> {
+            assertThat(response.counterpartNickname()).isEqualTo(buyer.getNickname());
+            assertThat(response.unread()).isTrue();
+        });
+        assertThat(buyerRooms).singleElement().satisfies(response -> {
+            assertThat(response.counterpartNickname()).isEqualTo(farmer.getNickname());
+            assertThat(response.unread()).isFalse();
+        });
+        // 방 생성/입장 응답(엔티티 변환)도 목록과 같은 값
+        ChatRoomResponse farmerView = ChatRoomResponse.from(room, farmer.getUserId());
+        assertThat(farmerView.counterpartNickname()).isEqualTo(buyer.getNickname());
+        assertThat(farmerView.unread()).isTrue();
+        ChatRoomResponse buyerView = ChatRoomResponse.from(room, buyer.getUserId());
+        assertThat(buyerView.counterpartNickname()).isEqualTo(farmer.getNickname());
+        assertThat(buyerView.unread()).isFalse();
+    }
+
+    private List<ChatRoomResponse> toResponses(Long memberId) {
+        return chatRoomRepository.findRoomListByMemberId(memberId).stream()
+                .map(ChatRoomResponse::from)
+                .toList();
+    }
+
+    private ChatRoom persistRoom(Farm farm, Member farmer, Member user) {
+        ChatRoom room = new ChatRoom();
+        room.setFarm(farm);
+        room.setFarmer(farmer);
+        room.setUser(user);
+        em.persist(room);
+        return room;
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.eum.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageDedupeCacheTest {
+
+    private static final Long SENDER = 1L;
+    private static final LocalDateTime SAVED_AT = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private ChatMessageDedupeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatMessageDedupeCache();
+        ReflectionTestUtils.setField(cache, "windowSize", 2);
+        ReflectionTestUtils.setField(cache, "idleTtlMillis", 600_000L);
+        ReflectionTestUtils.setField(cache, "maxRooms", 3);
+    }
+
+    @Test
+    void remembersOnlyTheIdAndTimeOfTheSavedMessage() {
+        cache.remember(10L, SENDER, "c-1", 100L, SAVED_AT);
+
+        assertThat(cache.find(10L, SENDER, "c-1"))
+                .isEqualTo(new ChatMessageDedupeCache.Remembered(100L, SAVED_AT));
+        assertThat(cache.find(10L, 2L, "c-1")).isNull();
+        assertThat(cache.find(11L, SENDER, "c-1")).isNull();
+    }
+
+    @Test
+    void windowKeepsTheMostRecentIds() {
+        cache.remember(10L, SENDER, "c-1", 100L, SAVED_AT);
+        cache.remember(10L, SENDER, "c-2", 101L, SAVED_AT);
+        cache.remember(10L, SENDER, "c-3", 102L, SAVED_AT);
+
+        assertThat(cache.find(10L, SENDER, "c-1")).isNull();
+        assertThat(cache.find(10L, SENDER, "c-3")).isNotNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedRoomOverTheRoomCap() throws InterruptedException {
+        for (long roomId = 1; roomId <= 3; roomId++) {
+            cache.remember(roomId, SENDER, "c", roomId, SAVED_AT);
+            Thread.sleep(5);
+        }
+        cache.find(1L, SENDER, "c");   // 1번 방을 최근에 씀
+        Thread.sleep(5);
+
+        cache.remember(4L, SENDER, "c", 4L, SAVED_AT);
+
+        assertThat(cache.roomCount()).isEqualTo(3);
+        assertThat(cache.find(2L, SENDER, "c")).isNull();
+        assertThat(cache.find(1L, SENDER, "c")).isNotNull();
+        assertThat(cache.find(4L, SENDER, "c")).isNotNull();
+    }
+
+    @Test
+    void sweepRemovesIdleRooms() {
+        cache.remember(1L, SENDER, "c", 1L, SAVED_AT);
+        ReflectionTestUtils.setField(cache, "idleTtlMillis", -1L);
+
+        cache.evictIdleRooms();
+
+        assertThat(cache.roomCount()).isZero();
+        assertThat(cache.find(1L, SENDER, "c")).isNull();
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.eum.search;
+
+import com.project.eum.diary.DiaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트랜잭션 밖에서 indexDiary / removeDiary 를 부르면 바로 반영됨 → 스프링 컨텍스트 없이 검사
+ */
+class InMemoryDiarySearchIndexTest {
+
+    private static final Long USER = 1L;
+    private static final Long OTHER_USER = 2L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 5, 1, 0, 0);
+
+    private DiaryRepository diaryRepository;
+    private InMemoryDiarySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository = mock(DiaryRepository.class);
+        index = new InMemoryDiarySearchIndex(diaryRepository);
+    }
+
+    @Test
+    void matchesOnlyDiariesContainingEveryBigram() {
+        index.indexDiary(1L, USER, "물주기", "토마토에 물을 줬다", DAY);
+        index.indexDiary(2L, USER, "수확", "토마스와 마토를 만났다", DAY);   // "토마", "마토" 는 있지만 "토마토" 는 아님
+        index.indexDiary(3L, USER, "가지", "가지가 자랐다", DAY);
+
+        assertThat(ids(index.search(USER, "토마토", null, null, 0, 10))).containsExactly(1L);
+        assertThat(index.search(USER, "토마토 수박", null, null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveContentMatches() {
+        index.indexDiary(1L, USER, "오늘 일기", "상추를 심었다", DAY);
+        index.indexDiary(2L, USER, "상추 심기", "오늘 상추를 심었다", DAY);
+
+        assertThat(ids(index.search(USER, "상추", null, null, 0, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void breaksTiesByNewestSelectAtThenDiaryId() {
+        index.indexDiary(1L, USER, "감자", "감자", DAY);
+        index.indexDiary(2L, USER, "감자", "감자", DAY.plusDays(1));
+        index.indexDiary(3L, USER, "감자", "감자", DAY.plusDays(1));
+
+        assertThat(ids(index.search(USER, "감자", null, null, 0, 10))).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void searchesOnlyTheUsersOwnDiaries() {
+        index.indexDiary(1L, USER, "고추", "고추 모종", DAY);
+        index.indexDiary(2L, OTHER_USER, "고추", "고추 모종", DAY);
+
+        assertThat(ids(index.search(USER, "고추", null, null, 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search(OTHER_USER, "고추", null, null, 0, 10))).containsExactly(2L);
+        assertThat(index.search(3L, "고추", null, null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void filtersBySelectAtRangeWithExclusiveUpperBound() {
+        index.indexDiary(1L, USER, "오이", "오이", DAY);
+        index.indexDiary(2L, USER, "오이", "오이", DAY.plusDays(1));
+        index.indexDiary(3L, USER, "오이", "오이", DAY.plusDays(2));
+        index.indexDiary(4L, USER, "오이", "오이", null);
+
+        assertThat(ids(index.search(USER, "오이", DAY.plusDays(1), DAY.plusDays(2), 0, 10))).containsExactly(2L);
+        assertThat(ids(index.search(USER, "오이", DAY.plusDays(1), null, 0, 10))).containsExactly(3L, 2L);
+        assertThat(ids(index.search(USER, "오이", null, null, 0, 10))).containsExactly(3L, 2L, 1L, 4L);
+    }
+
+    @Test
+    void reindexReplacesAndRemoveDropsTheDiary() {
+        index.indexDiary(1L, USER, "딸기", "딸기 꽃", DAY);
+        index.indexDiary(1L, USER, "블루베리", "블루베리 꽃", DAY);
+
+        assertThat(index.search(USER, "딸기", null, null, 0, 10)).isEmpty();
+        assertThat(ids(index.search(USER, "블루베리", null, null, 0, 10))).containsExactly(1L);
+
+        index.removeDiary(1L);
+        assertThat(index.search(USER, "블루베리", null, null, 0, 10)).isEmpty();
+        index.removeDiary(1L);   // 없는 일기 삭제는 무시
+    }
+
+    @Test
+    void pagesWithOffsetAndLimit() {
+        for (long id = 1; id <= 5; id++) {
+            index.indexDiary(id, USER, "배추", "배추", DAY.plusDays(id));
+        }
+
+        assertThat(ids(index.search(USER, "배추", null, null, 0, 2))).containsExactly(5L, 4L);
+        assertThat(ids(index.search(USER, "배추", null, null, 2, 2))).containsExactly(3L, 2L);
+        assertThat(ids(index.search(USER, "배추", null, null, 4, 2))).containsExactly(1L);
+        assertThat(ids(index.search(USER, "배추", null, null, 0, Integer.MAX_VALUE))).hasSize(5);
+    }
+
+    @Test
+    void rebuildLoadsAllDiariesFromTheRepository() {
+        index.indexDiary(9L, USER, "지울 일기", "양파", DAY);
+        when(diaryRepository.findAllForSearchIndex()).thenReturn(List.of(
+                new IndexedDiary(1L, USER, "양파", "양파 수확", DAY),
+                new IndexedDiary(2L, OTHER_USER, "양파", "양파 수확", DAY)));
+
+        index.rebuild();
+
+        assertThat(ids(index.search(USER, "양파", null, null, 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search(OTHER_USER, "양파", null, null, 0, 10))).containsExactly(2L);
+    }
+
+    private static List<Long> ids(List<DiarySearchHit> hits) {
+        return hits.stream().map(DiarySearchHit::diaryId).toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.eum.service;
+
+import com.project.eum.comments.Comments;
+import com.project.eum.comments.CommentsRepository;
+import com.project.eum.dto.CommentsResponseDto;
+import com.project.eum.farm.Farm;
+import com.project.eum.post.Post;
+import com.project.eum.post.PostRepository;
+import com.project.eum.replies.ReplyRepository;
+import com.project.eum.search.CommunitySearchIndex;
+import com.project.eum.support.MySqlRepositoryTest;
+import com.project.eum.user.Member;
+import com.project.eum.user.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CommentsServiceTest extends MySqlRepositoryTest {
+
+    @Autowired
+    private CommentsRepository commentsRepository;
+    @Autowired
+    private ReplyRepository replyRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private CommentsService commentsService;
+
+    @BeforeEach
+    void setUp() {
+        commentsService = new CommentsService(commentsRepository, replyRepository, postRepository, memberRepository,
+                mock(FarmMembershipAuthorizer.class), mock(CommunitySearchIndex.class),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void commentTreeIsTwoStatementsRegardlessOfSize() {
+        Member owner = persistMember("owner");
+        Farm farm = persistFarm(owner);
+        Post small = persistPost(farm, owner);
+        persistReply(persistComment(small, persistMember("writer")), persistMember("writer"));
+
+        Post large = persistPost(farm, owner);
+        for (int i = 0; i < 30; i++) {
+            Comments comment = persistComment(large, persistMember("writer"));
+            for (int j = 0; j < 3; j++) {
+                persistReply(comment, persistMember("writer"));
+            }
+        }
+
+        List<CommentsResponseDto> smallTree = new ArrayList<>();
+        long smallStatements = countStatements(
+                () -> smallTree.addAll(commentsService.getCommentsByPostId(small.getPostId(), null, null)));
+        List<CommentsResponseDto> largeTree = new ArrayList<>();
+        long largeStatements = countStatements(
+                () -> largeTree.addAll(commentsService.getCommentsByPostId(large.getPostId(), null, null)));
+
+        assertThat(smallTree).singleElement().satisfies(comment -> assertThat(comment.getReplies()).hasSize(1));
+        assertThat(largeTree).hasSize(30).allSatisfy(comment -> {
+            assertThat(comment.getNickname()).isNotNull();
+            assertThat(comment.getReplies()).hasSize(3);
+        });
+        assertThat(smallStatements).isEqualTo(2);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void pagedCommentTreeOnlyLoadsRepliesOfThePage() {
+        Member owner = persistMember("owner");
+        Post post = persistPost(persistFarm(owner), owner);
+        for (int i = 0; i < 25; i++) {
+            persistReply(persistComment(post, owner), owner);
+        }
+
+        List<CommentsResponseDto> page = new ArrayList<>();
+        long statements = countStatements(
+                () -> page.addAll(commentsService.getCommentsByPostId(post.getPostId(), 1, 10)));
+
+        assertThat(page).hasSize(10).allSatisfy(comment -> assertThat(comment.getReplies()).hasSize(1));
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void postWithoutCommentsIsOneStatement() {
+        Member owner = persistMember("owner");
+        Post post = persistPost(persistFarm(owner), owner);
+
+        long statements = countStatements(() -> commentsService.getCommentsByPostId(post.getPostId(), null, null));
+
+        assertThat(statements).isEqualTo(1);
+    }
+}
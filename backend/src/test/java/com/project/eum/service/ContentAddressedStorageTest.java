@@ -0,0 +1,166 @@
+package com.project.eum.service;
+
+import com.project.eum.support.MinioStorageTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내용 주소(shared/) 업로드와 존재 확인 캐시 MinIO 테스트
+ * - 참조 수는 mock 으로 정해 두고 (1 = 새 행, 2 이상 = 이미 참조 중) 업로드 / HEAD 생략 여부를 확인
+ */
+class ContentAddressedStorageTest extends MinioStorageTest {
+
+    private static final Long USER = 1L;
+
+    private ApplicationEventPublisher eventPublisher;
+    private SharedObjectReferenceCounter referenceCounter;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        referenceCounter = mock(SharedObjectReferenceCounter.class);
+    }
+
+    @Test
+    void sameContentIsUploadedOnceUnderItsHash() throws IOException {
+        ObjectStorageService storage = contentAddressedStorage(60_000L);
+        byte[] content = randomBytes(64 * 1024, 1);
+        when(referenceCounter.acquire(anyString())).thenReturn(1, 2);
+
+        String first = storage.uploadDiaryImage(content, "image/jpeg", "a.jpg", USER);
+        String second = storage.uploadDiaryImage(content, "image/jpeg", "b.jpg", 2L);
+
+        String key = storage.keyOf(first);
+        assertThat(second).isEqualTo(first);
+        assertThat(key).matches("shared/[0-9a-f]{2}/[0-9a-f]{64}");
+        assertThat(key.substring("shared/".length(), "shared/".length() + 2))
+                .isEqualTo(key.substring(key.lastIndexOf('/') + 1, key.lastIndexOf('/') + 3));
+        assertThat(read(storage, key)).isEqualTo(content);
+        verify(referenceCounter, times(2)).acquire(key);
+        verify(eventPublisher, times(1)).publishEvent(new ImageUploadedEvent(key));
+    }
+
+    @Test
+    void existingReferenceTrustsCacheButNewRowAlwaysChecks() throws IOException {
+        ObjectStorageService storage = contentAddressedStorage(60_000L);
+        byte[] content = randomBytes(64 * 1024, 2);
+        when(referenceCounter.acquire(anyString())).thenReturn(1);
+        String key = storage.keyOf(storage.uploadDiaryImage(content, "image/jpeg", "a.jpg", USER));
+
+        // 캐시를 모르게 객체를 지우면, 이미 참조 중(2)인 업로드는 캐시를 믿고 올리지 않음
+        s3.deleteObject(builder -> builder.bucket(BUCKET).key(key));
+        when(referenceCounter.acquire(key)).thenReturn(2);
+        storage.uploadDiaryImage(content, "image/jpeg", "b.jpg", USER);
+        assertThat(exists(key)).isFalse();
+
+        // 새 행(1)이면 삭제 직후일 수 있으므로 캐시와 상관없이 HEAD → 다시 올림
+        when(referenceCounter.acquire(key)).thenReturn(1);
+        storage.uploadDiaryImage(content, "image/jpeg", "c.jpg", USER);
+        assertThat(read(storage, key)).isEqualTo(content);
+    }
+
+    @Test
+    void expiredCacheEntryFallsBackToHead() {
+        ObjectStorageService storage = contentAddressedStorage(0L);
+        byte[] content = randomBytes(64 * 1024, 3);
+        when(referenceCounter.acquire(anyString())).thenReturn(1);
+        String key = storage.keyOf(storage.uploadDiaryImage(content, "image/jpeg", "a.jpg", USER));
+
+        s3.deleteObject(builder -> builder.bucket(BUCKET).key(key));
+        when(referenceCounter.acquire(key)).thenReturn(2);
+        storage.uploadDiaryImage(content, "image/jpeg", "b.jpg", USER);
+
+        assertThat(exists(key)).isTrue();
+    }
+
+    @Test
+    void deleteReleasesReferenceAndForgetsCachedObject() {
+        ObjectStorageService storage = contentAddressedStorage(60_000L);
+        byte[] content = randomBytes(64 * 1024, 4);
+        when(referenceCounter.acquire(anyString())).thenReturn(1);
+        String url = storage.uploadDiaryImage(content, "image/jpeg", "a.jpg", USER);
+        String key = storage.keyOf(url);
+        when(referenceCounter.release(eq(key), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        storage.deleteObjectByUrl(url);
+        assertThat(exists(key)).isFalse();
+
+        // 캐시도 지워졌으므로 참조 중(2)이라도 HEAD 로 확인하고 다시 올림
+        when(referenceCounter.acquire(key)).thenReturn(2);
+        storage.uploadDiaryImage(content, "image/jpeg", "b.jpg", USER);
+        assertThat(exists(key)).isTrue();
+    }
+
+    @Test
+    void deleteKeepsObjectWhileOtherReferencesRemain() {
+        ObjectStorageService storage = contentAddressedStorage(60_000L);
+        when(referenceCounter.acquire(anyString())).thenReturn(1);
+        String url = storage.uploadDiaryImage(randomBytes(64 * 1024, 5), "image/jpeg", "a.jpg", USER);
+        String key = storage.keyOf(url);
+        when(referenceCounter.release(eq(key), any())).thenReturn(false);
+
+        storage.deleteObjectByUrl(url);
+
+        verify(referenceCounter).release(eq(key), any());
+        assertThat(exists(key)).isTrue();
+    }
+
+    @Test
+    void addSharedReferenceToMissingObjectIsReleasedAndRejected() {
+        ObjectStorageService storage = contentAddressedStorage(60_000L);
+        String key = "shared/ef/ef" + "0".repeat(62);
+        when(referenceCounter.acquire(key)).thenReturn(1);
+
+        assertThatThrownBy(() -> storage.addSharedReference(key)).isInstanceOf(IllegalArgumentException.class);
+        verify(referenceCounter).release(eq(key), any());
+    }
+
+    @Test
+    void copyOfSharedImageAddsReferenceInsteadOfCopying() {
+        ObjectStorageService storage = contentAddressedStorage(60_000L);
+        when(referenceCounter.acquire(anyString())).thenReturn(1, 2);
+        String url = storage.uploadDiagnosisImageAsync(
+                new MockMultipartFile("image", "crop.jpg", "image/jpeg",
+                        randomBytes(64 * 1024, 6)), USER).join();
+
+        assertThat(storage.copyImage(url, USER, "diary")).isEqualTo(url);
+        verify(referenceCounter, times(2)).acquire(storage.keyOf(url));
+        verify(referenceCounter, never()).release(anyString(), any());
+    }
+
+    private ObjectStorageService contentAddressedStorage(long existsCacheTtlMillis) {
+        return newStorage(8, 5, 64, true, existsCacheTtlMillis, eventPublisher, referenceCounter);
+    }
+
+    private static byte[] read(ObjectStorageService storage, String key) throws IOException {
+        try (InputStream in = storage.openObject(key)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
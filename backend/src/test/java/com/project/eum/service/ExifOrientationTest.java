@@ -0,0 +1,130 @@
+package com.project.eum.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifOrientationTest {
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+
+    @Test
+    void readsOrientationInBothByteOrders() {
+        assertThat(ExifOrientation.fromExif(exif(6, true))).isEqualTo(6);
+        assertThat(ExifOrientation.fromExif(exif(8, false))).isEqualTo(8);
+    }
+
+    @Test
+    void missingOrBrokenExifIsNormal() {
+        assertThat(ExifOrientation.fromExif(new byte[0])).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(ExifOrientation.fromExif("Exif\0\0XX\0*\0\0\0\u0008".getBytes())).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(ExifOrientation.fromExif(exif(9, true))).isEqualTo(ExifOrientation.NORMAL);
+    }
+
+    @Test
+    void readsOrientationFromJpegMetadata() throws Exception {
+        byte[] jpeg = jpegWithExif(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), exif(6, false));
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(jpeg))) {
+            ImageReader reader = ImageIO.getImageReaders(input).next();
+            try {
+                reader.setInput(input, true, false);
+                assertThat(ExifOrientation.of(reader.getImageMetadata(0))).isEqualTo(6);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @Test
+    void rotatesClockwiseForOrientationSix() {
+        // 가로 3 x 세로 2, 왼쪽 위 픽셀만 표시
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000);
+
+        BufferedImage rotated = ExifOrientation.apply(source, 6);
+
+        assertThat(rotated.getWidth()).isEqualTo(2);
+        assertThat(rotated.getHeight()).isEqualTo(3);
+        // 시계 방향 90° → 왼쪽 위가 오른쪽 위로
+        assertThat(rotated.getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(rotated.getRGB(0, 0) & 0xFFFFFF).isZero();
+    }
+
+    @Test
+    void mirrorsAndTurnsForTheOtherOrientations() {
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000);
+
+        assertThat(ExifOrientation.apply(source, ExifOrientation.NORMAL)).isSameAs(source);
+        assertThat(ExifOrientation.apply(source, 2).getRGB(2, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ExifOrientation.apply(source, 3).getRGB(2, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ExifOrientation.apply(source, 4).getRGB(0, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ExifOrientation.apply(source, 5).getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ExifOrientation.apply(source, 7).getRGB(1, 2) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ExifOrientation.apply(source, 8).getRGB(0, 2) & 0xFFFFFF).isEqualTo(0xFF0000);
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + 항목 1개(Orientation)짜리 IFD0
+    private static byte[] exif(int orientation, boolean littleEndian) {
+        byte[] data = new byte[6 + 8 + 2 + 12 + 4];
+        System.arraycopy("Exif\0\0".getBytes(), 0, data, 0, 6);
+        int tiff = 6;
+        data[tiff] = data[tiff + 1] = (byte) (littleEndian ? 'I' : 'M');
+        putShort(data, tiff + 2, 42, littleEndian);
+        putInt(data, tiff + 4, 8, littleEndian);         // IFD0 오프셋
+        putShort(data, tiff + 8, 1, littleEndian);       // 항목 수
+        int entry = tiff + 10;
+        putShort(data, entry, 0x0112, littleEndian);
+        putShort(data, entry + 2, 3, littleEndian);      // SHORT
+        putInt(data, entry + 4, 1, littleEndian);        // 값 개수
+        putShort(data, entry + 8, orientation, littleEndian);
+        return data;
+    }
+
+    private static void putShort(byte[] data, int offset, int value, boolean littleEndian) {
+        byte high = (byte) (value >> 8);
+        byte low = (byte) value;
+        data[offset] = littleEndian ? low : high;
+        data[offset + 1] = littleEndian ? high : low;
+    }
+
+    private static void putInt(byte[] data, int offset, int value, boolean littleEndian) {
+        putShort(data, littleEndian ? offset : offset + 2, value & 0xFFFF, littleEndian);
+        putShort(data, littleEndian ? offset + 2 : offset, value >>> 16, littleEndian);
+    }
+
+    // APP1(Exif) 세그먼트를 넣은 JPEG
+    private static byte[] jpegWithExif(BufferedImage image, byte[] exif) throws Exception {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), null);
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+            IIOMetadataNode app1 = new IIOMetadataNode("unknown");
+            app1.setAttribute("MarkerTag", "225");
+            app1.setUserObject(exif);
+            IIOMetadataNode markers = (IIOMetadataNode) root.getElementsByTagName("markerSequence").item(0);
+            markers.insertBefore(app1, markers.getFirstChild());
+            metadata.setFromTree(JPEG_METADATA_FORMAT, root);
+            writer.write(new IIOImage(image, null, metadata));
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.eum.service;
+
+import com.project.eum.support.MinioStorageTest;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 서버 경유 업로드 (단일 PUT / 멀티파트, 동시 전송 제한) MinIO 테스트
+ * - 업로드한 내용을 다시 읽어 그대로인지 확인하고, 동시 업로드 처리량(MB/s)을 로그로 남김
+ */
+class ObjectStorageUploadThroughputTest extends MinioStorageTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ObjectStorageUploadThroughputTest.class);
+
+    private static final int MB = 1024 * 1024;
+    private static final Long USER = 1L;
+
+    @Test
+    void smallImageIsUploadedWithSinglePut() throws IOException {
+        ObjectStorageService storage = newStorage(mock(ApplicationEventPublisher.class));
+        byte[] content = randomBytes(MB);
+
+        String url = storage.uploadDiaryImage(content, "image/jpeg", "small.jpg", USER);
+
+        String key = storage.keyOf(url);
+        assertThat(read(storage, key)).isEqualTo(content);
+        assertThat(eTag(key)).doesNotContain("-");
+    }
+
+    @Test
+    void imageOverThresholdIsUploadedInParts() throws IOException {
+        // 업로드 한도(10MB) 안쪽, threshold(8MB) 이상 → 5MB 파트 2개
+        ObjectStorageService storage = newStorage(mock(ApplicationEventPublisher.class));
+        byte[] content = randomBytes(9 * MB + 123);
+
+        String url = storage.uploadDiaryImage(content, "image/jpeg", "large.jpg", USER);
+
+        String key = storage.keyOf(url);
+        assertThat(read(storage, key)).isEqualTo(content);
+        assertThat(eTag(key)).endsWith("-2\"");
+    }
+
+    @Test
+    void concurrentUploadsFinishWithinInFlightLimit() throws IOException {
+        // 전송 중 바이트를 파트 하나(5MB)로 묶어도 막히지 않고 모두 끝나야 함
+        ObjectStorageService storage = newStorage(8, 5, 5, false, 3_600_000L,
+                mock(ApplicationEventPublisher.class), mock(SharedObjectReferenceCounter.class));
+        List<byte[]> contents = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            contents.add(randomBytes(i % 2 == 0 ? 9 * MB : 2 * MB));
+        }
+        long totalBytes = contents.stream().mapToLong(content -> content.length).sum();
+
+        long started = System.nanoTime();
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        for (int i = 0; i < contents.size(); i++) {
+            uploads.add(storage.uploadDiagnosisImageAsync(
+                    new MockMultipartFile("image", "crop" + i + ".jpg", "image/jpeg", contents.get(i)), USER));
+        }
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Uploaded {} files, {} MB in {} s ({} MB/s)", contents.size(), totalBytes / MB,
+                String.format("%.2f", seconds), String.format("%.1f", totalBytes / (double) MB / seconds));
+
+        for (int i = 0; i < contents.size(); i++) {
+            assertThat(read(storage, storage.keyOf(uploads.get(i).join()))).isEqualTo(contents.get(i));
+        }
+    }
+
+    private static byte[] read(ObjectStorageService storage, String key) throws IOException {
+        try (InputStream in = storage.openObject(key)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String eTag(String key) {
+        return s3.headObject(builder -> builder.bucket(BUCKET).key(key)).eTag();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.eum.service;
+
+import com.project.eum.comments.Comments;
+import com.project.eum.comments.CommentsRepository;
+import com.project.eum.farm.FarmRepository;
+import com.project.eum.post.Post;
+import com.project.eum.post.PostRepository;
+import com.project.eum.replies.ReplyRepository;
+import com.project.eum.search.CommunitySearchIndex;
+import com.project.eum.support.MySqlRepositoryTest;
+import com.project.eum.user.Member;
+import com.project.eum.user.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PostServiceTest extends MySqlRepositoryTest {
+
+    private static final int COMMENTS = 3000;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentsRepository commentsRepository;
+    @Autowired
+    private ReplyRepository replyRepository;
+    @Autowired
+    private FarmRepository farmRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final ObjectStorageService objectStorageService = mock(ObjectStorageService.class);
+
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        postService = new PostService(postRepository, commentsRepository, replyRepository, farmRepository,
+                memberRepository, objectStorageService, mock(UploadService.class),
+                mock(FarmMembershipAuthorizer.class), mock(CommunitySearchIndex.class),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void deletingPostWithThousandsOfCommentsUsesBulkStatements() {
+        Member author = persistMember("author");
+        Post post = persistPost(persistFarm(author), author);
+        post.setPhotoUrl("https://storage.test/bucket/community/1/photo.png");
+        Post other = persistPost(post.getFarm(), author);
+        persistReply(persistComment(other, author), author);
+        for (int i = 0; i < COMMENTS; i++) {
+            Comments comment = persistComment(post, author);
+            if (i % 3 == 0) {
+                persistReply(comment, author);
+            }
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+                post = em.getReference(Post.class, post.getPostId());
+                author = em.getReference(Member.class, author.getUserId());
+            }
+        }
+        Long postId = post.getPostId();
+        Long authorId = author.getUserId();
+
+        // 게시글 조회 1 + 답글/댓글/게시글 일괄 삭제 3 (댓글 수와 무관)
+        long statements = countStatements(() -> postService.deletePost(postId, authorId));
+
+        assertThat(statements).isEqualTo(4);
+        assertThat(count("select count(c) from Comments c where c.post.postId = :postId", postId)).isZero();
+        assertThat(count("select count(r) from Reply r where r.comment.post.postId = :postId", postId)).isZero();
+        assertThat(count("select count(p) from Post p where p.postId = :postId", postId)).isZero();
+        // 다른 게시글의 댓글/답글은 그대로
+        assertThat(count("select count(r) from Reply r where r.comment.post.postId = :postId", other.getPostId()))
+                .isEqualTo(1);
+        verify(objectStorageService).deleteObjectByUrlAsync("https://storage.test/bucket/community/1/photo.png");
+    }
+
+    private long count(String jpql, Long postId) {
+        return em.createQuery(jpql, Long.class)
+                .setParameter("postId", postId)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.eum.service;
+
+import com.project.eum.storage.SharedObjectRepository;
+import com.project.eum.support.MySqlRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 객체 참조 수 (shared_objects upsert / 잠금 후 해제)
+ * - 테스트 트랜잭션 안에서 직접 호출 (REQUIRES_NEW 는 스프링 프록시에서만 적용됨)
+ */
+class SharedObjectReferenceCounterTest extends MySqlRepositoryTest {
+
+    private static final String KEY = "shared/ab/ab00";
+
+    @Autowired
+    private SharedObjectRepository sharedObjectRepository;
+
+    private SharedObjectReferenceCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SharedObjectReferenceCounter(sharedObjectRepository);
+    }
+
+    @Test
+    void acquireCreatesRowThenIncrements() {
+        assertThat(counter.acquire(KEY)).isEqualTo(1);
+        assertThat(counter.acquire(KEY)).isEqualTo(2);
+        assertThat(counter.acquire(KEY)).isEqualTo(3);
+        assertThat(counter.acquire("shared/cd/cd00")).isEqualTo(1);
+    }
+
+    @Test
+    void releaseDeletesObjectAndRowOnlyAtLastReference() {
+        AtomicInteger deletes = new AtomicInteger();
+        counter.acquire(KEY);
+        counter.acquire(KEY);
+        em.clear();
+
+        assertThat(counter.release(KEY, deletes::incrementAndGet)).isFalse();
+        em.flush();
+        assertThat(sharedObjectRepository.findRefCount(KEY)).contains(1);
+        assertThat(deletes).hasValue(0);
+
+        assertThat(counter.release(KEY, deletes::incrementAndGet)).isTrue();
+        em.flush();
+        assertThat(sharedObjectRepository.findRefCount(KEY)).isEmpty();
+        assertThat(deletes).hasValue(1);
+    }
+
+    @Test
+    void acquireAfterLastReleaseStartsAgainFromOne() {
+        counter.acquire(KEY);
+        em.clear();
+        counter.release(KEY, () -> { });
+        em.flush();
+        em.clear();
+
+        assertThat(counter.acquire(KEY)).isEqualTo(1);
+    }
+
+    @Test
+    void releaseWithoutRowIsIgnored() {
+        AtomicInteger deletes = new AtomicInteger();
+
+        assertThat(counter.release(KEY, deletes::incrementAndGet)).isFalse();
+        assertThat(deletes).hasValue(0);
+    }
+}
@@ -0,0 +1,178 @@
+package com.project.eum.service;
+
+import com.project.eum.diary.DiaryRepository;
+import com.project.eum.dto.UploadConfirmResponse;
+import com.project.eum.dto.UploadPresignRequest;
+import com.project.eum.dto.UploadPresignResponse;
+import com.project.eum.post.PostRepository;
+import com.project.eum.support.MinioStorageTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직접 업로드 (Presigned PUT → HEAD 확인 → 일기/게시글에 붙이기) MinIO 테스트
+ */
+class UploadServiceTest extends MinioStorageTest {
+
+    private static final Long USER = 1L;
+    private static final Long OTHER_USER = 2L;
+    private static final byte[] IMAGE = new byte[32 * 1024];
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    private ApplicationEventPublisher eventPublisher;
+    private DiaryRepository diaryRepository;
+    private PostRepository postRepository;
+    private SharedObjectReferenceCounter referenceCounter;
+    private ObjectStorageService storage;
+    private UploadService uploadService;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        diaryRepository = mock(DiaryRepository.class);
+        postRepository = mock(PostRepository.class);
+        referenceCounter = mock(SharedObjectReferenceCounter.class);
+        storage = newStorage(8, 5, 64, false, 3_600_000L, eventPublisher, referenceCounter);
+        uploadService = new UploadService(storage, diaryRepository, postRepository);
+        ReflectionTestUtils.setField(uploadService, "presignTtlSeconds", 300L);
+    }
+
+    @Test
+    void presignedUploadIsConfirmedAndAttached() throws Exception {
+        UploadPresignResponse presigned = upload(USER, "diary", "photo.png", "image/png", IMAGE);
+
+        assertThat(presigned.key()).startsWith("diary/" + USER + "/").endsWith("_photo.png");
+        UploadConfirmResponse confirmed = uploadService.confirm(USER, presigned.key());
+        assertThat(confirmed.contentType()).isEqualTo("image/png");
+        assertThat(confirmed.contentLength()).isEqualTo(IMAGE.length);
+        assertThat(confirmed.url()).isEqualTo(presigned.url());
+
+        String attached = uploadService.requireUploadedUrl(USER, UploadCategory.DIARY, presigned.url());
+        assertThat(attached).isEqualTo(presigned.url());
+        verify(eventPublisher).publishEvent(new ImageUploadedEvent(presigned.key()));
+    }
+
+    @Test
+    void rejectsUploadAlreadyAttachedToAnotherDiary() throws Exception {
+        UploadPresignResponse presigned = upload(USER, "diary", "photo.jpg", "image/jpeg", IMAGE);
+        when(diaryRepository.existsByUserIdAndPhotoUrl(USER, presigned.url())).thenReturn(true);
+
+        assertThatThrownBy(() -> uploadService.requireUploadedUrl(USER, UploadCategory.DIARY, presigned.url()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(exists(presigned.key())).isTrue();
+    }
+
+    @Test
+    void rejectsUploadAlreadyAttachedToAnotherPost() throws Exception {
+        UploadPresignResponse presigned = upload(USER, "community", "photo.jpg", "image/jpeg", IMAGE);
+        when(postRepository.existsByAuthorUserIdAndPhotoUrl(USER, presigned.url())).thenReturn(true);
+
+        assertThatThrownBy(() -> uploadService.requireUploadedUrl(USER, UploadCategory.COMMUNITY, presigned.url()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsOtherUsersAndOtherCategoryUploads() throws Exception {
+        UploadPresignResponse presigned = upload(USER, "diary", "photo.jpg", "image/jpeg", IMAGE);
+
+        assertThatThrownBy(() -> uploadService.requireUploadedUrl(OTHER_USER, UploadCategory.DIARY, presigned.url()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> uploadService.requireUploadedUrl(USER, UploadCategory.COMMUNITY, presigned.url()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> uploadService.confirm(OTHER_USER, presigned.key()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sharedImageIsReusedOnlyWhenTheUserAlreadyAttachedIt() {
+        String url = putShared("ab", IMAGE, "image/jpeg");
+        when(referenceCounter.acquire(storage.keyOf(url))).thenReturn(2);
+
+        assertThatThrownBy(() -> uploadService.requireUploadedUrl(USER, UploadCategory.DIARY, url))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(referenceCounter, never()).acquire(storage.keyOf(url));
+
+        when(diaryRepository.existsByUserIdAndPhotoUrl(USER, url)).thenReturn(true);
+        assertThat(uploadService.requireUploadedUrl(USER, UploadCategory.DIARY, url)).isEqualTo(url);
+        verify(referenceCounter).acquire(storage.keyOf(url));
+    }
+
+    @Test
+    void sharedImageStillFollowsCategoryPolicy() {
+        // 게시글(5MB 까지)에 쓰던 2MB 이미지는 일기(1MB 까지)에 붙일 수 없음, 공유 객체는 지우지 않음
+        String url = putShared("cd", new byte[2 * 1024 * 1024], "image/jpeg");
+        when(diaryRepository.existsByUserIdAndPhotoUrl(USER, url)).thenReturn(true);
+
+        assertThatThrownBy(() -> uploadService.requireUploadedUrl(USER, UploadCategory.DIARY, url))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(referenceCounter, never()).acquire(storage.keyOf(url));
+        assertThat(exists(storage.keyOf(url))).isTrue();
+    }
+
+    @Test
+    void urlOutsideTheBucketIsLeftToTheCaller() {
+        assertThat(uploadService.requireUploadedUrl(USER, UploadCategory.DIARY, "https://example.com/a.jpg")).isNull();
+    }
+
+    @Test
+    void rejectsPresignOutsidePolicy() {
+        assertThatThrownBy(() -> uploadService.presign(USER,
+                new UploadPresignRequest("diary", "a.txt", "text/plain", 10L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> uploadService.presign(USER,
+                new UploadPresignRequest("diary", "a.jpg", "image/jpeg", 2L * 1024 * 1024)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void confirmDeletesObjectThatBreaksPolicy() throws InterruptedException {
+        String key = ObjectStorageService.newKey("diary", USER, "note.txt");
+        storage.putObject(key, "not an image".getBytes(), "text/plain");
+
+        assertThatThrownBy(() -> uploadService.confirm(USER, key)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(deletedWithin(key, 10_000)).isTrue();   // 삭제는 삭제 실행기에서 비동기
+    }
+
+    @Test
+    void confirmFailsWhenNothingWasUploaded() {
+        String key = ObjectStorageService.newKey("diary", USER, "missing.jpg");
+
+        assertThatThrownBy(() -> uploadService.confirm(USER, key)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 내용 주소 키로 직접 저장 (shared/{앞 2자}/{해시})
+    private String putShared(String prefix, byte[] content, String contentType) {
+        String key = "shared/" + prefix + "/" + prefix + "0".repeat(62);
+        storage.putObject(key, content, contentType);
+        return storage.publicUrlPrefix() + key;
+    }
+
+    // 발급받은 URL 로 브라우저처럼 직접 PUT
+    private UploadPresignResponse upload(Long userId, String category, String filename, String contentType,
+                                         byte[] content) throws IOException, InterruptedException {
+        UploadPresignResponse presigned = uploadService.presign(userId,
+                new UploadPresignRequest(category, filename, contentType, (long) content.length));
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(presigned.uploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content));
+        presigned.headers().forEach(request::header);
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        return presigned;
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.eum.support;
+
+import com.project.eum.service.ImageVariantRegistry;
+import com.project.eum.service.ObjectStorageService;
+import com.project.eum.service.SharedObjectReferenceCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.context.ApplicationEventPublisher;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * MinIO(Testcontainers) 위에서 도는 Object Storage 테스트 공통 설정
+ *
+ * - ObjectStorageService 를 스프링 없이 MinIO 로 직접 생성 (path-style)
+ * - 버킷은 한 번만 만들고, 테스트마다 만든 서비스는 끝나면 닫음
+ * - Docker 가 없으면 테스트를 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MinioStorageTest {
+
+    protected static final String BUCKET = "eum-test";
+    protected static final String REGION = "us-east-1";
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    protected static S3Client s3;
+
+    private final List<ObjectStorageService> storages = new ArrayList<>();
+
+    // 컨테이너는 테스트 클래스마다 새로 뜨므로 버킷도 클래스마다 만듦
+    @BeforeAll
+    static void createBucket() {
+        s3 = S3Client.builder()
+                .endpointOverride(URI.create(MINIO.getS3URL()))
+                .region(Region.of(REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword())))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        s3.createBucket(builder -> builder.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void closeClient() {
+        s3.close();
+    }
+
+    @AfterEach
+    void closeStorages() throws InterruptedException {
+        for (ObjectStorageService storage : storages) {
+            storage.shutdown();
+        }
+        storages.clear();
+    }
+
+    /**
+     * 기본 설정(내용 주소 꺼짐)의 ObjectStorageService
+     */
+    protected ObjectStorageService newStorage(ApplicationEventPublisher eventPublisher) {
+        return newStorage(8, 5, 64, false, 3_600_000L, eventPublisher, mock(SharedObjectReferenceCounter.class));
+    }
+
+    protected ObjectStorageService newStorage(int multipartThresholdMb, int partSizeMb, int maxInFlightMb,
+                                              boolean contentAddressed, long existsCacheTtlMillis,
+                                              ApplicationEventPublisher eventPublisher,
+                                              SharedObjectReferenceCounter referenceCounter) {
+        ObjectStorageService storage = new ObjectStorageService(
+                MINIO.getS3URL(), REGION, MINIO.getUserName(), MINIO.getPassword(), BUCKET, true,
+                multipartThresholdMb, partSizeMb, maxInFlightMb,
+                contentAddressed, existsCacheTtlMillis, 10_000,
+                eventPublisher, referenceCounter, mock(ImageVariantRegistry.class));
+        storages.add(storage);
+        return storage;
+    }
+
+    // 비동기 삭제 대기
+    protected static boolean deletedWithin(String key, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (exists(key)) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(100);
+        }
+        return true;
+    }
+
+    protected static boolean exists(String key) {
+        try {
+            s3.headObject(builder -> builder.bucket(BUCKET).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.eum.support;
+
+import com.project.eum.comments.Comments;
+import com.project.eum.farm.Farm;
+import com.project.eum.post.Post;
+import com.project.eum.replies.Reply;
+import com.project.eum.user.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MySQL(Testcontainers) 위에서 도는 리포지토리/쿼리 테스트 공통 설정
+ *
+ * - 네이티브 쿼리(UNION, ON DUPLICATE KEY 등)가 있어 H2 대신 실제 MySQL 사용
+ * - 스키마는 엔티티로 생성 (create-drop), Docker 가 없으면 테스트를 건너뜀
+ * - Hibernate 통계로 실행된 SQL 문 수를 셈 (countStatements)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    protected EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 영속성 컨텍스트를 비운 뒤 action 이 실행한 SQL 문 수
+     */
+    protected long countStatements(Runnable action) {
+        em.flush();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    protected Member persistMember(String name) {
+        int n = SEQUENCE.incrementAndGet();
+        Member member = Member.builder()
+                .email(name + n + "@test.local")
+                .passwordHash("x")
+                .nickname(name + n)
+                .name(name)
+                .phone("010-0000-0000")
+                .build();
+        em.persist(member);
+        return member;
+    }
+
+    protected Farm persistFarm(Member owner) {
+        Farm farm = Farm.builder()
+                .owner(owner)
+                .name(owner.getName() + " 농장")
+                .city("서울")
+                .address("서울시")
+                .latitude(new BigDecimal("37.5"))
+                .longitude(new BigDecimal("127.0"))
+                .build();
+        em.persist(farm);
+        return farm;
+    }
+
+    protected Post persistPost(Farm farm, Member author) {
+        Post post = Post.builder()
+                .title("제목")
+                .content("내용")
+                .author(author)
+                .farm(farm)
+                .build();
+        em.persist(post);
+        return post;
+    }
+
+    protected Comments persistComment(Post post, Member author) {
+        Comments comment = Comments.builder()
+                .post(post)
+                .author(author)
+                .content("댓글")
+                .build();
+        em.persist(comment);
+        return comment;
+    }
+
+    protected Reply persistReply(Comments comment, Member author) {
+        Reply reply = Reply.builder()
+                .comment(comment)
+                .author(author)
+                .content("답글")
+                .build();
+        em.persist(reply);
+        return reply;
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.eum.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingBoardTest {
+
+    private static final double LOG_TWO = 1.0;   // log2(2)
+
+    @Test
+    void logAddIsLogOfTheSum() {
+        assertThat(TrendingBoard.logAdd(0, 0)).isCloseTo(1.0, within(1e-12));        // 1 + 1 = 2
+        assertThat(TrendingBoard.logAdd(1, 0)).isCloseTo(log2(3), within(1e-12));    // 2 + 1 = 3
+        assertThat(TrendingBoard.logAdd(3, 3)).isCloseTo(4.0, within(1e-12));        // 8 + 8 = 16
+        assertThat(TrendingBoard.logAdd(0, 1)).isEqualTo(TrendingBoard.logAdd(1, 0));
+    }
+
+    @Test
+    void logAddDoesNotOverflowForLargeExponents() {
+        // 2^5000 은 double 로 표현할 수 없음 → 직접 더하면 Infinity
+        assertThat(TrendingBoard.logAdd(5000, 5000)).isCloseTo(5001, within(1e-9));
+        assertThat(TrendingBoard.logAdd(5000, 0)).isCloseTo(5000, within(1e-9));
+    }
+
+    @Test
+    void olderEventCountsHalfPerHalfLife() {
+        TrendingBoard board = new TrendingBoard();
+        board.add(1L, 0, 10);              // 시각 0 에 1점
+        board.add(2L, 1, 10);              // 한 반감기 뒤에 1점 → 1번 글의 두 배
+
+        List<TrendingBoard.Ranked> top = board.top(10);
+
+        assertThat(top).extracting(TrendingBoard.Ranked::postId).containsExactly(2L, 1L);
+        assertThat(top.get(0).logScore() - top.get(1).logScore()).isCloseTo(1.0, within(1e-12));
+    }
+
+    @Test
+    void addAccumulatesScoresOfTheSamePost() {
+        TrendingBoard board = new TrendingBoard();
+        board.add(1L, 0, 10);
+        board.add(1L, LOG_TWO, 10);        // 1 + 2 = 3
+
+        assertThat(board.top(1)).singleElement()
+                .satisfies(ranked -> assertThat(ranked.logScore()).isCloseTo(log2(3), within(1e-12)));
+    }
+
+    @Test
+    void tiesAreBrokenByNewestPost() {
+        TrendingBoard board = new TrendingBoard();
+        board.add(1L, 0, 10);
+        board.add(2L, 0, 10);
+
+        assertThat(board.top(10)).extracting(TrendingBoard.Ranked::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void capDropsTheLowestPosts() {
+        TrendingBoard board = new TrendingBoard();
+        board.add(1L, 3, 2);
+        board.add(2L, 1, 2);
+        board.add(3L, 2, 2);
+
+        assertThat(board.top(10)).extracting(TrendingBoard.Ranked::postId).containsExactly(1L, 3L);
+        assertThat(board.drainIfDirty()).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    void pruneRemovesOnlyPostsBelowTheMinimum() {
+        TrendingBoard board = new TrendingBoard();
+        board.add(1L, 5, 10);
+        board.add(2L, 1, 10);
+        board.add(3L, -2, 10);
+        board.drainIfDirty();
+
+        board.prune(0);
+
+        assertThat(board.top(10)).extracting(TrendingBoard.Ranked::postId).containsExactly(1L, 2L);
+        assertThat(board.drainIfDirty()).containsOnlyKeys(1L, 2L);
+
+        board.prune(0);
+        assertThat(board.drainIfDirty()).isNull();   // 지운 것이 없으면 변경 아님
+    }
+
+    @Test
+    void restoreIsNotAChangeButLaterEventsAre() {
+        TrendingBoard board = new TrendingBoard();
+        board.restore(1L, 2.5);
+        board.restore(2L, 4.0);
+
+        assertThat(board.drainIfDirty()).isNull();
+        assertThat(board.version()).isZero();
+        assertThat(board.top(10)).extracting(TrendingBoard.Ranked::postId).containsExactly(2L, 1L);
+
+        board.remove(2L);
+        assertThat(board.version()).isEqualTo(1);
+        Map<Long, Double> snapshot = board.drainIfDirty();
+        assertThat(snapshot).containsOnlyKeys(1L);
+        assertThat(snapshot.get(1L)).isEqualTo(2.5);
+    }
+
+    @Test
+    void markDirtyResavesAfterAFailedSnapshot() {
+        TrendingBoard board = new TrendingBoard();
+        board.add(1L, 0, 10);
+        assertThat(board.drainIfDirty()).isNotNull();
+        assertThat(board.drainIfDirty()).isNull();
+
+        board.markDirty();
+
+        assertThat(board.drainIfDirty()).containsOnlyKeys(1L);
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
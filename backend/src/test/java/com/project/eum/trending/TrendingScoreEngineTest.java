@@ -0,0 +1,135 @@
+package com.project.eum.trending;
+
+import com.project.eum.post.BoardChangeType;
+import com.project.eum.post.BoardChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendingScoreEngineTest {
+
+    private static final double HALF_LIFE_HOURS = 12;
+    private static final Long FARM = 1L;
+    private static final Long OTHER_FARM = 2L;
+
+    private PostTrendingScoreRepository repository;
+    private TrendingScoreEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PostTrendingScoreRepository.class);
+        engine = new TrendingScoreEngine(repository);
+        ReflectionTestUtils.setField(engine, "halfLifeHours", HALF_LIFE_HOURS);
+        ReflectionTestUtils.setField(engine, "maxPostsPerFarm", 3);
+    }
+
+    @Test
+    void weightsPostsCommentsAndReplies() {
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, 10L));
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, 20L));
+        engine.onBoardChanged(BoardChangedEvent.comment(FARM, BoardChangeType.COMMENT_CREATED, 20L, 1L));
+        engine.onBoardChanged(BoardChangedEvent.reply(FARM, BoardChangeType.REPLY_CREATED, 20L, 1L, 1L));
+        // 수정은 점수 없음
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_UPDATED, 10L));
+
+        List<TrendingEntry> top = engine.top(FARM, 10);
+
+        assertThat(top).extracting(TrendingEntry::postId).containsExactly(20L, 10L);
+        assertThat(top.get(0).score()).isCloseTo(4.0, within(1e-3));   // 글 1 + 댓글 2 + 답글 1
+        assertThat(top.get(1).score()).isCloseTo(1.0, within(1e-3));
+    }
+
+    @Test
+    void restoredScoresDecayByHalfPerHalfLife() {
+        double now = nowInHalfLives();
+        when(repository.findAll()).thenReturn(List.of(
+                score(10L, FARM, now - 1),         // 한 반감기 전에 1점 → 0.5
+                score(20L, FARM, now - 2 + 3),     // 두 반감기 전에 8점 → 2
+                score(30L, OTHER_FARM, now)));
+
+        engine.restore();
+
+        List<TrendingEntry> top = engine.top(FARM, 10);
+        assertThat(top).extracting(TrendingEntry::postId).containsExactly(20L, 10L);
+        assertThat(top.get(0).score()).isCloseTo(2.0, within(1e-3));
+        assertThat(top.get(1).score()).isCloseTo(0.5, within(1e-3));
+        assertThat(engine.top(OTHER_FARM, 10)).extracting(TrendingEntry::postId).containsExactly(30L);
+        assertThat(engine.version(FARM)).isZero();
+    }
+
+    @Test
+    void keepsAtMostMaxPostsPerFarm() {
+        for (long postId = 1; postId <= 5; postId++) {
+            engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, postId));
+        }
+        engine.onBoardChanged(BoardChangedEvent.comment(FARM, BoardChangeType.COMMENT_CREATED, 5L, 1L));
+
+        assertThat(engine.top(FARM, 10)).hasSize(3);
+        assertThat(engine.top(FARM, 1)).extracting(TrendingEntry::postId).containsExactly(5L);
+    }
+
+    @Test
+    void deletedPostLeavesTheRanking() {
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, 10L));
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, 20L));
+        long version = engine.version(FARM);
+
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_DELETED, 10L));
+
+        assertThat(engine.top(FARM, 10)).extracting(TrendingEntry::postId).containsExactly(20L);
+        assertThat(engine.version(FARM)).isGreaterThan(version);
+    }
+
+    @Test
+    void snapshotSavesOnlyChangedFarmsAndPrunesDecayedPosts() {
+        double now = nowInHalfLives();
+        when(repository.findAll()).thenReturn(List.of(
+                score(10L, FARM, now - 10),        // 1/1024 점 → 최소 점수 아래
+                score(30L, OTHER_FARM, now)));
+        engine.restore();
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, 20L));
+
+        engine.snapshot();
+
+        verify(repository).deleteByFarmId(FARM);
+        verify(repository).insertScore(eq(20L), eq(FARM), anyDouble(), any(LocalDateTime.class));
+        verify(repository, never()).insertScore(eq(10L), anyLong(), anyDouble(), any(LocalDateTime.class));
+        verify(repository, never()).deleteByFarmId(OTHER_FARM);
+        assertThat(engine.top(FARM, 10)).extracting(TrendingEntry::postId).containsExactly(20L);
+    }
+
+    @Test
+    void failedSnapshotIsRetriedOnTheNextRun() {
+        engine.onBoardChanged(BoardChangedEvent.post(FARM, BoardChangeType.POST_CREATED, 20L));
+        when(repository.deleteByFarmId(FARM)).thenThrow(new IllegalStateException("db down")).thenReturn(0);
+
+        assertThatThrownBy(engine::snapshot).isInstanceOf(IllegalStateException.class);
+        // 롤백 → 다음 주기에 다시 저장
+        engine.snapshot();
+
+        verify(repository).insertScore(eq(20L), eq(FARM), anyDouble(), any(LocalDateTime.class));
+    }
+
+    private static PostTrendingScore score(Long postId, Long farmId, double logScore) {
+        return new PostTrendingScore(postId, farmId, logScore, LocalDateTime.now());
+    }
+
+    private static double nowInHalfLives() {
+        return System.currentTimeMillis() / (HALF_LIFE_HOURS * 3_600_000.0);
+    }
+}
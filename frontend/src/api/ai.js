@@ -103,6 +103,23 @@ export async function shareDiagnosisToDiary(diagnosisId) {
   }
 }
 
+// 📝 여러 진단 결과를 한 재배일기로 공유 (이미 공유한 진단이면 같은 일기 반환)
+export async function shareDiagnosesToDiary(diagnosisIds, { title, date } = {}) {
+  const res = await fetch(`${API_BASE}/api/ai/diagnosis/share-to-diary`, {
+    method: "POST",
+    headers: { "Content-Type": "application/json" },
+    credentials: "include",
+    body: JSON.stringify({ diagnosisIds, title: title || null, date: date || null }),
+  });
+  if (res.status === 409) {
+    throw new Error("이미 다른 재배일기에 공유된 진단 결과가 있습니다.");
+  }
+  if (!res.ok) {
+    throw new Error("재배일기 공유에 실패했습니다.");
+  }
+  return res.json();
+}
+
 // 🌾 3️⃣ 작물 진단 요청
 export async function diagnoseCrop(formData) {
   try {
@@ -60,13 +60,21 @@ export async function fetchChatMessages(roomId) {
   return handleResponse(res, "채팅 메시지를 불러오지 못했습니다.");
 }
 
-// 특정 채팅방에 메시지 전송
-export async function sendChatMessage(roomId, content) {
+// 재전송 중복 방지용 클라이언트 메시지 ID 생성
+export function createClientMessageId() {
+  if (typeof crypto !== "undefined" && crypto.randomUUID) {
+    return crypto.randomUUID();
+  }
+  return `${Date.now()}-${Math.random().toString(36).slice(2, 10)}`;
+}
+
+// 특정 채팅방에 메시지 전송 (같은 clientMessageId 로 재시도하면 한 번만 저장됨)
+export async function sendChatMessage(roomId, content, clientMessageId) {
   const res = await fetch(`${API_BASE}/api/chat/rooms/${roomId}/messages`, {
     method: "POST",
     headers: { "Content-Type": "application/json" },
     credentials: "include",
-    body: JSON.stringify({ roomId, content }),
+    body: JSON.stringify({ roomId, content, clientMessageId }),
   });
   
   return handleResponse(res, "메시지를 전송하지 못했습니다.");
@@ -51,6 +51,39 @@ export async function getDiary(diaryId) {
   return handleResponse(res, "일기를 불러오지 못했습니다.");
 }
 
+// 일기 달력 조회 (month: "yyyy-MM", 일기가 있는 날의 일기 수 + 썸네일)
+export async function getDiaryCalendar(month) {
+  const query = month ? `?month=${encodeURIComponent(month)}` : "";
+  const res = await fetch(`${API_BASE}/api/diary/calendar${query}`, {
+    method: "GET",
+    credentials: "include",
+  });
+  return handleResponse(res, "일기 달력을 불러오지 못했습니다.");
+}
+
+// 일기 내보내기 (ZIP, from/to: "yyyy-MM-dd", 선택사항) → 파일 다운로드
+export async function exportDiaries(from, to) {
+  const params = new URLSearchParams();
+  if (from) params.set("from", from);
+  if (to) params.set("to", to);
+  const query = params.toString() ? `?${params}` : "";
+  const res = await fetch(`${API_BASE}/api/diary/export${query}`, {
+    method: "GET",
+    credentials: "include",
+  });
+  if (!res.ok) {
+    throw new Error(res.status === 400 ? "내보낼 기간을 확인해 주세요." : "일기를 내보내지 못했습니다.");
+  }
+  const blob = await res.blob();
+  const disposition = res.headers.get("Content-Disposition") || "";
+  const match = disposition.match(/filename="?([^";]+)"?/);
+  const link = document.createElement("a");
+  link.href = URL.createObjectURL(blob);
+  link.download = match ? match[1] : "diary.zip";
+  link.click();
+  URL.revokeObjectURL(link.href);
+}
+
 // 일기 검색
 export async function searchDiaries(keyword) {
   const res = await fetch(`${API_BASE}/api/diary/search?keyword=${encodeURIComponent(keyword)}`, {
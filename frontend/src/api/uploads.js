@@ -0,0 +1,54 @@
+// API 기본 경로
+const API_BASE = import.meta.env.VITE_API_BASE_URL || "http://localhost:8080";
+
+async function postJson(path, body, fallbackMessage) {
+  const res = await fetch(`${API_BASE}${path}`, {
+    method: "POST",
+    headers: { "Content-Type": "application/json" },
+    credentials: "include",
+    body: JSON.stringify(body),
+  });
+  if (res.status === 401) {
+    throw new Error("로그인이 필요합니다.");
+  }
+  if (!res.ok) {
+    const text = await res.text().catch(() => "");
+    throw new Error(text || fallbackMessage);
+  }
+  return res.json();
+}
+
+/* ------------------------------------------------------------
+   이미지 직접 업로드 (서버를 거치지 않고 Object Storage 로 PUT)
+   1) 업로드 URL 발급 → 2) PUT → 3) 확인
+   - category: "diary" | "community"
+   - 반환한 url 을 일기/게시글 작성 요청의 photoUrl 로 사용
+------------------------------------------------------------- */
+export async function uploadImageDirect(file, category) {
+  const presigned = await postJson(
+    "/api/uploads/presign",
+    {
+      category,
+      filename: file.name,
+      contentType: file.type,
+      contentLength: file.size,
+    },
+    "이미지 업로드를 준비하지 못했습니다."
+  );
+
+  const put = await fetch(presigned.uploadUrl, {
+    method: presigned.method,
+    headers: presigned.headers,
+    body: file,
+  });
+  if (!put.ok) {
+    throw new Error("이미지 업로드에 실패했습니다.");
+  }
+
+  const confirmed = await postJson(
+    "/api/uploads/confirm",
+    { key: presigned.key },
+    "업로드한 이미지를 확인하지 못했습니다."
+  );
+  return confirmed.url;
+}
@@ -5,6 +5,7 @@ import {
   fetchChatMessages,
   fetchChatRooms,
   sendChatMessage,
+  createClientMessageId,
 } from "../api/chat";
 import { fetchMyProfile } from "../api/profile";
 import { Client } from "@stomp/stompjs";
@@ -524,6 +525,7 @@ function ChatModal({ onClose, initialContact }) {
     if (!messageInput.trim() || !selectedChatId) return;
 
     const trimmed = messageInput.trim();
+    const clientMessageId = createClientMessageId();
     setMessageError("");
     setIsSendingMessage(true);
 
@@ -532,12 +534,12 @@ function ChatModal({ onClose, initialContact }) {
       if (isWsConnected && stompClient?.connected) {
         stompClient.publish({
           destination: "/app/chat.send",
-          body: JSON.stringify({ roomId: selectedChatId, content: trimmed }),
+          body: JSON.stringify({ roomId: selectedChatId, content: trimmed, clientMessageId }),
         });
         setMessageInput("");
       } else {
         // 2) WS 실패 또는 미연결 → REST 전송
-        const newMessage = await sendChatMessage(selectedChatId, trimmed);
+        const newMessage = await sendChatMessage(selectedChatId, trimmed, clientMessageId);
 
         // 메시지 목록에 append
         setMessagesByChat((prev) => ({
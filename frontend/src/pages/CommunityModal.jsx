@@ -689,6 +689,7 @@ function CommunityModal({ onClose }) {
           .map((post) => ({
             ...post,
             image: post.photoUrl || post.image || null,
+            thumbnail: post.thumbnailUrl || null,
           }))
           .sort((a, b) => {
             const dateA = new Date(a.createdAt).getTime();
@@ -1219,7 +1220,15 @@ function CommunityModal({ onClose }) {
                       <div className="post-content-row">
                         {post.image && (
                           <div className="community-post-thumb">
-                            <img src={post.image} alt={post.title} />
+                            <img
+                              src={post.thumbnail || post.image}
+                              alt={post.title}
+                              onError={(e) => {
+                                if (post.image && e.currentTarget.src !== post.image) {
+                                  e.currentTarget.src = post.image;
+                                }
+                              }}
+                            />
                           </div>
                         )}
                         <div className="post-title-line">
@@ -1247,7 +1256,15 @@ function CommunityModal({ onClose }) {
                       <div className="post-content-row">
                         {post.image && (
                           <div className="community-post-thumb">
-                            <img src={post.image} alt={post.title} />
+                            <img
+                              src={post.thumbnail || post.image}
+                              alt={post.title}
+                              onError={(e) => {
+                                if (post.image && e.currentTarget.src !== post.image) {
+                                  e.currentTarget.src = post.image;
+                                }
+                              }}
+                            />
                           </div>
                         )}
                         <div className="post-title-line">
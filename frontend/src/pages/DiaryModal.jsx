@@ -73,6 +73,7 @@ function DiaryModal({ onClose, initialData = null }) {
       title: diary.title || "새 일기",
       summary: diary.content || "",
       previewImg: imageUrl, // Base64 Data URL 그대로 사용
+      thumbnailImg: diary.thumbnailUrl || null, // Object Storage 이미지면 목록용 썸네일
       timestamp: dateObj.getTime(),
     };
   };
@@ -322,7 +323,15 @@ function DiaryModal({ onClose, initialData = null }) {
                   </div>
                   {entry.previewImg && (
                     <div className="diary-list-thumb">
-                      <img src={entry.previewImg} alt={entry.title} />
+                      <img
+                        src={entry.thumbnailImg || entry.previewImg}
+                        alt={entry.title}
+                        onError={(e) => {
+                          if (e.currentTarget.src !== entry.previewImg) {
+                            e.currentTarget.src = entry.previewImg;
+                          }
+                        }}
+                      />
                     </div>
                   )}
                   {isEditing && (